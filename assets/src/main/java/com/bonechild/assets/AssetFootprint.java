@@ -0,0 +1,81 @@
+package com.bonechild.assets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Texture memory the compiled manifest will need once uploaded, per module, worked out
+ * from the PNG headers at build time without loading anything.
+ *
+ * Every image is counted once, in the first manifest that uses it. Eager manifests are
+ * resident for the whole session; a lazy manifest is only resident while its monsters are
+ * around, and is named after the mob type that uses it (goblin-assets.json for "goblin").
+ * Font pages and GL buffers are not in the manifest and not counted here; they do not
+ * change from one stage to the next. See GpuMemory for the same numbers at runtime.
+ */
+public final class AssetFootprint {
+    private final Map<String, Long> eagerModules = new LinkedHashMap<>();
+    private final Map<String, Long> lazyModules = new LinkedHashMap<>();
+    private long eagerBytes;
+
+    private AssetFootprint() {
+    }
+
+    /**
+     * Read json/assets.bin from the classpath
+     */
+    public static AssetFootprint fromClasspath() throws IOException {
+        try (InputStream in = AssetFootprint.class.getResourceAsStream("/" + AssetManifest.PATH)) {
+            if (in == null) {
+                throw new IOException(AssetManifest.PATH + " is not on the classpath; build the assets module first");
+            }
+            return of(AssetManifest.read(in.readAllBytes()));
+        }
+    }
+
+    static AssetFootprint of(AssetManifest manifest) {
+        AssetFootprint footprint = new AssetFootprint();
+        for (AssetManifest.Section section : manifest.sections) {
+            long bytes = 0L;
+            for (int i = section.textureStart; i < section.textureEnd; i++) {
+                bytes += manifest.textureBytes[i];
+            }
+            Map<String, Long> modules = section.lazy ? footprint.lazyModules : footprint.eagerModules;
+            modules.merge(section.module, bytes, Long::sum);
+            if (!section.lazy) footprint.eagerBytes += bytes;
+        }
+        return footprint;
+    }
+
+    /**
+     * Bytes loaded at startup and kept for the whole session
+     */
+    public long getEagerBytes() {
+        return eagerBytes;
+    }
+
+    public Map<String, Long> getEagerModules() {
+        return Collections.unmodifiableMap(eagerModules);
+    }
+
+    public Map<String, Long> getLazyModules() {
+        return Collections.unmodifiableMap(lazyModules);
+    }
+
+    /**
+     * Bytes resident while a stage with these mob types is played: the eager textures
+     * plus the lazy modules named after the mob types. Types without a module of their
+     * own add nothing.
+     */
+    public long getStageBytes(Collection<String> mobTypes) {
+        long bytes = eagerBytes;
+        for (String mobType : mobTypes) {
+            bytes += lazyModules.getOrDefault(mobType, 0L);
+        }
+        return bytes;
+    }
+}
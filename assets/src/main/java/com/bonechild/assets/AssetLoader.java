@@ -3,29 +3,236 @@ package com.bonechild.assets;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.bonechild.rendering.Animation;
 
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Loads assets from JSON configuration into AssetRegistry.
+ * Loads assets from the compiled manifest (json/assets.bin, see ManifestCompiler) or from
+ * JSON configuration into AssetRegistry.
  * Supports:
  * - Single textures
  * - Frame sequence animations (Player1.png, Player2.png, etc.)
  * - Sprite sheet animations (single row or multi-row)
+ * - Pre-baked bitmap fonts (.fnt + atlas page, see FontBaker in the engine module)
+ *
+ * Loading is staged: queueing a manifest only reads it and queues one step per
+ * texture, animation frame, animation or font. update(budgetMillis) then runs steps until
+ * the time budget is spent, so a loading screen can keep drawing between steps. Steps run
+ * in queue order, which is the priority order: queue what the first screen needs first.
+ * The load* methods queue and then finish synchronously.
+ *
+ * PNG decoding is the slow part and needs no GL context, so it is split off: queueing a
+ * texture, frame or font gets a decode (file read, PNG to Pixmap, .fnt parse) that runs on
+ * a pool with one worker per core, and the step itself only uploads the finished Pixmap.
+ * Decodes are submitted for the next few steps only (DECODES_PER_WORKER per worker), so
+ * decoded images never pile up in memory faster than they are uploaded. A step whose
+ * decode is not done yet holds the queue until it is, so steps still complete in order.
+ * Uploads and registration touch GL and must happen on the render thread, so update() and
+ * finishLoading() must be called there.
  */
 public class AssetLoader {
+    /** Manifests the menu needs; queueFromModules puts them first */
+    public static final String FONTS_MANIFEST = "json/fonts-assets.json";
+    public static final String UI_MANIFEST = "json/ui-assets.json";
+
+    /** Decodes submitted ahead of the upload step, per worker thread */
+    private static final int DECODES_PER_WORKER = 4;
+
     private final AssetRegistry registry;
     private final JsonReader jsonReader;
+    private final Queue<Step> pending = new Queue<>();
+    private final ObjectIntMap<String> pendingPerManifest = new ObjectIntMap<>();
+    // Font atlas pages by path; the first font that needs a page decodes it
+    private final ConcurrentHashMap<String, CompletableFuture<TextureData>> fontPages = new ConcurrentHashMap<>();
+    private ExecutorService decoder; // Created on the first decode, shut down when the queue drains
+    private final int decodeWindow = decodeThreads() * DECODES_PER_WORKER;
+    private int scheduled; // Steps at the head of the queue whose decodes have been submitted
+    private int queuedSteps;
+    private int completedSteps;
+
+    /**
+     * One unit of loading work, run on the render thread once its decode (if any) is done
+     */
+    private static final class Step {
+        final String manifest;
+        final Callable<?> decodeTask; // Null if the step has nothing to decode
+        final Consumer<Future<?>> work;
+        Future<?> decode;
+
+        Step(String manifest, Callable<?> decodeTask, Consumer<Future<?>> work) {
+            this.manifest = manifest;
+            this.decodeTask = decodeTask;
+            this.work = work;
+        }
+
+        /**
+         * Wait up to timeoutNanos for the decode to finish
+         *
+         * @return true if the step can run now
+         */
+        boolean awaitDecode(long timeoutNanos) {
+            if (decode == null || decode.isDone()) return true;
+            if (timeoutNanos <= 0) return false;
+            try {
+                decode.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                // Reported by the step itself
+            }
+            return true;
+        }
+    }
 
     public AssetLoader(AssetRegistry registry) {
         this.registry = registry;
         this.jsonReader = new JsonReader();
     }
 
+    /**
+     * Run queued steps until budgetMillis have passed. Waits for the next step's decode for
+     * at most the rest of the budget; if it is still not done, returns and tries again on
+     * the next call.
+     *
+     * @return true when nothing is left to load
+     */
+    public boolean update(int budgetMillis) {
+        long deadline = TimeUtils.nanoTime() + budgetMillis * 1_000_000L;
+        while (pending.size > 0) {
+            scheduleDecodes();
+            if (!pending.first().awaitDecode(deadline - TimeUtils.nanoTime())) return false;
+            runStep(removeFirst());
+            if (TimeUtils.nanoTime() >= deadline) break;
+        }
+        return drained();
+    }
+
+    /**
+     * Run every queued step now, waiting for decodes still in flight
+     */
+    public void finishLoading() {
+        while (pending.size > 0) {
+            scheduleDecodes();
+            pending.first().awaitDecode(Long.MAX_VALUE);
+            runStep(removeFirst());
+        }
+        drained();
+    }
+
+    public boolean isFinished() {
+        return pending.size == 0;
+    }
+
+    /**
+     * True once every step queued from this manifest has run (or it had nothing to load)
+     */
+    public boolean isLoaded(String jsonPath) {
+        return pendingPerManifest.get(jsonPath, 0) == 0;
+    }
+
+    /**
+     * Fraction of queued steps that have run, 0 to 1
+     */
+    public float getProgress() {
+        return queuedSteps == 0 ? 1f : completedSteps / (float) queuedSteps;
+    }
+
+    /**
+     * Stop the decode workers and free any decoded images that were never uploaded. Queued
+     * steps are dropped.
+     */
+    public void dispose() {
+        if (decoder != null) {
+            decoder.shutdownNow();
+            decoder = null;
+        }
+        while (pending.size > 0) {
+            Step step = removeFirst();
+            if (step.decode != null) discardDecoded(step.decode);
+            pendingPerManifest.getAndIncrement(step.manifest, 0, -1);
+        }
+        for (CompletableFuture<TextureData> page : fontPages.values()) {
+            discardDecoded(page);
+        }
+        fontPages.clear();
+    }
+
+    /**
+     * Submit decodes for the steps at the head of the queue, up to the lookahead window
+     */
+    private void scheduleDecodes() {
+        while (scheduled < pending.size && scheduled < decodeWindow) {
+            Step step = pending.get(scheduled++);
+            if (step.decodeTask != null) {
+                step.decode = decoder().submit(step.decodeTask);
+            }
+        }
+    }
+
+    private Step removeFirst() {
+        if (scheduled > 0) scheduled--;
+        return pending.removeFirst();
+    }
+
+    private boolean drained() {
+        if (pending.size > 0) return false;
+        if (decoder != null) {
+            decoder.shutdown(); // Nothing is in flight; a later queue*() starts a new pool
+            decoder = null;
+        }
+        fontPages.clear();
+        return true;
+    }
+
+    private void runStep(Step step) {
+        try {
+            step.work.accept(step.decode);
+        } finally {
+            completedSteps++;
+            pendingPerManifest.getAndIncrement(step.manifest, 0, -1);
+        }
+    }
+
+    private void queue(String manifest, Runnable work) {
+        queue(manifest, null, decoded -> work.run());
+    }
+
+    /**
+     * Queue a step whose decodeTask runs on a worker first; work gets its result's Future
+     */
+    private void queue(String manifest, Callable<?> decodeTask, Consumer<Future<?>> work) {
+        pending.addLast(new Step(manifest, decodeTask, work));
+        pendingPerManifest.getAndIncrement(manifest, 0, 1);
+        queuedSteps++;
+    }
+
     /**
      * Load assets from multiple JSON files (modular approach).
      * Each module can provide its own asset definitions.
@@ -34,8 +241,9 @@ public class AssetLoader {
         Gdx.app.log("AssetLoader", "Loading assets from " + jsonPaths.length + " modules");
 
         for (String jsonPath : jsonPaths) {
-            loadFromJson(jsonPath);
+            queueFromJson(jsonPath);
         }
+        finishLoading();
 
         Gdx.app.log("AssetLoader", "All asset loading complete: " + registry.getStats());
     }
@@ -44,7 +252,16 @@ public class AssetLoader {
      * Load assets from a single JSON file
      */
     public void loadFromJson(String jsonPath) {
-        Gdx.app.log("AssetLoader", "Loading assets from: " + jsonPath);
+        queueFromJson(jsonPath);
+        finishLoading();
+    }
+
+    /**
+     * Parse a manifest and queue its assets: textures first, then animations (which may
+     * reference them), then fonts
+     */
+    public void queueFromJson(String jsonPath) {
+        Gdx.app.log("AssetLoader", "Queueing assets from: " + jsonPath);
 
         FileHandle file = Gdx.files.internal(jsonPath);
         if (!file.exists()) {
@@ -53,12 +270,13 @@ public class AssetLoader {
         }
 
         JsonValue root = jsonReader.parse(file);
+        String module = AssetManifest.moduleOf(jsonPath, root.getString("module", null));
 
         // Load textures first (check if not empty)
         if (root.has("textures")) {
             JsonValue texturesNode = root.get("textures");
             if (texturesNode != null && texturesNode.child != null) {
-                loadTextures(texturesNode);
+                queueTextures(jsonPath, module, texturesNode);
             }
         }
 
@@ -66,39 +284,153 @@ public class AssetLoader {
         if (root.has("animations")) {
             JsonValue animationsNode = root.get("animations");
             if (animationsNode != null && animationsNode.child != null) {
-                loadAnimations(animationsNode);
+                queueAnimations(jsonPath, module, animationsNode);
             }
         }
 
-        Gdx.app.log("AssetLoader", "Loaded assets from: " + jsonPath);
+        // Fonts baked at build time (no FreeType at runtime)
+        if (root.has("fonts")) {
+            JsonValue fontsNode = root.get("fonts");
+            if (fontsNode != null && fontsNode.child != null) {
+                queueFonts(jsonPath, module, fontsNode);
+            }
+        }
+
+        Gdx.app.log("AssetLoader", "Queued assets from: " + jsonPath);
     }
 
     /**
-     * Auto-discover and load all asset files from standard locations
+     * Load all module assets (the compiled manifest, or the JSON manifests without it)
      */
     public void loadFromModules() {
-        Gdx.app.log("AssetLoader", "Auto-loading module assets...");
+        queueFromModules();
+        finishLoading();
+        Gdx.app.log("AssetLoader", "Module loading complete: " + registry.getStats());
+    }
+
+    /**
+     * Queue all module assets. Reads the compiled manifest when the build produced one;
+     * otherwise (e.g. resources edited without rebuilding the assets module) parses the
+     * JSON manifests. The menu's fonts and UI textures come first either way, so the menu
+     * can be shown before the gameplay assets are in.
+     */
+    public void queueFromModules() {
+        FileHandle compiled = Gdx.files.internal(AssetManifest.PATH);
+        if (compiled.exists()) {
+            try {
+                queueFromManifest(AssetManifest.read(compiled.readBytes()));
+                return;
+            } catch (IOException e) {
+                Gdx.app.error("AssetLoader", "Cannot read " + AssetManifest.PATH + ": " + e.getMessage()
+                    + " (falling back to JSON)");
+            }
+        }
 
-        // Load core game assets from json/ folder
-        loadFromJson("json/player-assets.json");
-        loadFromJson("json/effects-assets.json");
-        loadFromJson("json/ui-assets.json");
-        loadFromJson("json/stages-assets.json");
-        
-        // Load monster assets
-        loadFromJson("json/goblin-assets.json");
-        loadFromJson("json/boss08b-assets.json");
+        Gdx.app.log("AssetLoader", "Queueing module assets from JSON...");
+        for (String manifest : AssetManifest.MODULE_MANIFESTS) {
+            queueFromJson(manifest);
+        }
 
-        // Load all monster asset files from json/monsters/ directory (if any remain)
-        loadFromDirectory("json/monsters/");
+        // All monster asset files from json/monsters/ directory (if any remain)
+        queueFromDirectory(AssetManifest.MONSTERS_DIRECTORY);
+    }
 
-        Gdx.app.log("AssetLoader", "Module loading complete: " + registry.getStats());
+    /**
+     * Queue everything in a compiled manifest. Each image is decoded and uploaded once;
+     * images used only as animation frames are registered as "frame:" + path so that the
+     * registry disposes them. Lazy manifests ("lazy": true) are only declared in the
+     * registry, which loads them when they are first acquired or looked up.
+     */
+    private void queueFromManifest(AssetManifest manifest) {
+        Texture[] textures = new Texture[manifest.texturePaths.length];
+        for (AssetManifest.Section section : manifest.sections) {
+            if (section.lazy) {
+                declare(manifest, section);
+                continue;
+            }
+            for (int i = section.textureStart; i < section.textureEnd; i++) {
+                int index = i;
+                String path = manifest.texturePaths[index];
+                queue(section.name, () -> decode(path), decoded ->
+                    textures[index] = loadManifestTexture(manifest.textureIds[index], path, section.module, decoded));
+            }
+            for (AssetManifest.AnimationDef animation : section.animations) {
+                queue(section.name, () -> buildAnimation(animation, textures, manifest));
+            }
+            for (int f = 0; f < section.fontIds.length; f++) {
+                queueFont(section.name, section.module, section.fontIds[f], section.fontPaths[f]);
+            }
+        }
+        Gdx.app.log("AssetLoader", "Queued " + manifest.sections.length + " compiled manifests, "
+            + textures.length + " textures");
+    }
+
+    private void declare(AssetManifest manifest, AssetManifest.Section section) {
+        for (int i = section.textureStart; i < section.textureEnd; i++) {
+            registry.declareTexture(textureId(manifest, i), manifest.texturePaths[i], section.module);
+        }
+        for (AssetManifest.AnimationDef animation : section.animations) {
+            String[] frameTextures = new String[animation.textures.length];
+            for (int f = 0; f < frameTextures.length; f++) {
+                frameTextures[f] = textureId(manifest, animation.textures[f]);
+            }
+            registry.declareAnimation(animation.id, frameTextures, animation.rects, animation.frameTime, animation.loop);
+        }
+        for (int f = 0; f < section.fontIds.length; f++) {
+            queueFont(section.name, section.module, section.fontIds[f], section.fontPaths[f]); // Fonts are always loaded up front
+        }
+        Gdx.app.log("AssetLoader", "Declared lazy assets from: " + section.name);
     }
 
     /**
-     * Load all JSON files from a directory
+     * Registry id of a manifest texture: its own id, or "frame:" + path for frame images
      */
-    private void loadFromDirectory(String directory) {
+    private static String textureId(AssetManifest manifest, int index) {
+        String id = manifest.textureIds[index];
+        return id != null ? id : "frame:" + manifest.texturePaths[index];
+    }
+
+    private Texture loadManifestTexture(String id, String path, String module, Future<?> decoded) {
+        try {
+            Texture texture = upload(decoded);
+            if (id != null) {
+                registry.registerTexture(id, texture, module);
+                Gdx.app.log("AssetLoader", "Loaded texture: " + id + " from " + path);
+            } else {
+                registry.registerTexture("frame:" + path, texture, module);
+            }
+            return texture;
+        } catch (Exception e) {
+            Gdx.app.error("AssetLoader", "Failed to load texture " + path + ": " + failure(e));
+            return null;
+        }
+    }
+
+    private void buildAnimation(AssetManifest.AnimationDef animation, Texture[] textures, AssetManifest manifest) {
+        TextureRegion[] frames = new TextureRegion[animation.textures.length];
+        for (int f = 0; f < frames.length; f++) {
+            int index = animation.textures[f];
+            Texture texture = textures[index];
+            if (texture == null && registry.hasTexture(textureId(manifest, index))) {
+                // First used by a lazy manifest: keep it resident for as long as this animation lives
+                texture = textures[index] = registry.acquireTexture(textureId(manifest, index));
+            }
+            if (texture == null) {
+                Gdx.app.error("AssetLoader", "Failed to load animation " + animation.id + ": missing "
+                    + manifest.texturePaths[index]);
+                return;
+            }
+            short[] rects = animation.rects;
+            frames[f] = new TextureRegion(texture, rects[f * 4], rects[f * 4 + 1], rects[f * 4 + 2], rects[f * 4 + 3]);
+        }
+        registry.registerAnimation(animation.id, new Animation(frames, animation.frameTime, animation.loop));
+        Gdx.app.log("AssetLoader", "Loaded animation: " + animation.id);
+    }
+
+    /**
+     * Queue all JSON files from a directory
+     */
+    private void queueFromDirectory(String directory) {
         Gdx.app.log("AssetLoader", "Scanning directory: " + directory);
 
         FileHandle dirHandle = Gdx.files.internal(directory);
@@ -110,72 +442,221 @@ public class AssetLoader {
         int count = 0;
         for (FileHandle file : dirHandle.list()) {
             if (file.extension().equals("json")) {
-                loadFromJson(directory + file.name());
+                queueFromJson(directory + file.name());
                 count++;
             }
         }
 
-        Gdx.app.log("AssetLoader", "Loaded " + count + " asset files from " + directory);
+        Gdx.app.log("AssetLoader", "Queued " + count + " asset files from " + directory);
     }
 
-    private void loadTextures(JsonValue texturesNode) {
+    private void queueTextures(String manifest, String module, JsonValue texturesNode) {
         for (JsonValue entry = texturesNode.child; entry != null; entry = entry.next) {
             String id = entry.name;
             String path = entry.asString();
+            queue(manifest, () -> decode(path), decoded -> loadTexture(id, path, module, decoded));
+        }
+    }
 
-            try {
-                Texture texture = new Texture(Gdx.files.internal(path));
-                registry.registerTexture(id, texture);
-                Gdx.app.log("AssetLoader", "Loaded texture: " + id + " from " + path);
-            } catch (Exception e) {
-                Gdx.app.error("AssetLoader", "Failed to load texture " + id + ": " + e.getMessage());
-            }
+    private void loadTexture(String id, String path, String module, Future<?> decoded) {
+        try {
+            Texture texture = upload(decoded);
+            registry.registerTexture(id, texture, module);
+            Gdx.app.log("AssetLoader", "Loaded texture: " + id + " from " + path);
+        } catch (Exception e) {
+            Gdx.app.error("AssetLoader", "Failed to load texture " + id + ": " + failure(e));
         }
     }
 
-    private void loadAnimations(JsonValue animationsNode) {
-        for (JsonValue entry = animationsNode.child; entry != null; entry = entry.next) {
-            String id = entry.name;
-            String type = entry.getString("type");
+    private void queueFonts(String manifest, String module, JsonValue fontsNode) {
+        for (JsonValue entry = fontsNode.child; entry != null; entry = entry.next) {
+            queueFont(manifest, module, entry.name, entry.asString());
+        }
+    }
 
+    private void queueFont(String manifest, String module, String id, String path) {
+        queue(manifest, () -> parseFont(path), parsed -> loadFont(id, path, module, parsed));
+    }
+
+    /**
+     * Worker side of a font: parse the .fnt and decode the atlas pages no other font has
+     * claimed yet. Never waits on another task, so a full pool cannot deadlock.
+     */
+    private BitmapFont.BitmapFontData parseFont(String path) {
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(Gdx.files.internal(path), false);
+        for (String pagePath : data.imagePaths) {
+            CompletableFuture<TextureData> page = new CompletableFuture<>();
+            if (fontPages.putIfAbsent(pagePath, page) != null) continue;
             try {
-                Animation animation = null;
-
-                switch (type) {
-                    case "frame_sequence":
-                        animation = loadFrameSequence(entry);
-                        break;
-                    case "sprite_sheet":
-                        animation = loadSpriteSheet(entry);
-                        break;
-                    case "sprite_sheet_multi_row":
-                        animation = loadSpriteSheetMultiRow(entry);
-                        break;
-                    default:
-                        Gdx.app.error("AssetLoader", "Unknown animation type: " + type);
-                }
+                page.complete(decode(pagePath));
+            } catch (Throwable t) {
+                page.completeExceptionally(t);
+            }
+        }
+        return data;
+    }
 
-                if (animation != null) {
-                    registry.registerAnimation(id, animation);
-                    Gdx.app.log("AssetLoader", "Loaded animation: " + id);
+    private void loadFont(String id, String path, String module, Future<?> parsed) {
+        try {
+            BitmapFont.BitmapFontData data = (BitmapFont.BitmapFontData) parsed.get();
+
+            // Every size of a face shares one atlas page; load each page once as a texture.
+            // A page decoded by an earlier font's task was uploaded by that font's step.
+            Array<TextureRegion> regions = new Array<>(data.imagePaths.length);
+            for (String pagePath : data.imagePaths) {
+                String pageId = AssetRegistry.FONT_PAGE_PREFIX + pagePath;
+                if (!registry.hasTexture(pageId)) {
+                    Texture page = upload(fontPages.get(pagePath));
+                    page.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                    registry.registerTexture(pageId, page, module);
                 }
-            } catch (Exception e) {
-                Gdx.app.error("AssetLoader", "Failed to load animation " + id + ": " + e.getMessage());
-                e.printStackTrace();
+                regions.add(new TextureRegion(registry.getTexture(pageId)));
             }
+
+            registry.registerFont(id, new BitmapFont(data, regions, true));
+            Gdx.app.log("AssetLoader", "Loaded font: " + id + " from " + path);
+        } catch (Exception e) {
+            Gdx.app.error("AssetLoader", "Failed to load font " + id + ": " + failure(e));
+        }
+    }
+
+    private void queueAnimations(String manifest, String module, JsonValue animationsNode) {
+        for (JsonValue entry = animationsNode.child; entry != null; entry = entry.next) {
+            JsonValue node = entry;
+            String id = node.name;
+            String type = node.getString("type");
+
+            switch (type) {
+                case "frame_sequence":
+                    queueFrameSequence(manifest, module, id, node);
+                    break;
+                case "sprite_sheet":
+                    queue(manifest, () -> loadAnimation(id, node, this::loadSpriteSheet));
+                    break;
+                case "sprite_sheet_multi_row":
+                    queue(manifest, () -> loadAnimation(id, node, this::loadSpriteSheetMultiRow));
+                    break;
+                default:
+                    Gdx.app.error("AssetLoader", "Unknown animation type: " + type);
+            }
+        }
+    }
+
+    private void loadAnimation(String id, JsonValue node, Function<JsonValue, Animation> builder) {
+        try {
+            registry.registerAnimation(id, builder.apply(node));
+            Gdx.app.log("AssetLoader", "Loaded animation: " + id);
+        } catch (Exception e) {
+            Gdx.app.error("AssetLoader", "Failed to load animation " + id + ": " + e.getMessage());
+            e.printStackTrace();
         }
     }
 
     /**
-     * Load animation from frame sequence pattern like "Player{1-6}.png"
+     * Queue an animation from a frame sequence pattern like "Player{1-6}.png": one step per
+     * frame texture, then one that builds the animation
      */
-    private Animation loadFrameSequence(JsonValue node) {
-        String pattern = node.getString("pattern");
+    private void queueFrameSequence(String manifest, String module, String id, JsonValue node) {
+        String[] paths;
+        try {
+            paths = expandPattern(node.getString("pattern"));
+        } catch (Exception e) {
+            Gdx.app.error("AssetLoader", "Failed to load animation " + id + ": " + e.getMessage());
+            return;
+        }
         float frameTime = node.getFloat("frameTime");
         boolean loop = node.getBoolean("loop");
 
-        Texture[] frames = expandPattern(pattern);
-        return new Animation(frames, frameTime, loop);
+        Texture[] frames = new Texture[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            int frame = i;
+            queue(manifest, () -> decode(paths[frame]), decoded -> {
+                try {
+                    frames[frame] = upload(decoded);
+                    GpuMemory.trackTexture(frames[frame], GpuMemory.Kind.TEXTURE, module, paths[frame]);
+                } catch (Exception e) {
+                    Gdx.app.error("AssetLoader", "Failed to load frame " + paths[frame] + " of " + id + ": " + failure(e));
+                }
+            });
+        }
+        queue(manifest, () -> {
+            for (Texture frame : frames) {
+                if (frame == null) {
+                    // Skip the whole animation, as a failed frame used to, and free the frames that did load
+                    for (Texture loaded : frames) {
+                        if (loaded != null) {
+                            GpuMemory.untrack(loaded);
+                            loaded.dispose();
+                        }
+                    }
+                    Gdx.app.error("AssetLoader", "Failed to load animation " + id + ": missing frames");
+                    return;
+                }
+            }
+            registry.registerAnimation(id, new Animation(frames, frameTime, loop));
+            Gdx.app.log("AssetLoader", "Loaded animation: " + id);
+        });
+    }
+
+    /**
+     * Read and decode an image into a prepared TextureData (a Pixmap plus the file it came
+     * from, so the texture stays managed). No GL calls: safe on any thread.
+     */
+    private static TextureData decode(String path) {
+        TextureData data = TextureData.Factory.loadFromFile(Gdx.files.internal(path), false);
+        data.prepare();
+        return data;
+    }
+
+    /**
+     * GL side of a decode: create the texture from the decoded image, which frees the Pixmap
+     */
+    private static Texture upload(Future<?> decoded) throws InterruptedException, ExecutionException {
+        return new Texture((TextureData) decoded.get());
+    }
+
+    /**
+     * Free the Pixmap of a decode that will never be uploaded
+     */
+    private static void discardDecoded(Future<?> decode) {
+        if (!decode.isDone() || decode.isCancelled()) {
+            decode.cancel(true);
+            return;
+        }
+        try {
+            Object result = decode.get();
+            if (result instanceof TextureData) {
+                TextureData data = (TextureData) result;
+                if (data.isPrepared() && data.disposePixmap()) data.consumePixmap().dispose();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            // Nothing was decoded
+        }
+    }
+
+    private static int decodeThreads() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    private ExecutorService decoder() {
+        if (decoder == null) {
+            int threads = decodeThreads();
+            AtomicInteger count = new AtomicInteger();
+            decoder = Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "bonechild-decode-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return decoder;
+    }
+
+    /**
+     * The underlying error of a failed decode rather than the ExecutionException around it
+     */
+    private static String failure(Exception e) {
+        Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage();
     }
 
     /**
@@ -212,9 +693,9 @@ public class AssetLoader {
     }
 
     /**
-     * Expand pattern like "Player{1-6}.png" or "explode{0000-0081}.png" into texture array
+     * Expand pattern like "Player{1-6}.png" or "explode{0000-0081}.png" into frame paths
      */
-    private Texture[] expandPattern(String pattern) {
+    private String[] expandPattern(String pattern) {
         // Match patterns like {1-6} or {0000-0081}
         Pattern p = Pattern.compile("\\{(\\d+)-(\\d+)\\}");
         Matcher m = p.matcher(pattern);
@@ -230,17 +711,14 @@ public class AssetLoader {
         int padding = startStr.length(); // Detect zero-padding from start string
 
         int count = end - start + 1;
-        Texture[] textures = new Texture[count];
+        String[] paths = new String[count];
 
         for (int i = 0; i < count; i++) {
             int frameNum = start + i;
             String frameNumStr = padding > 1 ? String.format("%0" + padding + "d", frameNum) : String.valueOf(frameNum);
-            String path = m.replaceFirst(frameNumStr);
-
-            textures[i] = new Texture(Gdx.files.internal(path));
+            paths[i] = m.replaceFirst(frameNumStr);
         }
 
-        return textures;
+        return paths;
     }
 }
-
@@ -0,0 +1,252 @@
+package com.bonechild.assets;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every module manifest resolved into one binary file, written at build time by
+ * ManifestCompiler and read by AssetLoader in a single read.
+ *
+ * Frame patterns are expanded and sprite sheets sliced at build time, so at runtime an
+ * animation is just a list of (texture, x, y, width, height) frames. Each image appears
+ * once in the texture table, even if several animations use it.
+ *
+ * Layout (big-endian, DataOutputStream):
+ *   int magic, short version
+ *   int stringCount, UTF string...
+ *   int textureCount, (int path, int id or -1 for frames, int estimated bytes once uploaded)...
+ *   int sectionCount, per section (one source manifest, in load order):
+ *     int name, int module, boolean lazy,
+ *     int textureEnd (textures [previous end, textureEnd) are first used here)
+ *     int animationCount, per animation:
+ *       int id, float frameTime, boolean loop, short frameCount, (int texture, short x, y, w, h)...
+ *     int fontCount, (int id, int path)...
+ */
+final class AssetManifest {
+    /** Where the compiled manifest sits among the resources */
+    static final String PATH = "json/assets.bin";
+
+    /** Module manifests in load order; ManifestCompiler also takes json/monsters/*.json after these */
+    static final String[] MODULE_MANIFESTS = {
+        AssetLoader.FONTS_MANIFEST,
+        AssetLoader.UI_MANIFEST,
+        "json/hud-assets.json",
+        "json/player-assets.json",
+        "json/effects-assets.json",
+        "json/stages-assets.json",
+        "json/goblin-assets.json",
+        "json/boss08b-assets.json"
+    };
+    static final String MONSTERS_DIRECTORY = "json/monsters/";
+
+    /**
+     * Module a manifest's assets are accounted to: its "module" entry, or the file name
+     * without "-assets.json" (json/goblin-assets.json is "goblin")
+     */
+    static String moduleOf(String manifestPath, String declared) {
+        if (declared != null) return declared;
+        String name = manifestPath.substring(manifestPath.lastIndexOf('/') + 1);
+        return name.endsWith("-assets.json") ? name.substring(0, name.length() - "-assets.json".length()) : name;
+    }
+
+    private static final int MAGIC = 0x4243414D; // "BCAM"
+    private static final short VERSION = 3;
+
+    final String[] texturePaths;
+    final String[] textureIds; // Null entries are animation frames with no id of their own
+    final int[] textureBytes; // Width x height x channels of the PNG, see GpuMemory
+    final Section[] sections;
+
+    static final class Section {
+        final String name;
+        final String module; // Owner for GPU memory accounting: "module" in the JSON, else the file name
+        final boolean lazy; // Declared in the registry and loaded on first use, not at startup
+        final int textureStart;
+        final int textureEnd;
+        final AnimationDef[] animations;
+        final String[] fontIds;
+        final String[] fontPaths;
+
+        Section(String name, String module, boolean lazy, int textureStart, int textureEnd,
+                AnimationDef[] animations, String[] fontIds, String[] fontPaths) {
+            this.name = name;
+            this.module = module;
+            this.lazy = lazy;
+            this.textureStart = textureStart;
+            this.textureEnd = textureEnd;
+            this.animations = animations;
+            this.fontIds = fontIds;
+            this.fontPaths = fontPaths;
+        }
+    }
+
+    static final class AnimationDef {
+        final String id;
+        final float frameTime;
+        final boolean loop;
+        final int[] textures;
+        final short[] rects; // x, y, width, height per frame
+
+        AnimationDef(String id, float frameTime, boolean loop, int[] textures, short[] rects) {
+            this.id = id;
+            this.frameTime = frameTime;
+            this.loop = loop;
+            this.textures = textures;
+            this.rects = rects;
+        }
+    }
+
+    AssetManifest(String[] texturePaths, String[] textureIds, int[] textureBytes, Section[] sections) {
+        this.texturePaths = texturePaths;
+        this.textureIds = textureIds;
+        this.textureBytes = textureBytes;
+        this.sections = sections;
+    }
+
+    static AssetManifest read(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a compiled asset manifest");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Asset manifest version " + version + ", expected " + VERSION);
+        }
+
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+
+        int textureCount = in.readInt();
+        String[] texturePaths = new String[textureCount];
+        String[] textureIds = new String[textureCount];
+        int[] textureBytes = new int[textureCount];
+        for (int i = 0; i < textureCount; i++) {
+            texturePaths[i] = strings[in.readInt()];
+            int id = in.readInt();
+            textureIds[i] = id < 0 ? null : strings[id];
+            textureBytes[i] = in.readInt();
+        }
+
+        Section[] sections = new Section[in.readInt()];
+        int textureStart = 0;
+        for (int s = 0; s < sections.length; s++) {
+            String name = strings[in.readInt()];
+            String module = strings[in.readInt()];
+            boolean lazy = in.readBoolean();
+            int textureEnd = in.readInt();
+
+            AnimationDef[] animations = new AnimationDef[in.readInt()];
+            for (int a = 0; a < animations.length; a++) {
+                String id = strings[in.readInt()];
+                float frameTime = in.readFloat();
+                boolean loop = in.readBoolean();
+                int frameCount = in.readShort();
+                int[] textures = new int[frameCount];
+                short[] rects = new short[frameCount * 4];
+                for (int f = 0; f < frameCount; f++) {
+                    textures[f] = in.readInt();
+                    for (int r = 0; r < 4; r++) {
+                        rects[f * 4 + r] = in.readShort();
+                    }
+                }
+                animations[a] = new AnimationDef(id, frameTime, loop, textures, rects);
+            }
+
+            int fontCount = in.readInt();
+            String[] fontIds = new String[fontCount];
+            String[] fontPaths = new String[fontCount];
+            for (int f = 0; f < fontCount; f++) {
+                fontIds[f] = strings[in.readInt()];
+                fontPaths[f] = strings[in.readInt()];
+            }
+
+            sections[s] = new Section(name, module, lazy, textureStart, textureEnd, animations, fontIds, fontPaths);
+            textureStart = textureEnd;
+        }
+        return new AssetManifest(texturePaths, textureIds, textureBytes, sections);
+    }
+
+    /**
+     * Write this manifest; strings are interned into the table as they are first seen
+     */
+    void write(DataOutputStream out) throws IOException {
+        StringTable table = new StringTable();
+        for (int i = 0; i < texturePaths.length; i++) {
+            table.add(texturePaths[i]);
+            if (textureIds[i] != null) table.add(textureIds[i]);
+        }
+        for (Section section : sections) {
+            table.add(section.name);
+            table.add(section.module);
+            for (AnimationDef animation : section.animations) table.add(animation.id);
+            for (int f = 0; f < section.fontIds.length; f++) {
+                table.add(section.fontIds[f]);
+                table.add(section.fontPaths[f]);
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(table.strings.size());
+        for (String string : table.strings) {
+            out.writeUTF(string);
+        }
+
+        out.writeInt(texturePaths.length);
+        for (int i = 0; i < texturePaths.length; i++) {
+            out.writeInt(table.indexOf(texturePaths[i]));
+            out.writeInt(textureIds[i] == null ? -1 : table.indexOf(textureIds[i]));
+            out.writeInt(textureBytes[i]);
+        }
+
+        out.writeInt(sections.length);
+        for (Section section : sections) {
+            out.writeInt(table.indexOf(section.name));
+            out.writeInt(table.indexOf(section.module));
+            out.writeBoolean(section.lazy);
+            out.writeInt(section.textureEnd);
+            out.writeInt(section.animations.length);
+            for (AnimationDef animation : section.animations) {
+                out.writeInt(table.indexOf(animation.id));
+                out.writeFloat(animation.frameTime);
+                out.writeBoolean(animation.loop);
+                out.writeShort(animation.textures.length);
+                for (int f = 0; f < animation.textures.length; f++) {
+                    out.writeInt(animation.textures[f]);
+                    for (int r = 0; r < 4; r++) {
+                        out.writeShort(animation.rects[f * 4 + r]);
+                    }
+                }
+            }
+            out.writeInt(section.fontIds.length);
+            for (int f = 0; f < section.fontIds.length; f++) {
+                out.writeInt(table.indexOf(section.fontIds[f]));
+                out.writeInt(table.indexOf(section.fontPaths[f]));
+            }
+        }
+    }
+
+    private static final class StringTable {
+        final List<String> strings = new ArrayList<>();
+        final Map<String, Integer> indices = new HashMap<>();
+
+        void add(String string) {
+            if (!indices.containsKey(string)) {
+                indices.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        int indexOf(String string) {
+            return indices.get(string);
+        }
+    }
+}
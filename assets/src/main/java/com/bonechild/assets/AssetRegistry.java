@@ -1,41 +1,147 @@
 package com.bonechild.assets;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.bonechild.rendering.Animation;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple registry for game assets accessed by string ID.
  * Replaces the hard-coded Assets class with a data-driven approach.
+ *
+ * Assets are either registered (loaded by AssetLoader, kept until dispose) or declared:
+ * only the image path and frame rectangles are known, and the texture is loaded the first
+ * time something asks for it. Lookups never return null. A declared asset that is not in
+ * memory yet is loaded synchronously on the spot, which costs that frame a file read and
+ * upload, so hot assets should be acquired ahead of time.
+ *
+ * Holders of declared assets count references with acquire/release. Once a declared
+ * texture has no references it stays in memory until resident textures exceed the budget
+ * (setTextureBudget); then the least recently used unreferenced ones are disposed, and
+ * reloaded if asked for again. Animations built from a disposed texture are rebuilt on
+ * their next lookup, so anything that keeps an Animation of a declared asset must hold a
+ * reference for as long as it keeps it.
+ *
+ * Every texture is recorded in GpuMemory under the module that registered or declared
+ * it, from upload until it is evicted or disposed.
+ *
+ * Lookups are render-thread only. A lookup may load a texture, and eviction disposes
+ * textures that earlier lookups handed out; both touch GL. Create the registry on the
+ * render thread; loading on any other thread throws. Code on other threads (decode
+ * workers, parallel mob updates) must not look assets up: it uses what the render thread
+ * gave it, acquired so that nothing it holds is evicted while in use.
  */
 public class AssetRegistry {
-    private final Map<String, Texture> textures = new HashMap<>();
-    private final Map<String, Animation> animations = new HashMap<>();
+    /** Default budget for resident textures, in bytes */
+    public static final long DEFAULT_TEXTURE_BUDGET = 256L * 1024 * 1024;
+
+    /** Id prefix of font atlas pages, which AssetLoader registers as textures */
+    public static final String FONT_PAGE_PREFIX = "font_page:";
+
+    private final Map<String, TextureEntry> textures = new ConcurrentHashMap<>();
+    private final Map<String, AnimationEntry> animations = new ConcurrentHashMap<>();
+    private final Map<String, BitmapFont> fonts = new ConcurrentHashMap<>();
+
+    private long textureBudget = DEFAULT_TEXTURE_BUDGET;
+    private long residentBytes;
+    private long clock; // Recency stamp for LRU eviction
+    private final Thread renderThread = Thread.currentThread();
+
+    private static final class TextureEntry {
+        final String path; // Null for registered textures, which are never evicted
+        final String module;
+        volatile Texture texture;
+        long bytes;
+        int refs;
+        long lastUsed;
+
+        TextureEntry(String path, String module, Texture texture) {
+            this.path = path;
+            this.module = module;
+            this.texture = texture;
+        }
+    }
+
+    private static final class AnimationEntry {
+        final String[] textureIds; // Null for registered animations
+        final short[] rects;
+        final float frameTime;
+        final boolean loop;
+        volatile Animation template;
+
+        AnimationEntry(Animation template) {
+            this(null, null, 0f, false);
+            this.template = template;
+        }
+
+        AnimationEntry(String[] textureIds, short[] rects, float frameTime, boolean loop) {
+            this.textureIds = textureIds;
+            this.rects = rects;
+            this.frameTime = frameTime;
+            this.loop = loop;
+        }
+    }
 
     /**
-     * Register a texture with an ID
+     * Register a texture with an ID, owned by module for memory accounting
      */
-    public void registerTexture(String id, Texture texture) {
-        textures.put(id, texture);
+    public void registerTexture(String id, Texture texture, String module) {
+        TextureEntry entry = new TextureEntry(null, module, texture);
+        entry.bytes = GpuMemory.estimateBytes(texture);
+        track(id, module, texture);
+        synchronized (this) {
+            TextureEntry previous = textures.put(id, entry);
+            if (previous != null && previous.texture != null) residentBytes -= previous.bytes;
+            residentBytes += entry.bytes;
+        }
+    }
+
+    /**
+     * Declare a texture that is loaded from path when first needed and may be evicted
+     * while nothing references it
+     */
+    public void declareTexture(String id, String path, String module) {
+        textures.putIfAbsent(id, new TextureEntry(path, module, null));
     }
 
     /**
      * Register an animation with an ID
      */
     public void registerAnimation(String id, Animation animation) {
-        animations.put(id, animation);
+        animations.put(id, new AnimationEntry(animation));
     }
 
     /**
-     * Get a texture by ID
+     * Declare an animation over declared or registered textures: frame i is the rectangle
+     * rects[4i..4i+3] (x, y, width, height) of textureIds[i]. Built on first lookup.
+     */
+    public void declareAnimation(String id, String[] textureIds, short[] rects, float frameTime, boolean loop) {
+        animations.put(id, new AnimationEntry(textureIds, rects, frameTime, loop));
+    }
+
+    /**
+     * Register a pre-baked bitmap font with an ID (e.g. "ui_12")
+     */
+    public void registerFont(String id, BitmapFont font) {
+        fonts.put(id, font);
+    }
+
+    /**
+     * Get a texture by ID, loading it now if it is declared but not in memory
      */
     public Texture getTexture(String id) {
-        Texture texture = textures.get(id);
+        TextureEntry entry = textureEntry(id);
+        Texture texture = entry.texture;
         if (texture == null) {
-            throw new IllegalArgumentException("Texture not found: " + id);
+            synchronized (this) {
+                texture = load(id, entry);
+            }
         }
+        if (entry.path != null) entry.lastUsed = ++clock;
         return texture;
     }
 
@@ -43,45 +149,263 @@ public class AssetRegistry {
      * Get an animation by ID (creates a new instance for independent state)
      */
     public Animation getAnimation(String id) {
-        Animation template = animations.get(id);
+        AnimationEntry entry = animationEntry(id);
+        Animation template = entry.template;
         if (template == null) {
-            throw new IllegalArgumentException("Animation not found: " + id);
+            synchronized (this) {
+                template = build(id, entry);
+            }
+        } else if (entry.textureIds != null) {
+            touch(entry);
         }
         return template.copy(); // Return independent copy
     }
 
     /**
-     * Check if a texture exists
+     * Get a texture and hold a reference to it until releaseTexture(id)
+     */
+    public synchronized Texture acquireTexture(String id) {
+        TextureEntry entry = textureEntry(id);
+        entry.refs++;
+        Texture texture = load(id, entry);
+        trim();
+        return texture;
+    }
+
+    public synchronized void releaseTexture(String id) {
+        TextureEntry entry = textureEntry(id);
+        if (entry.refs <= 0) {
+            throw new IllegalStateException("Texture released more often than acquired: " + id);
+        }
+        entry.refs--;
+        entry.lastUsed = ++clock;
+        trim();
+    }
+
+    /**
+     * Get an animation and hold references to its textures until releaseAnimation(id)
+     */
+    public synchronized Animation acquireAnimation(String id) {
+        AnimationEntry entry = animationEntry(id);
+        if (entry.textureIds != null) {
+            for (String textureId : entry.textureIds) {
+                textureEntry(textureId).refs++;
+            }
+        }
+        Animation animation = build(id, entry).copy();
+        trim();
+        return animation;
+    }
+
+    public synchronized void releaseAnimation(String id) {
+        AnimationEntry entry = animationEntry(id);
+        if (entry.textureIds == null) return; // Registered animations are never evicted
+        for (String textureId : entry.textureIds) {
+            TextureEntry texture = textureEntry(textureId);
+            if (texture.refs <= 0) {
+                throw new IllegalStateException("Animation released more often than acquired: " + id);
+            }
+            texture.refs--;
+            texture.lastUsed = ++clock;
+        }
+        trim();
+    }
+
+    /**
+     * Bytes of resident textures above which unreferenced declared textures are evicted
+     */
+    public synchronized void setTextureBudget(long bytes) {
+        this.textureBudget = bytes;
+        trim();
+    }
+
+    public long getTextureBudget() {
+        return textureBudget;
+    }
+
+    /**
+     * Estimated bytes of every texture currently in memory
+     */
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    /**
+     * True if the animation can be handed out without loading anything
+     */
+    public boolean isAnimationResident(String id) {
+        return animationEntry(id).template != null;
+    }
+
+    /**
+     * Get a pre-baked font by ID. Fonts are shared, so callers must not dispose them.
+     */
+    public BitmapFont getFont(String id) {
+        BitmapFont font = fonts.get(id);
+        if (font == null) {
+            throw new IllegalArgumentException("Font not found: " + id);
+        }
+        return font;
+    }
+
+    /**
+     * Check if a texture exists (registered, or declared and loadable on demand)
      */
     public boolean hasTexture(String id) {
         return textures.containsKey(id);
     }
 
     /**
-     * Check if an animation exists
+     * Check if an animation exists (registered, or declared and loadable on demand)
      */
     public boolean hasAnimation(String id) {
         return animations.containsKey(id);
     }
 
+    /**
+     * Check if a font exists
+     */
+    public boolean hasFont(String id) {
+        return fonts.containsKey(id);
+    }
+
     /**
      * Dispose all assets
      */
-    public void dispose() {
-        for (Texture texture : textures.values()) {
-            if (texture != null) {
-                texture.dispose();
+    public synchronized void dispose() {
+        // Font atlas pages are registered as textures and disposed below
+        for (BitmapFont font : fonts.values()) {
+            font.dispose();
+        }
+        fonts.clear();
+        for (TextureEntry entry : textures.values()) {
+            if (entry.texture != null) {
+                GpuMemory.untrack(entry.texture);
+                entry.texture.dispose();
             }
         }
         textures.clear();
         animations.clear();
+        residentBytes = 0L;
     }
 
     /**
      * Get stats for debugging
      */
     public String getStats() {
-        return "AssetRegistry: " + textures.size() + " textures, " + animations.size() + " animations";
+        int resident = 0;
+        for (TextureEntry entry : textures.values()) {
+            if (entry.texture != null) resident++;
+        }
+        return "AssetRegistry: " + textures.size() + " textures (" + resident + " resident, "
+            + getResidentBytes() / (1024 * 1024) + " MB), " + animations.size() + " animations, " + fonts.size() + " fonts";
+    }
+
+    private TextureEntry textureEntry(String id) {
+        TextureEntry entry = textures.get(id);
+        if (entry == null) {
+            throw new IllegalArgumentException("Texture not found: " + id);
+        }
+        return entry;
+    }
+
+    private AnimationEntry animationEntry(String id) {
+        AnimationEntry entry = animations.get(id);
+        if (entry == null) {
+            throw new IllegalArgumentException("Animation not found: " + id);
+        }
+        return entry;
+    }
+
+    /**
+     * The synchronous fallback: read and upload a declared texture on the calling (render) thread
+     */
+    private Texture load(String id, TextureEntry entry) {
+        Texture texture = entry.texture;
+        if (texture != null) return texture;
+        checkRenderThread(id);
+
+        long start = System.nanoTime();
+        texture = new Texture(Gdx.files.internal(entry.path));
+        entry.bytes = GpuMemory.estimateBytes(texture);
+        track(id, entry.module, texture);
+        entry.lastUsed = ++clock;
+        entry.texture = texture;
+        residentBytes += entry.bytes;
+        Gdx.app.log("AssetRegistry", "Loaded " + id + " on demand in "
+            + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return texture;
+    }
+
+    private Animation build(String id, AnimationEntry entry) {
+        Animation template = entry.template;
+        if (template != null) return template;
+        checkRenderThread(id);
+
+        TextureRegion[] frames = new TextureRegion[entry.textureIds.length];
+        short[] rects = entry.rects;
+        for (int i = 0; i < frames.length; i++) {
+            String textureId = entry.textureIds[i];
+            Texture texture = load(textureId, textureEntry(textureId));
+            frames[i] = new TextureRegion(texture, rects[i * 4], rects[i * 4 + 1], rects[i * 4 + 2], rects[i * 4 + 3]);
+        }
+        template = new Animation(frames, entry.frameTime, entry.loop);
+        entry.template = template;
+        return template;
+    }
+
+    private void checkRenderThread(String id) {
+        if (Thread.currentThread() != renderThread) {
+            throw new IllegalStateException("Cannot load " + id + " on " + Thread.currentThread().getName()
+                + "; assets load on the render thread");
+        }
     }
-}
 
+    private void touch(AnimationEntry entry) {
+        long now = ++clock;
+        for (String textureId : entry.textureIds) {
+            TextureEntry texture = textures.get(textureId);
+            if (texture != null && texture.path != null) texture.lastUsed = now;
+        }
+    }
+
+    /**
+     * Evict least recently used unreferenced declared textures until within budget
+     */
+    private void trim() {
+        while (residentBytes > textureBudget) {
+            String victimId = null;
+            TextureEntry victim = null;
+            for (Map.Entry<String, TextureEntry> candidate : textures.entrySet()) {
+                TextureEntry entry = candidate.getValue();
+                if (entry.path == null || entry.texture == null || entry.refs > 0) continue;
+                if (victim == null || entry.lastUsed < victim.lastUsed) {
+                    victimId = candidate.getKey();
+                    victim = entry;
+                }
+            }
+            if (victim == null) return; // Everything left is registered or referenced
+
+            // Animations holding the texture are rebuilt on their next lookup
+            for (AnimationEntry animation : animations.values()) {
+                if (animation.textureIds == null || animation.template == null) continue;
+                for (String textureId : animation.textureIds) {
+                    if (textureId.equals(victimId)) {
+                        animation.template = null;
+                        break;
+                    }
+                }
+            }
+            GpuMemory.untrack(victim.texture);
+            victim.texture.dispose();
+            victim.texture = null;
+            residentBytes -= victim.bytes;
+            Gdx.app.log("AssetRegistry", "Evicted " + victimId + " (" + victim.bytes / 1024 + " KB)");
+        }
+    }
+
+    private static void track(String id, String module, Texture texture) {
+        GpuMemory.Kind kind = id.startsWith(FONT_PAGE_PREFIX) ? GpuMemory.Kind.FONT_PAGE : GpuMemory.Kind.TEXTURE;
+        GpuMemory.trackTexture(texture, kind, module, id);
+    }
+}
@@ -0,0 +1,255 @@
+package com.bonechild.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Estimated video memory held by GL resources, grouped by the module that owns them.
+ *
+ * Whoever creates a texture, font, frame buffer or batch records it here with its owning
+ * module ("player", "goblin", "ui", "renderer"...) and removes it when disposing it.
+ * AssetRegistry does this for everything loaded from the manifests; the rest is tracked
+ * where it is created. Sizes are computed from dimensions and format when recorded, not
+ * read back from the driver: drivers pad, mipmap and compress on their own, so treat the
+ * numbers as what we asked for rather than what the card spends.
+ *
+ * Thread-safe; expected to be touched on load and dispose, not every frame.
+ */
+public final class GpuMemory {
+
+    public enum Kind { TEXTURE, FONT_PAGE, FRAME_BUFFER, MESH }
+
+    /** SpriteBatch: 4 vertices of 5 floats plus 6 short indices per sprite */
+    private static final int SPRITE_BATCH_BYTES_PER_SPRITE = 4 * 5 * 4 + 6 * 2;
+    /** ShapeRenderer: position (3 floats) and packed color per vertex */
+    private static final int SHAPE_RENDERER_BYTES_PER_VERTEX = 4 * 4;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_SHAPE_VERTICES = 5000;
+
+    private static final Map<Object, Resource> resources = new IdentityHashMap<>();
+
+    public static final class Resource {
+        private final Kind kind;
+        private final String module;
+        private final String name;
+        private final int width;
+        private final int height;
+        private final String format;
+        private final long bytes;
+
+        Resource(Kind kind, String module, String name, int width, int height, String format, long bytes) {
+            this.kind = kind;
+            this.module = module;
+            this.name = name;
+            this.width = width;
+            this.height = height;
+            this.format = format;
+            this.bytes = bytes;
+        }
+
+        public Kind getKind() { return kind; }
+        public String getModule() { return module; }
+        public String getName() { return name; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public String getFormat() { return format; }
+        public long getBytes() { return bytes; }
+    }
+
+    private GpuMemory() {
+    }
+
+    public static void trackTexture(Texture texture, Kind kind, String module, String name) {
+        Pixmap.Format format = formatOf(texture);
+        put(texture, new Resource(kind, module, name, texture.getWidth(), texture.getHeight(),
+            format.name(), estimateBytes(texture)));
+    }
+
+    /**
+     * Track every atlas page of a font that was not loaded through AssetRegistry
+     * (libGDX's built-in font, mostly)
+     */
+    public static void trackFont(BitmapFont font, String module, String name) {
+        for (TextureRegion region : font.getRegions()) {
+            trackTexture(region.getTexture(), Kind.FONT_PAGE, module, name);
+        }
+    }
+
+    public static void untrackFont(BitmapFont font) {
+        for (TextureRegion region : font.getRegions()) {
+            untrack(region.getTexture());
+        }
+    }
+
+    public static void trackFrameBuffer(FrameBuffer frameBuffer, boolean hasDepth, String module, String name) {
+        Texture color = frameBuffer.getColorBufferTexture();
+        long bytes = estimateBytes(color);
+        if (hasDepth) {
+            bytes += (long) frameBuffer.getWidth() * frameBuffer.getHeight() * 2; // 16-bit depth renderbuffer
+        }
+        put(frameBuffer, new Resource(Kind.FRAME_BUFFER, module, name, frameBuffer.getWidth(),
+            frameBuffer.getHeight(), formatOf(color).name() + (hasDepth ? "+DEPTH16" : ""), bytes));
+    }
+
+    public static void trackSpriteBatch(SpriteBatch batch, String module, String name) {
+        trackSpriteBatch(batch, DEFAULT_BATCH_SIZE, module, name);
+    }
+
+    /**
+     * @param size the sprite count the batch was created with
+     */
+    public static void trackSpriteBatch(SpriteBatch batch, int size, String module, String name) {
+        put(batch, new Resource(Kind.MESH, module, name, size, 0, "SpriteBatch",
+            (long) size * SPRITE_BATCH_BYTES_PER_SPRITE));
+    }
+
+    public static void trackShapeRenderer(ShapeRenderer renderer, String module, String name) {
+        put(renderer, new Resource(Kind.MESH, module, name, DEFAULT_SHAPE_VERTICES, 0, "ShapeRenderer",
+            (long) DEFAULT_SHAPE_VERTICES * SHAPE_RENDERER_BYTES_PER_VERTEX));
+    }
+
+    /**
+     * Forget a resource; call next to its dispose(). Unknown resources are ignored.
+     */
+    public static void untrack(Object resource) {
+        synchronized (resources) {
+            resources.remove(resource);
+        }
+    }
+
+    public static long getTotalBytes() {
+        long total = 0L;
+        synchronized (resources) {
+            for (Resource resource : resources.values()) {
+                total += resource.bytes;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Bytes per owning module, largest first
+     */
+    public static Map<String, Long> getBytesByModule() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        synchronized (resources) {
+            for (Resource resource : resources.values()) {
+                totals.merge(resource.module, resource.bytes, Long::sum);
+            }
+        }
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(totals.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return sorted;
+    }
+
+    /**
+     * The count largest resources, largest first
+     */
+    public static List<Resource> getLargest(int count) {
+        List<Resource> all = snapshot();
+        return all.subList(0, Math.min(count, all.size()));
+    }
+
+    /**
+     * Every tracked resource as a text table: per-module totals, then one line per resource
+     */
+    public static String dump() {
+        List<Resource> all = snapshot();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "GPU memory: %.1f MB in %d resources%n",
+            megabytes(getTotalBytes()), all.size()));
+        for (Map.Entry<String, Long> module : getBytesByModule().entrySet()) {
+            out.append(String.format(Locale.ROOT, "  %-12s %8.1f MB%n", module.getKey(), megabytes(module.getValue())));
+        }
+        out.append(String.format(Locale.ROOT, "%n%-12s %-12s %-11s %-16s %10s  %s%n",
+            "kind", "module", "size", "format", "KB", "name"));
+        for (Resource resource : all) {
+            String size = resource.height > 0 ? resource.width + "x" + resource.height : String.valueOf(resource.width);
+            out.append(String.format(Locale.ROOT, "%-12s %-12s %-11s %-16s %10d  %s%n",
+                resource.kind, resource.module, size, resource.format, resource.bytes / 1024, resource.name));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Write dump() to a file and the log
+     */
+    public static void writeDump(String path) {
+        String dump = dump();
+        Gdx.app.log("GpuMemory", dump);
+        try {
+            Files.write(Paths.get(path), dump.getBytes(StandardCharsets.UTF_8));
+            Gdx.app.log("GpuMemory", "Wrote " + path);
+        } catch (IOException e) {
+            Gdx.app.error("GpuMemory", "Could not write " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Bytes the texture takes once uploaded, from its size and pixel format (no mipmaps)
+     */
+    public static long estimateBytes(Texture texture) {
+        return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(formatOf(texture));
+    }
+
+    public static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    public static float megabytes(long bytes) {
+        return bytes / (1024f * 1024f);
+    }
+
+    private static Pixmap.Format formatOf(Texture texture) {
+        Pixmap.Format format = texture.getTextureData() != null ? texture.getTextureData().getFormat() : null;
+        return format != null ? format : Pixmap.Format.RGBA8888;
+    }
+
+    private static void put(Object key, Resource resource) {
+        synchronized (resources) {
+            resources.put(key, resource);
+        }
+    }
+
+    private static List<Resource> snapshot() {
+        List<Resource> all;
+        synchronized (resources) {
+            all = new ArrayList<>(resources.values());
+        }
+        all.sort((a, b) -> Long.compare(b.bytes, a.bytes));
+        return all;
+    }
+}
@@ -0,0 +1,290 @@
+package com.bonechild.assets;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Build-time asset manifest compiler.
+ *
+ * Reads the module manifests (AssetManifest.MODULE_MANIFESTS, then json/monsters/*.json)
+ * from the resources directory, expands frame patterns, slices sprite sheets using the PNG
+ * sizes and writes everything to json/assets.bin (see AssetManifest for the layout). A
+ * missing image, unknown texture id or unknown animation type fails the build instead of
+ * being skipped at runtime.
+ *
+ * Runs in the assets module's compile phase; by hand:
+ *   java -cp ... com.bonechild.assets.ManifestCompiler <resources dir> <output file>
+ */
+public class ManifestCompiler {
+    private static final Pattern FRAME_RANGE = Pattern.compile("\\{(\\d+)-(\\d+)\\}");
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final File resourcesDir;
+    private final JsonReader jsonReader = new JsonReader();
+
+    private final List<String> texturePaths = new ArrayList<>();
+    private final List<String> textureIds = new ArrayList<>();
+    private final List<int[]> textureSizes = new ArrayList<>(); // Width, height, channels
+    private final Map<String, Integer> texturesByPath = new HashMap<>();
+    private final Map<String, Integer> texturesById = new HashMap<>();
+    private final List<AssetManifest.Section> sections = new ArrayList<>();
+
+    public ManifestCompiler(File resourcesDir) {
+        this.resourcesDir = resourcesDir;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ManifestCompiler <resources dir> <output file>");
+            System.exit(1);
+        }
+
+        ManifestCompiler compiler = new ManifestCompiler(new File(args[0]));
+        AssetManifest manifest = compiler.compile();
+
+        File output = new File(args[1]);
+        File outputDir = output.getParentFile();
+        if (outputDir != null && !outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Cannot create " + outputDir);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output.toPath())))) {
+            manifest.write(out);
+        }
+        System.out.println("[ManifestCompiler] " + manifest.sections.length + " manifests, "
+            + manifest.texturePaths.length + " textures -> " + output + " (" + output.length() + " bytes)");
+    }
+
+    public AssetManifest compile() throws IOException {
+        for (String path : AssetManifest.MODULE_MANIFESTS) {
+            compileManifest(path);
+        }
+
+        File monstersDir = new File(resourcesDir, AssetManifest.MONSTERS_DIRECTORY);
+        String[] monsterFiles = monstersDir.list((dir, name) -> name.endsWith(".json"));
+        if (monsterFiles != null) {
+            Arrays.sort(monsterFiles); // Directory order is not stable across machines
+            for (String name : monsterFiles) {
+                compileManifest(AssetManifest.MONSTERS_DIRECTORY + name);
+            }
+        }
+
+        int[] textureBytes = new int[textureSizes.size()];
+        for (int i = 0; i < textureBytes.length; i++) {
+            int[] size = textureSizes.get(i);
+            textureBytes[i] = size[0] * size[1] * size[2];
+        }
+        return new AssetManifest(texturePaths.toArray(new String[0]), textureIds.toArray(new String[0]),
+            textureBytes, sections.toArray(new AssetManifest.Section[0]));
+    }
+
+    private void compileManifest(String path) throws IOException {
+        File file = new File(resourcesDir, path);
+        if (!file.isFile()) {
+            // Same as the JSON loader: a module without assets just has no manifest
+            System.out.println("[ManifestCompiler] " + path + " not found (skipping)");
+            return;
+        }
+        JsonValue root = jsonReader.parse(new FileHandle(file));
+        int textureStart = texturePaths.size();
+
+        JsonValue texturesNode = root.get("textures");
+        if (texturesNode != null) {
+            for (JsonValue entry = texturesNode.child; entry != null; entry = entry.next) {
+                int texture = texture(path, entry.asString());
+                if (textureIds.get(texture) != null && !textureIds.get(texture).equals(entry.name)) {
+                    texture = addTexture(path, entry.asString()); // Second id for one image: keep both
+                }
+                textureIds.set(texture, entry.name);
+                texturesById.put(entry.name, texture);
+            }
+        }
+
+        List<AssetManifest.AnimationDef> animations = new ArrayList<>();
+        JsonValue animationsNode = root.get("animations");
+        if (animationsNode != null) {
+            for (JsonValue entry = animationsNode.child; entry != null; entry = entry.next) {
+                animations.add(compileAnimation(path, entry));
+            }
+        }
+
+        List<String> fontIds = new ArrayList<>();
+        List<String> fontPaths = new ArrayList<>();
+        JsonValue fontsNode = root.get("fonts");
+        if (fontsNode != null) {
+            for (JsonValue entry = fontsNode.child; entry != null; entry = entry.next) {
+                requireFile(path, entry.asString());
+                fontIds.add(entry.name);
+                fontPaths.add(entry.asString());
+            }
+        }
+
+        String module = AssetManifest.moduleOf(path, root.getString("module", null));
+        sections.add(new AssetManifest.Section(path, module, root.getBoolean("lazy", false), textureStart, texturePaths.size(),
+            animations.toArray(new AssetManifest.AnimationDef[0]),
+            fontIds.toArray(new String[0]), fontPaths.toArray(new String[0])));
+    }
+
+    private AssetManifest.AnimationDef compileAnimation(String manifest, JsonValue node) throws IOException {
+        String id = node.name;
+        String type = node.getString("type");
+        float frameTime = node.getFloat("frameTime");
+        boolean loop = node.getBoolean("loop");
+
+        int[] textures;
+        short[] rects;
+        switch (type) {
+            case "frame_sequence": {
+                String[] paths = expandPattern(manifest, id, node.getString("pattern"));
+                textures = new int[paths.length];
+                rects = new short[paths.length * 4];
+                for (int i = 0; i < paths.length; i++) {
+                    textures[i] = texture(manifest, paths[i]);
+                    int[] size = textureSizes.get(textures[i]);
+                    setRect(rects, i, 0, 0, size[0], size[1]);
+                }
+                break;
+            }
+            case "sprite_sheet":
+            case "sprite_sheet_multi_row": {
+                boolean multiRow = type.equals("sprite_sheet_multi_row");
+                int sheet = textureById(manifest, id, node.getString("texture"));
+                int startRow = multiRow ? node.getInt("startRow") : node.getInt("row");
+                int rows = multiRow ? node.getInt("rows") : 1;
+                int framesPerRow = multiRow ? node.getInt("framesPerRow") : node.getInt("frames");
+                int frameWidth = node.getInt("frameWidth");
+                int frameHeight = node.getInt("frameHeight");
+
+                textures = new int[rows * framesPerRow];
+                rects = new short[textures.length * 4];
+                int[] size = textureSizes.get(sheet);
+                int frame = 0;
+                for (int row = startRow; row < startRow + rows; row++) {
+                    for (int col = 0; col < framesPerRow; col++) {
+                        int x = col * frameWidth;
+                        int y = row * frameHeight;
+                        if (x + frameWidth > size[0] || y + frameHeight > size[1]) {
+                            throw new IOException(manifest + ": frame " + frame + " of " + id + " lies outside "
+                                + texturePaths.get(sheet) + " (" + size[0] + "x" + size[1] + ")");
+                        }
+                        textures[frame] = sheet;
+                        setRect(rects, frame, x, y, frameWidth, frameHeight);
+                        frame++;
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IOException(manifest + ": unknown animation type " + type + " for " + id);
+        }
+        return new AssetManifest.AnimationDef(id, frameTime, loop, textures, rects);
+    }
+
+    /**
+     * Index of an image in the texture table, adding it (and reading its size) on first use
+     */
+    private int texture(String manifest, String path) throws IOException {
+        Integer existing = texturesByPath.get(path);
+        return existing != null ? existing : addTexture(manifest, path);
+    }
+
+    private int addTexture(String manifest, String path) throws IOException {
+        int[] size = readPngSize(requireFile(manifest, path));
+        int index = texturePaths.size();
+        texturePaths.add(path);
+        textureIds.add(null);
+        textureSizes.add(size);
+        texturesByPath.putIfAbsent(path, index);
+        return index;
+    }
+
+    private int textureById(String manifest, String animationId, String textureId) throws IOException {
+        Integer texture = texturesById.get(textureId);
+        if (texture == null) {
+            throw new IOException(manifest + ": " + animationId + " uses unknown texture " + textureId);
+        }
+        return texture;
+    }
+
+    private File requireFile(String manifest, String path) throws IOException {
+        File file = new File(resourcesDir, path);
+        if (!file.isFile()) {
+            throw new IOException(manifest + ": missing file " + path);
+        }
+        return file;
+    }
+
+    private static void setRect(short[] rects, int frame, int x, int y, int width, int height) {
+        rects[frame * 4] = (short) x;
+        rects[frame * 4 + 1] = (short) y;
+        rects[frame * 4 + 2] = (short) width;
+        rects[frame * 4 + 3] = (short) height;
+    }
+
+    /**
+     * Width, height and decoded channels from a PNG's IHDR chunk, without decoding the
+     * image. Palette images are counted as RGBA, the larger of what they can decode to.
+     */
+    private static int[] readPngSize(File file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file.toPath());
+             DataInputStream in = new DataInputStream(stream)) {
+            byte[] signature = new byte[PNG_SIGNATURE.length];
+            in.readFully(signature);
+            if (!Arrays.equals(signature, PNG_SIGNATURE)) {
+                throw new IOException("Not a PNG: " + file);
+            }
+            in.readInt(); // IHDR length
+            in.readInt(); // "IHDR"
+            int width = in.readInt();
+            int height = in.readInt();
+            in.readByte(); // Bit depth
+            int colorType = in.readByte();
+            int channels;
+            switch (colorType) {
+                case 0: channels = 1; break; // Grayscale
+                case 4: channels = 2; break; // Grayscale + alpha
+                case 2: channels = 3; break; // RGB
+                default: channels = 4; break; // RGBA, palette
+            }
+            return new int[] {width, height, channels};
+        }
+    }
+
+    /**
+     * Expand a pattern like "Player{1-6}.png" or "explode{0000-0081}.png" into frame paths
+     */
+    private static String[] expandPattern(String manifest, String id, String pattern) throws IOException {
+        Matcher m = FRAME_RANGE.matcher(pattern);
+        if (!m.find()) {
+            throw new IOException(manifest + ": invalid pattern for " + id + ": " + pattern);
+        }
+
+        String startStr = m.group(1);
+        int start = Integer.parseInt(startStr);
+        int end = Integer.parseInt(m.group(2));
+        int padding = startStr.length(); // Zero-padding comes from the start number
+
+        String[] paths = new String[end - start + 1];
+        for (int i = 0; i < paths.length; i++) {
+            int frameNum = start + i;
+            String frameNumStr = padding > 1 ? String.format("%0" + padding + "d", frameNum) : String.valueOf(frameNum);
+            paths[i] = m.replaceFirst(frameNumStr);
+        }
+        return paths;
+    }
+}
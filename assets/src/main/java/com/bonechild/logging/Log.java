@@ -0,0 +1,175 @@
+package com.bonechild.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logging facade for gameplay code.
+ *
+ * - Level checks are a single field read; messages below the level are never built.
+ * - Messages take "{}" placeholders that are only filled in once a line will actually
+ *   be written, so callers do not concatenate strings on hot paths.
+ * - Each tag may write at most a fixed number of lines per second; the rest are counted
+ *   and reported on the next line that gets through.
+ * - Lines are handed to a background LogWriter, which does the console and file I/O off
+ *   the game thread. Errors are also printed immediately.
+ *
+ * Usage:
+ *
+ * Log.info("WorldManager", "Loaded stage: {}", stageName);
+ * Log.debug("StageSpawner", "Spawned {} at {}", mobType, position);
+ *
+ * // Primitive arguments are boxed at the call site, so guard them in hot paths
+ * if (Log.isDebugEnabled()) {
+ *     Log.debug("Player", "Fireball cast! Damage: {}", damage);
+ * }
+ */
+public final class Log {
+    // Same values as Application.LOG_*
+    public static final int NONE = 0;
+    public static final int ERROR = 1;
+    public static final int INFO = 2;
+    public static final int DEBUG = 3;
+
+    public static final int DEFAULT_LINES_PER_SECOND = 20;
+
+    private static volatile int level = INFO;
+    private static volatile int linesPerSecond = DEFAULT_LINES_PER_SECOND;
+    private static final ConcurrentHashMap<String, TagLimiter> limiters = new ConcurrentHashMap<>();
+    private static final LogWriter writer = new LogWriter();
+
+    private Log() {
+    }
+
+    public static void setLevel(int level) { Log.level = level; }
+    public static int getLevel() { return level; }
+    public static boolean isDebugEnabled() { return level >= DEBUG; }
+    public static boolean isInfoEnabled() { return level >= INFO; }
+
+    /**
+     * Lines each tag may write per second before further lines are dropped (0 = unlimited)
+     */
+    public static void setRateLimit(int linesPerSecond) { Log.linesPerSecond = linesPerSecond; }
+
+    /**
+     * Also write every line to this file (appending), or stop writing to a file with null
+     */
+    public static void setFile(String path) { writer.setFile(path); }
+
+    /**
+     * Echo lines to the console (on by default)
+     */
+    public static void setConsole(boolean console) { writer.setConsole(console); }
+
+    /**
+     * Write out everything still queued and stop the writer thread
+     */
+    public static void shutdown() { writer.shutdown(); }
+
+    public static void debug(String tag, String message) {
+        if (level >= DEBUG) write(DEBUG, tag, message, null, null, null, 0);
+    }
+
+    public static void debug(String tag, String pattern, Object arg) {
+        if (level >= DEBUG) write(DEBUG, tag, pattern, arg, null, null, 1);
+    }
+
+    public static void debug(String tag, String pattern, Object arg1, Object arg2) {
+        if (level >= DEBUG) write(DEBUG, tag, pattern, arg1, arg2, null, 2);
+    }
+
+    public static void debug(String tag, String pattern, Object arg1, Object arg2, Object arg3) {
+        if (level >= DEBUG) write(DEBUG, tag, pattern, arg1, arg2, arg3, 3);
+    }
+
+    public static void info(String tag, String message) {
+        if (level >= INFO) write(INFO, tag, message, null, null, null, 0);
+    }
+
+    public static void info(String tag, String pattern, Object arg) {
+        if (level >= INFO) write(INFO, tag, pattern, arg, null, null, 1);
+    }
+
+    public static void info(String tag, String pattern, Object arg1, Object arg2) {
+        if (level >= INFO) write(INFO, tag, pattern, arg1, arg2, null, 2);
+    }
+
+    public static void info(String tag, String pattern, Object arg1, Object arg2, Object arg3) {
+        if (level >= INFO) write(INFO, tag, pattern, arg1, arg2, arg3, 3);
+    }
+
+    /**
+     * Errors are never rate limited and are printed immediately as well as queued
+     */
+    public static void error(String tag, String message) {
+        error(tag, message, null);
+    }
+
+    public static void error(String tag, String message, Throwable error) {
+        if (level < ERROR) return;
+        System.err.println(tag + ": " + message);
+        if (error != null) {
+            error.printStackTrace(System.err);
+        }
+        writer.enqueue(ERROR, tag, error != null ? message + " (" + error + ")" : message, false);
+    }
+
+    private static void write(int lineLevel, String tag, String pattern,
+                              Object arg1, Object arg2, Object arg3, int argCount) {
+        int suppressed = 0;
+        int limit = linesPerSecond;
+        if (limit > 0) {
+            TagLimiter limiter = limiters.computeIfAbsent(tag, t -> new TagLimiter());
+            suppressed = limiter.acquire(limit);
+            if (suppressed < 0) return;
+        }
+
+        String message = argCount == 0 ? pattern : format(pattern, arg1, arg2, arg3, argCount);
+        if (suppressed > 0) {
+            message = message + " (+" + suppressed + " suppressed)";
+        }
+        writer.enqueue(lineLevel, tag, message, true);
+    }
+
+    static String format(String pattern, Object arg1, Object arg2, Object arg3, int argCount) {
+        StringBuilder out = new StringBuilder(pattern.length() + 16 * argCount);
+        int start = 0;
+        for (int i = 0; i < argCount; i++) {
+            int at = pattern.indexOf("{}", start);
+            if (at < 0) break;
+            out.append(pattern, start, at);
+            out.append(i == 0 ? arg1 : i == 1 ? arg2 : arg3);
+            start = at + 2;
+        }
+        out.append(pattern, start, pattern.length());
+        return out.toString();
+    }
+
+    /**
+     * Fixed one-second window per tag
+     */
+    private static final class TagLimiter {
+        private long windowStart = System.nanoTime();
+        private int written;
+        private int dropped;
+
+        /**
+         * -1 if this line must be dropped, otherwise the number of lines dropped since the
+         * last one that got through
+         */
+        synchronized int acquire(int limit) {
+            long now = System.nanoTime();
+            if (now - windowStart >= 1_000_000_000L) {
+                windowStart = now;
+                written = 0;
+            }
+            if (written >= limit) {
+                dropped++;
+                return -1;
+            }
+            written++;
+            int reported = dropped;
+            dropped = 0;
+            return reported;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.bonechild.logging;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background thread that drains queued log lines to the console and an optional file.
+ *
+ * The queue is a fixed-size ring (ArrayBlockingQueue). When the game logs faster than
+ * the writer can keep up, new lines are dropped and counted instead of blocking the
+ * game thread.
+ */
+class LogWriter implements Runnable {
+    private static final int CAPACITY = 8192;
+    private static final int BATCH = 256;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private final ArrayBlockingQueue<Entry> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final List<Entry> batch = new ArrayList<>(BATCH);
+    private final AtomicInteger overflow = new AtomicInteger();
+    private final Object lock = new Object();
+
+    private Thread thread;
+    private volatile boolean running;
+    private volatile boolean console = true;
+    private String filePath;
+    private BufferedWriter file;
+
+    private static final class Entry {
+        final long time;
+        final int level;
+        final String tag;
+        final String message;
+        final boolean echo;
+
+        Entry(long time, int level, String tag, String message, boolean echo) {
+            this.time = time;
+            this.level = level;
+            this.tag = tag;
+            this.message = message;
+            this.echo = echo;
+        }
+    }
+
+    void enqueue(int level, String tag, String message, boolean echo) {
+        ensureStarted();
+        if (!queue.offer(new Entry(System.currentTimeMillis(), level, tag, message, echo))) {
+            overflow.incrementAndGet();
+        }
+    }
+
+    void setConsole(boolean console) {
+        this.console = console;
+    }
+
+    void setFile(String path) {
+        synchronized (lock) {
+            closeFile();
+            filePath = path;
+            if (path != null) {
+                try {
+                    file = new BufferedWriter(new FileWriter(path, true));
+                } catch (IOException e) {
+                    System.err.println("Log: cannot open " + path + ": " + e.getMessage());
+                    filePath = null;
+                }
+            }
+        }
+    }
+
+    void shutdown() {
+        Thread current;
+        synchronized (lock) {
+            current = thread;
+            running = false;
+            thread = null;
+        }
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (lock) {
+            drain();
+            closeFile();
+        }
+    }
+
+    private void ensureStarted() {
+        if (running) return;
+        synchronized (lock) {
+            if (running) return;
+            running = true;
+            thread = new Thread(this, "bonechild-log");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.start();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Entry first = queue.poll(250, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                synchronized (lock) {
+                    write(first);
+                    drain();
+                }
+            } catch (InterruptedException e) {
+                break; // shutdown() drains what is left
+            }
+        }
+    }
+
+    /**
+     * Write everything queued so far. Caller holds the lock.
+     */
+    private void drain() {
+        while (queue.drainTo(batch, BATCH) > 0) {
+            for (int i = 0; i < batch.size(); i++) {
+                write(batch.get(i));
+            }
+            batch.clear();
+        }
+        int dropped = overflow.getAndSet(0);
+        if (dropped > 0) {
+            write(new Entry(System.currentTimeMillis(), Log.ERROR, "Log", dropped + " lines dropped (queue full)", true));
+        }
+        System.out.flush();
+        if (file != null) {
+            try {
+                file.flush();
+            } catch (IOException e) {
+                fileFailed(e);
+            }
+        }
+    }
+
+    private void write(Entry entry) {
+        if (console && entry.echo) {
+            System.out.println(entry.tag + ": " + entry.message);
+        }
+        if (file != null) {
+            try {
+                file.write(LocalTime.ofInstant(Instant.ofEpochMilli(entry.time), ZoneId.systemDefault()).format(TIME));
+                file.write(entry.level == Log.ERROR ? " E " : entry.level == Log.DEBUG ? " D " : " I ");
+                file.write(entry.tag);
+                file.write(": ");
+                file.write(entry.message);
+                file.newLine();
+            } catch (IOException e) {
+                fileFailed(e);
+            }
+        }
+    }
+
+    private void fileFailed(IOException e) {
+        System.err.println("Log: stopped writing " + filePath + ": " + e.getMessage());
+        closeFile();
+    }
+
+    private void closeFile() {
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException ignored) {
+                // Nothing more to write
+            }
+            file = null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.bonechild.pool;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * libGDX Pool that gives every obtained object a generational handle.
+ *
+ * Objects get a fresh handle from obtain() and lose it in free(), so handles held past an
+ * object's lifetime resolve to null rather than to its next user. Freeing an object
+ * twice throws instead of putting it in the pool twice. Several pools may share one
+ * HandleTable, so one handle space covers e.g. every mob type.
+ */
+public abstract class HandlePool<T extends Pooled> extends Pool<T> {
+    private final HandleTable<? super T> handles;
+
+    public HandlePool(HandleTable<? super T> handles, int initialCapacity) {
+        super(initialCapacity);
+        this.handles = handles;
+    }
+
+    public HandlePool(int initialCapacity) {
+        this(new HandleTable<T>(), initialCapacity);
+    }
+
+    @Override
+    public T obtain() {
+        T object = super.obtain();
+        object.setHandle(handles.register(object));
+        return object;
+    }
+
+    @Override
+    public void free(T object) {
+        if (object == null) {
+            throw new IllegalArgumentException("object cannot be null");
+        }
+        if (object.getHandle() == HandleTable.NONE) {
+            throw new IllegalStateException(object.getClass().getSimpleName()
+                + " was already freed or never obtained from a pool");
+        }
+        handles.release(object.getHandle());
+        super.free(object);
+        object.setHandle(HandleTable.NONE);
+    }
+
+    @Override
+    public void freeAll(Array<T> objects) {
+        // Pool.freeAll bypasses free(), which would skip releasing the handles
+        for (int i = 0; i < objects.size; i++) {
+            free(objects.get(i));
+        }
+    }
+
+    public HandleTable<? super T> getHandles() {
+        return handles;
+    }
+}
@@ -0,0 +1,107 @@
+package com.bonechild.pool;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Maps generational int handles to live objects.
+ *
+ * A handle packs a slot index and the slot's generation. Releasing a slot bumps its
+ * generation, so every handle issued before the release stops resolving - code that kept
+ * a handle to a pooled object gets null instead of whatever object reuses the slot.
+ *
+ * Usage:
+ *
+ * int handle = table.register(mob);
+ * ...
+ * MobEntity mob = table.get(handle); // null once the mob was released
+ * table.release(handle);
+ *
+ * Slots are reused, so after warm-up register and release do not allocate.
+ */
+public final class HandleTable<T> {
+    /** Handle that never resolves; objects outside any table use it */
+    public static final int NONE = 0;
+
+    private static final int GENERATION_BITS = 12;
+    private static final int GENERATION_MASK = (1 << GENERATION_BITS) - 1;
+    private static final int MAX_SLOTS = 1 << (31 - GENERATION_BITS);
+
+    private Object[] objects = new Object[64];
+    private int[] generations = new int[64];
+    private final IntArray freeSlots = new IntArray();
+    private int nextSlot;
+    private int liveCount;
+
+    public HandleTable() {
+        Arrays.fill(generations, 1); // Generation 0 is never issued, so no handle equals NONE
+    }
+
+    /**
+     * Give an object a slot and return its handle
+     */
+    public int register(T object) {
+        if (object == null) {
+            throw new IllegalArgumentException("Cannot register null");
+        }
+        int slot;
+        if (freeSlots.size > 0) {
+            slot = freeSlots.pop();
+        } else {
+            if (nextSlot == MAX_SLOTS) {
+                throw new IllegalStateException("Handle table full (" + MAX_SLOTS + " slots)");
+            }
+            slot = nextSlot++;
+            if (slot == objects.length) {
+                int capacity = Math.min(objects.length * 2, MAX_SLOTS);
+                objects = Arrays.copyOf(objects, capacity);
+                int oldLength = generations.length;
+                generations = Arrays.copyOf(generations, capacity);
+                Arrays.fill(generations, oldLength, capacity, 1);
+            }
+        }
+        objects[slot] = object;
+        liveCount++;
+        return (slot << GENERATION_BITS) | generations[slot];
+    }
+
+    /**
+     * Free a handle's slot. Throws if the handle is already stale (double release).
+     */
+    public void release(int handle) {
+        int slot = handle >>> GENERATION_BITS;
+        if (!isValid(handle)) {
+            throw new IllegalStateException("Stale or unknown handle " + describe(handle));
+        }
+        objects[slot] = null;
+        int generation = (generations[slot] + 1) & GENERATION_MASK;
+        generations[slot] = generation == 0 ? 1 : generation;
+        freeSlots.add(slot);
+        liveCount--;
+    }
+
+    /**
+     * The object a handle was issued for, or null if it has since been released
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int handle) {
+        return isValid(handle) ? (T) objects[handle >>> GENERATION_BITS] : null;
+    }
+
+    public boolean isValid(int handle) {
+        int slot = handle >>> GENERATION_BITS;
+        return handle != NONE
+            && slot < nextSlot
+            && objects[slot] != null
+            && generations[slot] == (handle & GENERATION_MASK);
+    }
+
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    public static String describe(int handle) {
+        return (handle >>> GENERATION_BITS) + "#" + (handle & GENERATION_MASK);
+    }
+}
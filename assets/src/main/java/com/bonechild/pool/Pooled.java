@@ -0,0 +1,17 @@
+package com.bonechild.pool;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * An object that is recycled through a HandlePool and carries its current handle.
+ *
+ * reset() contract: put every field back to what a freshly constructed object would hold,
+ * except things worth keeping across uses (loaded animations, preallocated vectors).
+ * The pool clears the handle after reset().
+ */
+public interface Pooled extends Pool.Poolable {
+    /** Handle issued when the object was last obtained, or HandleTable.NONE */
+    int getHandle();
+
+    void setHandle(int handle);
+}
@@ -0,0 +1,60 @@
+package com.bonechild.random;
+
+/**
+ * Per-run source of randomness, split into one stream per subsystem.
+ *
+ * All streams are derived from a single seed in a fixed order, so two runs with the
+ * same seed (and the same inputs) play out identically. Because every subsystem has
+ * its own stream, adding a random draw in one place - a new particle effect, say -
+ * does not shift the spawn or loot sequence of an existing seed.
+ *
+ * Usage:
+ *
+ * RandomService random = new RandomService(seed);
+ * spawner.setRandom(random.spawns());
+ * collisionSystem.setLootRandom(random.loot());
+ */
+public class RandomService {
+    private final long seed;
+    private final RandomStream spawns;
+    private final RandomStream loot;
+    private final RandomStream combat;
+    private final RandomStream upgrades;
+    private final RandomStream cosmetic;
+
+    public RandomService(long seed) {
+        this.seed = seed;
+
+        // Order matters: changing it changes every stream for a given seed
+        RandomStream root = new RandomStream(seed);
+        this.spawns = root.split();
+        this.loot = root.split();
+        this.combat = root.split();
+        this.upgrades = root.split();
+        this.cosmetic = root.split();
+    }
+
+    /**
+     * Service seeded from the clock, for normal (non-reproduced) play
+     */
+    public static RandomService fromClock() {
+        return new RandomService(System.nanoTime());
+    }
+
+    public long getSeed() { return seed; }
+
+    /** Spawn positions */
+    public RandomStream spawns() { return spawns; }
+
+    /** Loot drops from killed mobs */
+    public RandomStream loot() { return loot; }
+
+    /** Damage variance and critical hits */
+    public RandomStream combat() { return combat; }
+
+    /** Power-up choices offered on level up */
+    public RandomStream upgrades() { return upgrades; }
+
+    /** Visual-only effects: particles, damage numbers, camera shake, tile variety */
+    public RandomStream cosmetic() { return cosmetic; }
+}
@@ -0,0 +1,80 @@
+package com.bonechild.random;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * One independent, seeded stream of random numbers.
+ *
+ * Wraps SplittableRandom, which has no shared state between instances (unlike
+ * Math.random's global generator), so each subsystem can draw numbers without
+ * contention and without disturbing the sequence seen by any other subsystem.
+ * A stream is not thread-safe: give each thread its own stream via split().
+ */
+public class RandomStream {
+    private final SplittableRandom random;
+
+    public RandomStream(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomStream(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Create a new stream whose sequence is independent of this one
+     */
+    public RandomStream split() {
+        return new RandomStream(random.split());
+    }
+
+    /**
+     * Random float in [0, 1)
+     */
+    public float nextFloat() {
+        // The top 24 bits fill a float's mantissa exactly; casting nextDouble() would round
+        // values just below 1 up to 1.0f
+        return (random.nextInt() >>> 8) * 0x1.0p-24f;
+    }
+
+    /**
+     * Random float in [0, max)
+     */
+    public float nextFloat(float max) {
+        return nextFloat() * max;
+    }
+
+    /**
+     * Random float in [min, max)
+     */
+    public float range(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    /**
+     * Random int in [0, bound)
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * True with the given probability (0-1)
+     */
+    public boolean chance(float probability) {
+        return random.nextDouble() < probability;
+    }
+
+    /**
+     * Shuffle a list in place (Fisher-Yates)
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T swap = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, swap);
+        }
+    }
+}
@@ -168,9 +168,10 @@ public class Animation {
     }
     
     /**
-     * Constructor for pre-made frames (used by static factory methods)
+     * Constructor for pre-made frames (used by static factory methods, and by benchmarks
+     * that have no GL context to load textures with)
      */
-    private Animation(TextureRegion[] frames, float frameDuration, boolean looping) {
+    public Animation(TextureRegion[] frames, float frameDuration, boolean looping) {
         this.frames = frames;
         this.frameDuration = frameDuration;
         this.stateTime = 0;
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.bonechild.assets.AssetLoader;
 import com.bonechild.assets.AssetRegistry;
+import com.bonechild.assets.GpuMemory;
 
 /**
  * Compatibility wrapper around AssetRegistry.
@@ -15,6 +16,7 @@ import com.bonechild.assets.AssetRegistry;
  */
 public class Assets {
     private final AssetRegistry registry;
+    private AssetLoader loader; // Set while a staged load is in progress
     private boolean loaded = false;
 
     // Legacy cached font (optional)
@@ -32,30 +34,83 @@ public class Assets {
      * Load all assets from modular JSON files
      */
     public void load() {
-        if (loaded) {
+        startLoading();
+        finishLoading();
+    }
+
+    /**
+     * Queue all assets from modular JSON files, menu fonts and textures first. Nothing is
+     * loaded until update() or finishLoading() is called.
+     */
+    public void startLoading() {
+        if (loaded || loader != null) {
             Gdx.app.log("Assets", "Assets already loaded");
             return;
         }
 
         Gdx.app.log("Assets", "Loading assets from modular manifests...");
-        AssetLoader loader = new AssetLoader(registry);
+        loader = new AssetLoader(registry);
+        loader.queueFromModules();
+    }
 
-        // Load from module-specific asset files
-        loader.loadFromModules();
+    /**
+     * Load queued assets for up to budgetMillis. Call once per frame on the render thread.
+     *
+     * @return true once everything is loaded
+     */
+    public boolean update(int budgetMillis) {
+        if (loader == null) return loaded;
+        if (loader.update(budgetMillis)) {
+            finished();
+        }
+        return loaded;
+    }
 
+    /**
+     * Load whatever is still queued, blocking the render thread
+     */
+    public void finishLoading() {
+        if (loader == null) return;
+        loader.finishLoading();
+        finished();
+    }
+
+    private void finished() {
+        loader = null;
         loaded = true;
         Gdx.app.log("Assets", registry.getStats());
     }
 
     /**
-     * Dispose all assets
+     * Fraction of the queued assets loaded so far, 0 to 1
+     */
+    public float getProgress() {
+        if (loader == null) return loaded ? 1f : 0f;
+        return loader.getProgress();
+    }
+
+    /**
+     * True once the fonts and UI textures the menu needs are loaded
+     */
+    public boolean isMenuReady() {
+        if (loader == null) return loaded;
+        return loader.isLoaded(AssetLoader.FONTS_MANIFEST) && loader.isLoaded(AssetLoader.UI_MANIFEST);
+    }
+
+    /**
+     * Dispose all assets, including any loaded so far by an unfinished load
      */
     public void dispose() {
-        if (!loaded) return;
+        if (!loaded && loader == null) return;
+        if (loader != null) {
+            loader.dispose(); // Stops the decode workers before the registry goes away
+        }
         registry.dispose();
+        loader = null;
         loaded = false;
 
         if (font != null) {
+            GpuMemory.untrackFont(font);
             font.dispose();
             font = null;
         }
@@ -95,6 +150,7 @@ public class Assets {
     public BitmapFont getFont() {
         if (font == null) {
             font = new BitmapFont();
+            GpuMemory.trackFont(font, "ui", "default font");
         }
         return font;
     }
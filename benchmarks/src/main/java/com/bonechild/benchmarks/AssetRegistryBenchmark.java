@@ -0,0 +1,66 @@
+package com.bonechild.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.bonechild.assets.AssetRegistry;
+import com.bonechild.rendering.Animation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AssetRegistry.getAnimation (lookup plus the per-caller copy) with N registered
+ * animations, cycling through every id so the lookups do not stay in one cache line.
+ *
+ * The animations hold 8 empty TextureRegions each: no textures are loaded, so no GL
+ * context is needed, and copy() does the same work as with real frames.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssetRegistryBenchmark {
+    private static final int FRAMES = 8;
+
+    @Param({"100", "1000", "10000"})
+    public int animationCount;
+
+    private AssetRegistry registry;
+    private String[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootHeadless();
+
+        registry = new AssetRegistry();
+        ids = new String[animationCount];
+        for (int i = 0; i < animationCount; i++) {
+            TextureRegion[] frames = new TextureRegion[FRAMES];
+            for (int f = 0; f < FRAMES; f++) {
+                frames[f] = new TextureRegion();
+            }
+            ids[i] = "mob_" + i + "_walk";
+            registry.registerAnimation(ids[i], new Animation(frames, 0.1f, true));
+        }
+    }
+
+    @Benchmark
+    public Animation getAnimation() {
+        String id = ids[next];
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return registry.getAnimation(id);
+    }
+}
@@ -0,0 +1,65 @@
+package com.bonechild.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.logging.Log;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.monsters.api.MobFactory;
+import com.bonechild.monsters.api.SpawnContext;
+import com.bonechild.random.RandomStream;
+
+/**
+ * Shared setup for the benchmarks: a headless libGDX runtime and seeded mob layouts
+ */
+final class BenchmarkFixtures {
+    // Same virtual world size as the game and the simulator
+    static final float WORLD_WIDTH = 1280f;
+    static final float WORLD_HEIGHT = 720f;
+    static final float STEP = 1f / 60f;
+    static final long SEED = 1L;
+
+    private static boolean booted;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Install a headless Gdx.app, Gdx.files and Gdx.graphics (no window or GL) once per
+     * forked JVM, and silence game logging so it does not show up in the measurements
+     */
+    static synchronized void bootHeadless() {
+        if (booted) return;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // No render loop: the statics are all the benchmarks need
+        new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+        Log.setLevel(Log.ERROR);
+        booted = true;
+    }
+
+    /**
+     * Spawn count mobs of one type at seeded random positions inside the given box
+     */
+    static void spawnMobs(MobFactory factory, String typeId, int count, Array<MobEntity> mobs,
+                          float minX, float minY, float maxX, float maxY) {
+        RandomStream random = new RandomStream(SEED);
+        SpawnContext context = new SpawnContext(0f, 0f);
+        for (int i = 0; i < count; i++) {
+            mobs.add(factory.create(typeId, context.set(random.range(minX, maxX), random.range(minY, maxY))));
+        }
+    }
+
+    /**
+     * Return every mob to the factory's pool
+     */
+    static void releaseMobs(MobFactory factory, Array<MobEntity> mobs) {
+        for (int i = 0; i < mobs.size; i++) {
+            factory.release(mobs.get(i));
+        }
+        mobs.clear();
+    }
+}
@@ -0,0 +1,53 @@
+package com.bonechild.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.monsters.core.DefaultMobFactory;
+import com.bonechild.playablecharacters.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player.getClosestMob (the auto-attack target search) over N mobs scattered across the
+ * world, with the player in the middle so part of them is inside attack range
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClosestMobBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int mobCount;
+
+    private final Array<MobEntity> mobs = new Array<>(false, 64);
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootHeadless();
+
+        player = new Player(BenchmarkFixtures.WORLD_WIDTH / 2f, BenchmarkFixtures.WORLD_HEIGHT / 2f);
+        DefaultMobFactory factory = new DefaultMobFactory(player.getPosition(), null);
+        BenchmarkFixtures.spawnMobs(factory, "mob", mobCount, mobs,
+            0f, 0f, BenchmarkFixtures.WORLD_WIDTH, BenchmarkFixtures.WORLD_HEIGHT);
+    }
+
+    @Benchmark
+    public MobEntity closestMob() {
+        return player.getClosestMob(mobs);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bonechild.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.collision.CollisionSystem;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.monsters.core.DefaultMobFactory;
+import com.bonechild.playablecharacters.Pickup;
+import com.bonechild.playablecharacters.Player;
+import com.bonechild.playablecharacters.Projectile;
+import com.bonechild.random.RandomStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CollisionSystem.process with N mobs, 64 live projectiles and 64 pickups.
+ *
+ * The projectiles fly below the mob field and the player and pickups sit far to the
+ * side, so nothing ever hits: every call does the full projectile x mob scan plus the
+ * pickup and contact checks, and the world is the same before and after each call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+    private static final int PROJECTILES = 64;
+    private static final int PICKUPS = 64;
+
+    @Param({"100", "1000", "10000"})
+    public int mobCount;
+
+    private final Array<MobEntity> mobs = new Array<>(false, 64);
+    private final Array<Projectile> projectiles = new Array<>(false, 64);
+    private final Array<Pickup> pickups = new Array<>(false, 64);
+    private Player player;
+    private CollisionSystem collisions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootHeadless();
+
+        player = new Player(-4000f, -4000f);
+        DefaultMobFactory factory = new DefaultMobFactory(player.getPosition(), null);
+        BenchmarkFixtures.spawnMobs(factory, "mob", mobCount, mobs,
+            0f, 0f, BenchmarkFixtures.WORLD_WIDTH, BenchmarkFixtures.WORLD_HEIGHT);
+
+        RandomStream random = new RandomStream(BenchmarkFixtures.SEED);
+        for (int i = 0; i < PROJECTILES; i++) {
+            float x = random.range(0f, BenchmarkFixtures.WORLD_WIDTH);
+            projectiles.add(new Projectile(x, -500f, x, -2000f, 10f, false, null));
+        }
+        Pickup.PickupType[] types = Pickup.PickupType.values();
+        for (int i = 0; i < PICKUPS; i++) {
+            pickups.add(new Pickup().init(random.range(4000f, 5000f), random.range(4000f, 5000f),
+                types[i % types.length], 1f));
+        }
+
+        collisions = new CollisionSystem();
+        collisions.setLootRandom(new RandomStream(BenchmarkFixtures.SEED));
+    }
+
+    @Benchmark
+    public Player process() {
+        collisions.process(BenchmarkFixtures.STEP, player, mobs, projectiles, pickups);
+        return player;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mobs.clear();
+        projectiles.clear();
+        pickups.clear();
+    }
+}
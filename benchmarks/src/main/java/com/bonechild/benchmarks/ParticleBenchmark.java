@@ -0,0 +1,61 @@
+package com.bonechild.benchmarks;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.bonechild.random.RandomStream;
+import com.bonechild.rendering.ParticleSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ParticleSystem.update with N live particles (blood splatter).
+ *
+ * Particles live well under a second, so stepping by a real frame time would leave the
+ * pool empty after the first few dozen calls. The benchmark steps by zero instead, which
+ * runs the same per-particle arithmetic while keeping all N alive. Rendering needs GL
+ * and is not measured; the ShapeRenderer is only created on the first render.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParticleBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int particleCount;
+
+    private ParticleSystem particles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootHeadless();
+
+        particles = new ParticleSystem(new OrthographicCamera(), new RandomStream(BenchmarkFixtures.SEED),
+            particleCount);
+        particles.spawnBlood(BenchmarkFixtures.WORLD_WIDTH / 2f, BenchmarkFixtures.WORLD_HEIGHT / 2f, particleCount);
+    }
+
+    @Benchmark
+    public ParticleSystem update() {
+        particles.update(0f);
+        return particles;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        particles.dispose();
+    }
+}
@@ -0,0 +1,92 @@
+package com.bonechild.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.monsters.core.DefaultMobFactory;
+import com.bonechild.random.RandomStream;
+import com.bonechild.stages.StageSpawner;
+import com.bonechild.stages.StageSpawner.SpawnPattern;
+import com.bonechild.stages.StageSpawner.StageDefinition;
+import com.bonechild.stages.StageSpawner.WaveDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StageSpawner over one whole wave of N spawns: startWave, then update at 60 Hz until
+ * the wave has finished spawning (10 seconds, 600 ticks), then every mob goes back to
+ * the pool. One operation is one wave; the pools are warm after the first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StageSpawnerBenchmark {
+    private static final float WAVE_SECONDS = 10f;
+    private static final int TICKS = Math.round(WAVE_SECONDS / BenchmarkFixtures.STEP);
+
+    @Param({"100", "1000", "10000"})
+    public int spawnCount;
+
+    private final Array<MobEntity> mobs = new Array<>(false, 64);
+    private DefaultMobFactory factory;
+    private StageSpawner spawner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.bootHeadless();
+
+        factory = new DefaultMobFactory(new Vector2(BenchmarkFixtures.WORLD_WIDTH / 2f,
+            BenchmarkFixtures.WORLD_HEIGHT / 2f), null);
+        spawner = new StageSpawner(factory);
+        spawner.setRandom(new RandomStream(BenchmarkFixtures.SEED));
+        spawner.setSpawnBounds(100, 1820, 100, 980);
+        spawner.loadStage(singleWaveStage(spawnCount));
+    }
+
+    @Benchmark
+    public int wave() {
+        spawner.startWave();
+        for (int tick = 0; tick <= TICKS && spawner.isWaveActive(); tick++) {
+            spawner.update(BenchmarkFixtures.STEP, mobs);
+        }
+        int spawned = mobs.size;
+        BenchmarkFixtures.releaseMobs(factory, mobs);
+        return spawned;
+    }
+
+    /**
+     * Stage with one wave that spawns count plain mobs evenly over WAVE_SECONDS
+     */
+    private static StageDefinition singleWaveStage(int count) {
+        SpawnPattern pattern = new SpawnPattern();
+        pattern.mobType = "mob";
+        pattern.count = count;
+        pattern.spawnDelay = WAVE_SECONDS / count;
+
+        WaveDefinition wave = new WaveDefinition();
+        wave.waveNumber = 1;
+        wave.spawns = Array.with(pattern);
+
+        StageDefinition stage = new StageDefinition();
+        stage.stageId = "benchmark";
+        stage.name = "Benchmark";
+        stage.description = count + " mobs in one wave";
+        stage.waves = Array.with(wave);
+        return stage;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bonechild.benchmarks;
+
+import com.bonechild.monsters.core.DefaultMobFactory;
+import com.bonechild.playablecharacters.Player;
+import com.bonechild.random.RandomService;
+import com.bonechild.world.WorldManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One WorldManager.update tick with N chasing mobs: player update and auto-attack,
+ * mob steering, pickups and projectiles.
+ *
+ * No wave is started and collisions are not processed, so the mob count stays at N. The
+ * world is rebuilt every iteration because the mobs close in on the player over time.
+ * Compare serial and parallel mob updates with -p mobThreads=0,4.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorldUpdateBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int mobCount;
+
+    /** Worker threads for ParallelMobUpdater; 0 updates mobs serially */
+    @Param({"0"})
+    public int mobThreads;
+
+    private WorldManager world;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkFixtures.bootHeadless();
+
+        Player player = new Player(BenchmarkFixtures.WORLD_WIDTH / 2f, BenchmarkFixtures.WORLD_HEIGHT / 2f);
+        player.setMovementBounds(BenchmarkFixtures.WORLD_WIDTH, BenchmarkFixtures.WORLD_HEIGHT);
+
+        world = new WorldManager(player);
+        world.setMobThreads(mobThreads);
+        world.initialize(null, new RandomService(BenchmarkFixtures.SEED));
+
+        // Mobs spawn around the edges of a world larger than the screen, as in the game
+        DefaultMobFactory factory = new DefaultMobFactory(player.getPosition(), null);
+        BenchmarkFixtures.spawnMobs(factory, "mob", mobCount, world.getMobs(), -2000f, -2000f, 3300f, 2700f);
+    }
+
+    @Benchmark
+    public WorldManager update() {
+        world.update(BenchmarkFixtures.STEP);
+        return world;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        world.dispose();
+    }
+}
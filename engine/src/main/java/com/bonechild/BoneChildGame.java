@@ -8,8 +8,20 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.bonechild.playablecharacters.Player;
 import com.bonechild.playablecharacters.PlayerInput;
+import com.bonechild.assets.AssetRegistry;
+import com.bonechild.assets.GpuMemory;
 import com.bonechild.collision.CollisionSystem;
+import com.bonechild.debug.AllocationProfiler;
+import com.bonechild.debug.FrameProfiler;
+import com.bonechild.debug.FrameProfiler.Phase;
+import com.bonechild.debug.MilestoneReporter;
+import com.bonechild.logging.Log;
+import com.bonechild.random.RandomService;
+import com.bonechild.replay.InputRecorder;
+import com.bonechild.replay.InputReplay;
+import com.bonechild.replay.WorldChecksum;
 import com.bonechild.rendering.Assets;
+import com.bonechild.rendering.RenderInterpolator;
 import com.bonechild.rendering.Renderer;
 import com.bonechild.ui.GameUI;
 import com.bonechild.ui.MenuScreen;
@@ -17,11 +29,16 @@ import com.bonechild.ui.SettingsScreen;
 import com.bonechild.ui.PauseMenu;
 import com.bonechild.ui.GameOverScreen;
 import com.bonechild.ui.PowerUpScreen;
+import com.bonechild.ui.ProfilerOverlay;
 import com.bonechild.ui.BossWarningScreen; // NEW: Boss warning screen
 import com.bonechild.world.WorldManager;
 import com.bonechild.ui.CharacterStatsScreen;
 import com.bonechild.ui.InventoryUI;
+import com.bonechild.ui.LoadingScreen;
+import com.bonechild.ui.ScreenManager;
+import com.bonechild.ui.UiRenderContext;
 import com.bonechild.saves.SavePaths;
+import com.bonechild.util.FixedTimestep;
 
 /**
  * Main game class for BoneChild Game
@@ -36,21 +53,52 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
 
     // Game systems
     private Assets assets;
+    private LoadingScreen loadingScreen; // Shown until the menu's assets are loaded
+    private static final int LOADING_BUDGET_MILLIS = 12; // Asset loading per frame behind the progress bar
+    private static final int MENU_LOADING_BUDGET_MILLIS = 4; // ... and behind the menu, which animates
     private WorldManager worldManager;
     private Renderer renderer;
     private PlayerInput playerInput;
     private CollisionSystem collisionSystem;
     
-    // UI
-    private MenuScreen menuScreen;
-    private SettingsScreen settingsScreen;
-    private PauseMenu pauseMenu;
-    private GameOverScreen gameOverScreen;
-    private PowerUpScreen powerUpScreen;
-    private CharacterStatsScreen characterStatsScreen;
-    private BossWarningScreen bossWarningScreen; // NEW: Boss warning screen
-    private GameUI gameUI;
-    private InventoryUI inventoryUI;
+    // Fixed-step simulation; rendering interpolates between the last two ticks
+    public static final int DEFAULT_TICK_RATE = 60;
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+    private FixedTimestep simulationClock;
+    private final FixedTimestep.Step simulationStep = this::update;
+    private final RenderInterpolator interpolator = new RenderInterpolator();
+    private Long runSeed; // Fixed seed for reproducible runs; null seeds each run from the clock
+    private int mobThreads; // 0: mobs update serially on the game thread
+    private String allocationCsvPath; // Per-phase allocation rates, one row per second
+    private long textureBudget = AssetRegistry.DEFAULT_TEXTURE_BUDGET;
+    private boolean endless; // Endless horde instead of the stage files
+    private boolean deathDisabled; // The player stops at 1 HP
+    private MilestoneReporter milestones; // Endless runs only
+    
+    // Input recording / deterministic replay (see com.bonechild.replay)
+    private String recordPath;
+    private String replayPath;
+    private InputRecorder recorder;
+    private InputReplay replay;
+    private long replayFrames;
+    private long replayStartNanos;
+    
+    // UI - screens are built on first use and kept warm across restarts
+    private static final float SCREEN_IDLE_TIMEOUT = 60f; // Release screens unused for a minute
+    private UiRenderContext uiContext;
+    private ScreenManager screens;
+    private ScreenManager.Slot<MenuScreen> menuScreen;
+    private ScreenManager.Slot<SettingsScreen> settingsScreen;
+    private ScreenManager.Slot<PauseMenu> pauseMenu;
+    private ScreenManager.Slot<GameOverScreen> gameOverScreen;
+    private ScreenManager.Slot<PowerUpScreen> powerUpScreen;
+    private ScreenManager.Slot<CharacterStatsScreen> characterStatsScreen;
+    private ScreenManager.Slot<BossWarningScreen> bossWarningScreen; // NEW: Boss warning screen
+    private ScreenManager.Slot<GameUI> gameUI;
+    private ScreenManager.Slot<InventoryUI> inventoryUI;
+    private ProfilerOverlay profilerOverlay; // F3 debug overlay
+    private static final String GPU_MEMORY_DUMP = "gpu-memory.txt"; // F6, in the working directory
+    private int lastRenderCallTotal;
 
     // Game state
     private boolean gameStarted = false;
@@ -61,8 +109,77 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
     private boolean deathSoundPlayed = false;
     private static final float DEATH_ANIMATION_DELAY = 2.0f; // Wait 2 seconds before showing death screen
     
+    public BoneChildGame() {
+        this(DEFAULT_TICK_RATE, DEFAULT_MAX_STEPS_PER_FRAME);
+    }
+    
+    /**
+     * @param tickRate simulation ticks per second, independent of the render frame rate
+     * @param maxStepsPerFrame most ticks run in one frame before the backlog is dropped
+     */
+    public BoneChildGame(int tickRate, int maxStepsPerFrame) {
+        this.simulationClock = new FixedTimestep(tickRate, maxStepsPerFrame);
+    }
+
+    /**
+     * Seed every run with the same value so spawns, loot and crits repeat exactly
+     */
+    public void setRunSeed(long seed) {
+        this.runSeed = seed;
+    }
+    
+    /**
+     * Record every new run's inputs to this file (overwritten on restart)
+     */
+    public void setRecordPath(String path) {
+        this.recordPath = path;
+    }
+    
+    /**
+     * Skip the menu and replay a recorded run, then exit with a summary
+     */
+    public void setReplayPath(String path) {
+        this.replayPath = path;
+    }
+    
+    /**
+     * Update mobs on this many worker threads; 0 keeps them on the game thread
+     */
+    public void setMobThreads(int threads) {
+        this.mobThreads = threads;
+    }
+    
+    /**
+     * Track allocations per frame phase from startup and write them to a CSV file
+     */
+    public void setAllocationCsvPath(String path) {
+        this.allocationCsvPath = path;
+    }
+    
+    /**
+     * Resident texture bytes above which unused on-demand textures are evicted
+     */
+    public void setTextureBudget(long bytes) {
+        this.textureBudget = bytes;
+    }
+    
+    /**
+     * Play the endless horde and log frame rate and phase costs at mob count milestones
+     */
+    public void setEndless(boolean endless) {
+        this.endless = endless;
+    }
+    
+    /**
+     * Keep the player alive whatever hits it, so a stress run is not cut short
+     */
+    public void setDeathDisabled(boolean deathDisabled) {
+        this.deathDisabled = deathDisabled;
+    }
+    
     @Override
     public void create() {
+        Gdx.app.setLogLevel(Log.getLevel()); // Engine logs follow the same level as gameplay logs
         Gdx.app.log("BoneChild", "Initializing game...");
         
         // Setup camera with fixed viewport
@@ -72,18 +189,106 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         camera.position.set(WORLD_WIDTH / 2, WORLD_HEIGHT / 2, 0);
         camera.update();
         
-        // Load assets
+        // Queue assets; render() loads them a few milliseconds per frame behind a progress
+        // bar and builds the menu as soon as its fonts and textures are in
         assets = new Assets();
-        assets.load();
+        assets.getRegistry().setTextureBudget(textureBudget);
+        assets.startLoading();
+        loadingScreen = new LoadingScreen();
+        
+        if (allocationCsvPath != null) {
+            AllocationProfiler.startCsv(allocationCsvPath);
+        }
+    }
+    
+    /**
+     * Load assets within this frame's budget; once the menu's assets are in, replace the
+     * loading screen with the menu. The rest keeps loading while the menu is up.
+     */
+    private void renderLoading() {
+        assets.update(LOADING_BUDGET_MILLIS);
+        if (!assets.isMenuReady()) {
+            loadingScreen.render(assets.getProgress());
+            return;
+        }
+        
+        loadingScreen.dispose();
+        loadingScreen = null;
+        createMenu();
+    }
+    
+    /**
+     * Everything that needs the baked fonts: shared UI resources, screens and the menu
+     */
+    private void createMenu() {
+        // Shared batch, shapes, fonts and cameras for every UI screen
+        uiContext = new UiRenderContext(assets);
+        uiContext.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         
-        // Create menu screen (shown first)
-        menuScreen = new MenuScreen(assets, this);
+        // Register UI screens; none of them is built until it is first shown
+        registerScreens();
+        menuScreen.get(); // Menu is shown first
+        profilerOverlay = new ProfilerOverlay(uiContext);
         
         // Initialize collision system
         collisionSystem = new CollisionSystem();
         
+        if (replayPath != null) {
+            openReplay();
+        }
+        
+        Gdx.app.log("BoneChild", "Simulation: " + simulationClock.getTickRate() + " Hz fixed step, up to "
+            + simulationClock.getMaxStepsPerFrame() + " steps per frame");
         Gdx.app.log("BoneChild", "Game initialized successfully!");
-        Gdx.app.log("BoneChild", "Showing menu screen...");
+        
+        if (replay != null) {
+            startGameWithSave(false);
+        } else {
+            Gdx.app.log("BoneChild", "Showing menu screen...");
+        }
+    }
+    
+    private void openReplay() {
+        try {
+            replay = new InputReplay(replayPath);
+        } catch (java.io.IOException e) {
+            throw new com.badlogic.gdx.utils.GdxRuntimeException("Cannot open replay " + replayPath, e);
+        }
+        // Ticks must have the same length as when the run was recorded
+        if (replay.getTickRate() != simulationClock.getTickRate()) {
+            simulationClock = new FixedTimestep(replay.getTickRate(), simulationClock.getMaxStepsPerFrame());
+        }
+    }
+    
+    /**
+     * Register every UI screen with its factory. Screens that depend on the current run
+     * read the player when they are built and are re-bound in startGameWithSave.
+     */
+    private void registerScreens() {
+        screens = new ScreenManager();
+        menuScreen = screens.register("MenuScreen",
+            () -> new MenuScreen(uiContext, assets, this), SCREEN_IDLE_TIMEOUT);
+        // Settings hold the keybinds and volumes, so they are never released
+        settingsScreen = screens.register("SettingsScreen",
+            () -> new SettingsScreen(uiContext, assets, this, playerInput), ScreenManager.KEEP_FOREVER);
+        gameUI = screens.register("GameUI",
+            () -> new GameUI(uiContext, assets, worldManager.getPlayer(), worldManager), SCREEN_IDLE_TIMEOUT);
+        pauseMenu = screens.register("PauseMenu",
+            () -> new PauseMenu(uiContext, assets, this), SCREEN_IDLE_TIMEOUT);
+        gameOverScreen = screens.register("GameOverScreen",
+            () -> new GameOverScreen(uiContext, assets, this), SCREEN_IDLE_TIMEOUT);
+        powerUpScreen = screens.register("PowerUpScreen", () -> {
+            PowerUpScreen screen = new PowerUpScreen(uiContext, assets, this);
+            screen.setPlayer(worldManager.getPlayer()); // Pass player reference for reroll
+            screen.setRandom(worldManager.getRandom().upgrades());
+            return screen;
+        }, SCREEN_IDLE_TIMEOUT);
+        characterStatsScreen = screens.register("CharacterStatsScreen",
+            () -> new CharacterStatsScreen(uiContext, assets, worldManager.getPlayer()), SCREEN_IDLE_TIMEOUT);
+        bossWarningScreen = screens.register("BossWarningScreen",
+            () -> new BossWarningScreen(uiContext), SCREEN_IDLE_TIMEOUT);
+        inventoryUI = screens.register("InventoryUI",
+            () -> new InventoryUI(assets, worldManager.getPlayer()), SCREEN_IDLE_TIMEOUT);
     }
     
     /**
@@ -126,17 +331,32 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         if (!gameStarted) {
             Gdx.app.log("BoneChild", "Starting game...");
             
-            // Create settings screen if it doesn't exist (for keybinds)
-            if (settingsScreen == null) {
-                settingsScreen = new SettingsScreen(assets, this, null);
+            // Rarely needed: the menu is usually up long enough for the background load
+            if (!assets.isLoaded()) {
+                Gdx.app.log("BoneChild", "Finishing asset loading before the run starts");
+                assets.finishLoading();
             }
             
-            // Create player at center of world
+            // Create player at center of world, kept inside the world rather than the window
             Player player = new Player(WORLD_WIDTH / 2f, WORLD_HEIGHT / 2f);
+            player.setMovementBounds(WORLD_WIDTH, WORLD_HEIGHT);
+            player.setDeathDisabled(deathDisabled);
             
             // Create world manager with player and initialize stage system
+            if (worldManager != null) {
+                worldManager.dispose();
+            }
             worldManager = new WorldManager(player);
-            worldManager.initialize(assets);
+            worldManager.setMobThreads(mobThreads);
+            worldManager.setEndless(endless);
+            RandomService random;
+            if (replay != null) {
+                random = new RandomService(replay.getSeed());
+            } else {
+                random = runSeed != null ? new RandomService(runSeed) : RandomService.fromClock();
+            }
+            Gdx.app.log("BoneChild", "Run seed: " + random.getSeed());
+            worldManager.initialize(assets, random);
             
             // Check if we should load save file
             if (loadSave && worldManager.hasSaveFile()) {
@@ -199,27 +419,24 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
             
             // Wire up collision system to spawn loot
             // Wire up collision system to spawn loot
-            collisionSystem.setPickupSpawner(worldManager.getPickupAdder()::accept);
+            collisionSystem.setPickupSpawner(worldManager::spawnPickup);
+            collisionSystem.setLootRandom(random.loot());
             
-            // Create renderer
-            renderer = new Renderer(camera, assets);
+            // Create renderer (release the previous run's batches and textures first)
+            if (renderer != null) {
+                renderer.dispose();
+            }
+            renderer = new Renderer(camera, assets, random.cosmetic());
             
             // Create input handler
             playerInput = new PlayerInput(worldManager.getPlayer());
             
             // Apply saved keybinds from settings screen
-            playerInput.setKeybinds(settingsScreen.getKeybinds());
+            playerInput.setKeybinds(settingsScreen.get().getKeybinds());
             Gdx.app.log("BoneChild", "Applied keybinds");
             
-            // Create UI
-            gameUI = new GameUI(assets, worldManager.getPlayer(), worldManager);
-            pauseMenu = new PauseMenu(assets, this);
-            gameOverScreen = new GameOverScreen(assets, this);
-            powerUpScreen = new PowerUpScreen(assets, this);
-            powerUpScreen.setPlayer(worldManager.getPlayer()); // Pass player reference for reroll
-            characterStatsScreen = new CharacterStatsScreen(assets, worldManager.getPlayer());
-            bossWarningScreen = new BossWarningScreen(); // NEW: Initialize boss warning screen
-            inventoryUI = new InventoryUI(assets, worldManager.getPlayer());
+            // Screens kept from a previous run are pointed at the new player
+            bindScreensToRun(worldManager.getPlayer());
 
             // Start background music
             if (assets.getBackgroundMusic() != null) {
@@ -227,20 +444,76 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
                 Gdx.app.log("BoneChild", "Background music started");
             }
             
+            // A run continued from a save cannot be rebuilt from its seed and inputs alone
+            stopRecording();
+            if (recordPath != null && replay == null) {
+                if (loadSave && worldManager.hasSaveFile()) {
+                    Gdx.app.log("BoneChild", "Not recording: run continues from a save file");
+                } else {
+                    try {
+                        recorder = new InputRecorder(recordPath, random.getSeed(), simulationClock.getTickRate());
+                    } catch (java.io.IOException e) {
+                        Gdx.app.error("BoneChild", "Cannot record to " + recordPath, e);
+                    }
+                }
+            }
+            
+            // Milestones start over with each run
+            stopMilestones();
+            if (endless) {
+                milestones = new MilestoneReporter();
+            }
+            
+            simulationClock.reset();
             gameStarted = true;
             Gdx.app.log("BoneChild", "Controls: WASD/Arrow Keys to move, SPACE to attack, ESC to exit, I for inventory");
         }
     }
     
+    /**
+     * Re-bind screens that survived a previous run and reset their transient state.
+     * Screens that were never built (or were released) pick up the player when created.
+     */
+    private void bindScreensToRun(Player player) {
+        GameUI hud = gameUI.peek();
+        if (hud != null) {
+            hud.bind(player, worldManager);
+        }
+        PowerUpScreen powerUp = powerUpScreen.peek();
+        if (powerUp != null) {
+            powerUp.setPlayer(player);
+            powerUp.setRandom(worldManager.getRandom().upgrades());
+            powerUp.hide();
+        }
+        CharacterStatsScreen stats = characterStatsScreen.peek();
+        if (stats != null) {
+            stats.setPlayer(player);
+            stats.hide();
+        }
+        InventoryUI inventory = inventoryUI.peek();
+        if (inventory != null) {
+            inventory.setPlayer(player);
+            inventory.hide();
+        }
+        BossWarningScreen bossWarning = bossWarningScreen.peek();
+        if (bossWarning != null) {
+            bossWarning.dismiss();
+        }
+        PauseMenu pause = pauseMenu.peek();
+        if (pause != null) {
+            pause.hide();
+        }
+        
+        // Build the HUD now so the first frame does not pay for it mid-render
+        gameUI.get();
+    }
+    
     /**
      * Called when player clicks "Settings" in menu
      */
     @Override
     public void onSettings() {
-        if (settingsScreen == null) {
-            settingsScreen = new SettingsScreen(assets, this, null);
-        }
-        settingsScreen.show();
+        settingsScreen.get().show();
     }
     
     /**
@@ -248,11 +521,12 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
      */
     @Override
     public void onBack() {
-        if (settingsScreen != null && settingsScreen.isVisible()) {
-            settingsScreen.hide();
+        SettingsScreen settings = settingsScreen.peek();
+        if (settings != null && settings.isVisible()) {
+            settings.hide();
             // Apply the new keybinds to player input if game has started
             if (gameStarted && playerInput != null) {
-                playerInput.setKeybinds(settingsScreen.getKeybinds());
+                playerInput.setKeybinds(settings.getKeybinds());
                 Gdx.app.log("BoneChild", "Keybinds updated");
             } else if (!gameStarted) {
                 // If game hasn't started, keybinds will be applied when game starts
@@ -281,10 +555,7 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
      * Called when player clicks "Settings" in pause menu
      */
     public void onPauseSettings() {
-        if (settingsScreen == null) {
-            settingsScreen = new SettingsScreen(assets, this, playerInput);
-        }
-        settingsScreen.show();
+        settingsScreen.get().show();
     }
     
     /**
@@ -293,23 +564,25 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
     @Override
     public void onExitToMenu() {
         Gdx.app.log("BoneChild", "Exiting to main menu...");
+        stopRecording();
         
         // Hide pause menu if visible
-        if (pauseMenu != null) {
-            pauseMenu.hide();
+        if (pauseMenu.peek() != null) {
+            pauseMenu.peek().hide();
         }
         
         // Hide game over screen if visible
-        if (gameOverScreen != null) {
-            gameOverScreen.hide();
+        if (gameOverScreen.peek() != null) {
+            gameOverScreen.peek().hide();
         }
         
         gamePaused = false;
         gameStarted = false;
+        stopMilestones();
         
         // Hide settings if open
-        if (settingsScreen != null && settingsScreen.isVisible()) {
-            settingsScreen.hide();
+        if (settingsScreen.peek() != null && settingsScreen.peek().isVisible()) {
+            settingsScreen.peek().hide();
         }
         
         // Cleanup game resources
@@ -318,9 +591,7 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         }
         
         // Make sure menu is visible
-        if (menuScreen != null) {
-            menuScreen.show();
-        }
+        menuScreen.get().show();
     }
     
     /**
@@ -332,8 +603,8 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         gameStarted = false;
         
         // Hide game over screen
-        if (gameOverScreen != null) {
-            gameOverScreen.hide();
+        if (gameOverScreen.peek() != null) {
+            gameOverScreen.peek().hide();
         }
         
         // Cleanup game resources
@@ -354,10 +625,13 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         
         String powerUpType = powerUp.name();
         worldManager.getPlayer().applyPowerUp(powerUpType);
+        if (recorder != null) {
+            recorder.recordPowerUp(powerUpType);
+        }
         
         // Hide power-up screen and resume game
-        if (powerUpScreen != null) {
-            powerUpScreen.hide();
+        if (powerUpScreen.peek() != null) {
+            powerUpScreen.peek().hide();
         }
         gamePaused = false;
     }
@@ -366,19 +640,88 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
     public void render() {
         float delta = Gdx.graphics.getDeltaTime();
         
+        if (loadingScreen != null) {
+            renderLoading();
+            return;
+        }
+        
+        // F3 toggles the frame profiler in every state, F4 its allocation table, F5 its GPU
+        // memory table; F6 writes every tracked GPU resource to a text file
+        if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F3)) {
+            profilerOverlay.toggle();
+        }
+        if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F4)) {
+            profilerOverlay.toggleAllocations();
+        }
+        if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F5)) {
+            profilerOverlay.toggleGpuMemory();
+        }
+        if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F6)) {
+            GpuMemory.writeDump(GPU_MEMORY_DUMP);
+        }
+        
+        FrameProfiler.begin(Phase.FRAME);
+        renderFrame(delta);
+        FrameProfiler.end(Phase.FRAME);
+        AllocationProfiler.endFrame();
+        
+        // Count draw calls before the overlay adds its own
+        if (FrameProfiler.isEnabled()) {
+            FrameProfiler.endFrame(takeRenderCalls());
+        }
+        if (milestones != null && gameStarted) {
+            milestones.frame(delta, worldManager.getMobs().size, worldManager.getPickups().size,
+                worldManager.getProjectiles().size);
+        }
+        if (profilerOverlay.isVisible()) {
+            profilerOverlay.update(delta, gameStarted ? worldManager : null);
+            profilerOverlay.render();
+            takeRenderCalls();
+        }
+    }
+    
+    private void stopMilestones() {
+        if (milestones != null) {
+            milestones.stop();
+            milestones = null;
+        }
+    }
+    
+    /**
+     * SpriteBatch render calls issued by the world renderer and the UI since the last call
+     */
+    private int takeRenderCalls() {
+        int total = uiContext.getBatch().totalRenderCalls;
+        if (renderer != null) {
+            total += renderer.getTotalRenderCalls();
+        }
+        int calls = total - lastRenderCallTotal;
+        lastRenderCallTotal = total;
+        return Math.max(calls, 0); // A new renderer starts counting from zero
+    }
+    
+    private void renderFrame(float delta) {
         // Clear screen
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.15f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         
+        // Release screens that have not been shown for a while
+        screens.update(delta);
+        
         // Menu flow when game hasn't started
         if (!gameStarted) {
-            if (settingsScreen == null || !settingsScreen.isVisible()) {
-                menuScreen.update(delta);
+            // Gameplay assets keep loading behind the menu
+            if (!assets.isLoaded()) {
+                assets.update(MENU_LOADING_BUDGET_MILLIS);
             }
-            menuScreen.render();
-            if (settingsScreen != null && settingsScreen.isVisible()) {
-                settingsScreen.update(delta);
-                settingsScreen.render();
+            boolean settingsOpen = isSettingsOpen();
+            if (!settingsOpen) {
+                menuScreen.get().update(delta);
+            }
+            menuScreen.get().render();
+            if (settingsOpen) {
+                settingsScreen.get().update(delta);
+                settingsScreen.get().render();
             }
             return;
         }
@@ -387,9 +730,10 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         if (worldManager.getPlayer().isDead()) {
             deathTimer += delta;
             if (deathTimer >= DEATH_ANIMATION_DELAY && !deathScreenShown) {
-                if (gameOverScreen != null && !gameOverScreen.isVisible()) {
-                    gameOverScreen.setStats(worldManager.getCurrentWave(), worldManager.getPlayer().getGold(), worldManager.getPlayer().getLevel());
-                    gameOverScreen.show();
+                GameOverScreen gameOver = gameOverScreen.get();
+                if (!gameOver.isVisible()) {
+                    gameOver.setStats(worldManager.getCurrentWave(), worldManager.getPlayer().getGold(), worldManager.getPlayer().getLevel());
+                    gameOver.show();
                     deathScreenShown = true;
                 }
             }
@@ -400,56 +744,57 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         }
         
         // If game over screen is visible, render paused game in background and the overlay, then return
-        if (gameOverScreen != null && gameOverScreen.isVisible()) {
+        if (gameOverScreen.peek() != null && gameOverScreen.peek().isVisible()) {
             renderer.updateCamera();
             renderer.setDeltaTime(0);
             renderer.renderBackground();
             renderer.renderPlayer(worldManager.getPlayer());
             renderer.renderMobs(worldManager.getMobs());
             renderer.renderPickups(worldManager.getPickups());
-            gameUI.render();
+            gameUI.get().render();
             
-            gameOverScreen.update(delta);
-            gameOverScreen.render();
+            gameOverScreen.get().update(delta);
+            gameOverScreen.get().render();
             return; // Don't process any other game logic when dead
         }
         
         // Character stats screen has highest priority while visible
-        if (characterStatsScreen != null && characterStatsScreen.isVisible()) {
+        if (characterStatsScreen.peek() != null && characterStatsScreen.peek().isVisible()) {
             renderer.updateCamera();
             renderer.setDeltaTime(0);
             renderer.renderBackground();
             renderer.renderPlayer(worldManager.getPlayer());
             renderer.renderMobs(worldManager.getMobs());
             renderer.renderPickups(worldManager.getPickups());
-            gameUI.render();
+            gameUI.get().render();
             
-            characterStatsScreen.update(delta);
-            characterStatsScreen.render();
+            CharacterStatsScreen stats = characterStatsScreen.get();
+            stats.update(delta);
+            stats.render();
             
-            if (!characterStatsScreen.isVisible()) {
+            if (!stats.isVisible()) {
                 gamePaused = false;
             }
             return;
         }
         
         // Power-up screen priority over pause
-        if (powerUpScreen != null && powerUpScreen.isVisible()) {
+        if (powerUpScreen.peek() != null && powerUpScreen.peek().isVisible()) {
             renderer.updateCamera();
             renderer.setDeltaTime(0);
             renderer.renderBackground();
             renderer.renderPlayer(worldManager.getPlayer());
             renderer.renderMobs(worldManager.getMobs());
             renderer.renderPickups(worldManager.getPickups());
-            gameUI.render();
+            gameUI.get().render();
             
-            powerUpScreen.update(delta);
-            powerUpScreen.render();
+            powerUpScreen.get().update(delta);
+            powerUpScreen.get().render();
             return;
         }
         
         // Boss warning screen priority over pause
-        if (bossWarningScreen != null && bossWarningScreen.isActive()) {
+        if (bossWarningScreen.peek() != null && bossWarningScreen.peek().isActive()) {
             renderer.updateCamera();
             renderer.setDeltaTime(0);
             renderer.renderBackground();
@@ -457,12 +802,11 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
             renderer.renderMobs(worldManager.getMobs());
             renderer.renderPickups(worldManager.getPickups());
             renderer.renderProjectiles(worldManager.getProjectiles());
-            gameUI.render();
+            gameUI.get().render();
             
-            bossWarningScreen.update(delta);
-            // BossWarningScreen manages its own batch state (ends/restarts for shapes)
-            com.badlogic.gdx.graphics.g2d.SpriteBatch batch = renderer.getBatch();
-            bossWarningScreen.render(batch);
+            bossWarningScreen.get().update(delta);
+            // Composited on top of the HUD through the shared UI batch
+            bossWarningScreen.get().render();
             return; // Don't render anything else while warning active
         }
         
@@ -473,15 +817,16 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
             renderer.renderBackground();
             renderer.renderPlayer(worldManager.getPlayer());
             renderer.renderMobs(worldManager.getMobs());
-            gameUI.render();
+            gameUI.get().render();
             
-            if (settingsScreen == null || !settingsScreen.isVisible()) {
-                pauseMenu.update(delta);
+            boolean settingsOpen = isSettingsOpen();
+            if (!settingsOpen) {
+                pauseMenu.get().update(delta);
             }
-            pauseMenu.render();
-            if (settingsScreen != null && settingsScreen.isVisible()) {
-                settingsScreen.update(delta);
-                settingsScreen.render();
+            pauseMenu.get().render();
+            if (settingsOpen) {
+                settingsScreen.get().update(delta);
+                settingsScreen.get().render();
             }
             return;
         }
@@ -489,62 +834,92 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         // Check level up for power-up screen (unpaused flow)
         if (worldManager.getPlayer().hasLeveledUpThisFrame()) {
             worldManager.getPlayer().clearLevelUpFlag();
-            powerUpScreen.show();
-            gamePaused = true;
+            // A replay applies the recorded choices itself, on the tick they were made
+            if (replay == null) {
+                powerUpScreen.get().show();
+                gamePaused = true;
+            }
         }
         
         // Check if current wave is a boss wave and show banner (only once per wave)
         int currentWave = worldManager.getCurrentWave();
-        if (worldManager.isCurrentWaveBossWave() &&
-            !bossWarningScreen.isActive() &&
+        if (replay == null &&
+            worldManager.isCurrentWaveBossWave() &&
+            (bossWarningScreen.peek() == null || !bossWarningScreen.peek().isActive()) &&
             worldManager.getMobCount() > 0 &&
             lastBossWarningWave != currentWave) {
 
             String bossWaveName = "WAVE " + currentWave + " - BOSS FIGHT";
-            bossWarningScreen.show(bossWaveName);
+            bossWarningScreen.get().show(bossWaveName);
             lastBossWarningWave = currentWave;  // Mark this wave as shown
             Gdx.app.log("BoneChild", "🚨 BOSS WAVE! " + bossWaveName);
         }
         
-                // Game running: handle input, update world, then render
+        // Game running: handle input, update world, then render
+        FrameProfiler.begin(Phase.INPUT);
         handleInput();
+        FrameProfiler.end(Phase.INPUT);
         if (!gamePaused) {
-            update(delta);
+            simulationClock.advance(delta, simulationStep);
+            if (replay != null && trackReplay()) {
+                return;
+            }
+            interpolator.apply(simulationClock.getAlpha(), worldManager.getPlayer(), worldManager.getMobs(),
+                worldManager.getProjectiles(), worldManager.getPickups());
         }
+        gameUI.get().update(delta);
 
         renderer.updateCamera();
         renderer.setDeltaTime(delta);
+        FrameProfiler.begin(Phase.DRAW_BACKGROUND);
         renderer.renderBackground();
+        FrameProfiler.end(Phase.DRAW_BACKGROUND);
+        FrameProfiler.begin(Phase.DRAW_PLAYER);
         renderer.renderPlayer(worldManager.getPlayer());
+        FrameProfiler.end(Phase.DRAW_PLAYER);
+        FrameProfiler.begin(Phase.DRAW_MOBS);
         renderer.renderMobs(worldManager.getMobs());
+        FrameProfiler.end(Phase.DRAW_MOBS);
+        FrameProfiler.begin(Phase.DRAW_PROJECTILES);
         renderer.renderProjectiles(worldManager.getProjectiles());
+        FrameProfiler.end(Phase.DRAW_PROJECTILES);
+        FrameProfiler.begin(Phase.DRAW_PICKUPS);
         renderer.renderPickups(worldManager.getPickups());
+        FrameProfiler.end(Phase.DRAW_PICKUPS);
+        FrameProfiler.begin(Phase.DRAW_HITBOXES);
         renderer.renderHitboxes(worldManager.getPlayer(), worldManager.getMobs());
+        FrameProfiler.end(Phase.DRAW_HITBOXES);
+        FrameProfiler.begin(Phase.DRAW_EFFECTS);
         renderer.renderEffects();
-        gameUI.render();
+        FrameProfiler.end(Phase.DRAW_EFFECTS);
+        FrameProfiler.begin(Phase.DRAW_HUD);
+        gameUI.get().render();
+        FrameProfiler.end(Phase.DRAW_HUD);
+        
+        // Back to the real simulation state before any logic runs again
+        interpolator.restore();
     }
     
     private void handleInput() {
         // Character stats toggle (C)
         if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.C)) {
-            if (characterStatsScreen != null) {
-                if (characterStatsScreen.isVisible()) {
-                    characterStatsScreen.hide();
-                    gamePaused = false;
-                    Gdx.app.log("BoneChild", "Character stats closed, game resumed");
-                } else {
-                    characterStatsScreen.show();
-                    gamePaused = true;
-                    Gdx.app.log("BoneChild", "Character stats opened, game paused");
-                }
+            CharacterStatsScreen stats = characterStatsScreen.get();
+            if (stats.isVisible()) {
+                stats.hide();
+                gamePaused = false;
+                Gdx.app.log("BoneChild", "Character stats closed, game resumed");
+            } else {
+                stats.show();
+                gamePaused = true;
+                Gdx.app.log("BoneChild", "Character stats opened, game paused");
             }
             return;
         }
         
         // While character stats screen is open, allow ESC to close but ignore other inputs
-        if (characterStatsScreen != null && characterStatsScreen.isVisible()) {
+        if (characterStatsScreen.peek() != null && characterStatsScreen.peek().isVisible()) {
             if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.ESCAPE)) {
-                characterStatsScreen.hide();
+                characterStatsScreen.peek().hide();
                 gamePaused = false;
                 Gdx.app.log("BoneChild", "Character stats closed with ESC, game resumed");
             }
@@ -552,25 +927,25 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         }
         
         // Inventory toggle (I / ESC while open)
-        if (inventoryUI != null && inventoryUI.isVisible()) {
+        if (inventoryUI.peek() != null && inventoryUI.peek().isVisible()) {
             if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.ESCAPE) ||
                 Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.I)) {
-                inventoryUI.hide();
+                inventoryUI.get().hide();
                 Gdx.app.log("BoneChild", "Inventory closed");
             }
             return; // Don't process other inputs while inventory is open
         }
         
         // Power-up screen open: ignore all inputs here
-        if (powerUpScreen != null && powerUpScreen.isVisible()) {
+        if (powerUpScreen.peek() != null && powerUpScreen.peek().isVisible()) {
             Gdx.app.log("BoneChild", "Power-up screen is open, ignoring other inputs");
             return;
         }
         
         // Boss warning screen active: SPACE dismisses it
-        if (bossWarningScreen != null && bossWarningScreen.isActive()) {
+        if (bossWarningScreen.peek() != null && bossWarningScreen.peek().isActive()) {
             if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.SPACE)) {
-                bossWarningScreen.dismiss();
+                bossWarningScreen.peek().dismiss();
                 gamePaused = false;
                 Gdx.app.log("BoneChild", "Boss warning dismissed!");
             }
@@ -578,35 +953,60 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         }
         
         // If settings screen is open, let it consume input (e.g., ESC) and ignore pause toggling here
-        if (settingsScreen != null && settingsScreen.isVisible()) {
+        if (isSettingsOpen()) {
             return;
         }
         
         // ESC toggles pause menu when game is running and no higher-priority UI is active
         if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.ESCAPE)) {
-            if (gamePaused && pauseMenu != null && pauseMenu.isVisible()) {
+            if (gamePaused && pauseMenu.peek() != null && pauseMenu.peek().isVisible()) {
                 gamePaused = false;
-                pauseMenu.hide();
+                pauseMenu.peek().hide();
                 Gdx.app.log("BoneChild", "Game resumed via ESC");
             } else if (!gamePaused) {
                 gamePaused = true;
-                pauseMenu.show();
+                pauseMenu.get().show();
                 Gdx.app.log("BoneChild", "Game paused");
             }
             return;
         }
         
-        // Finally, update player controls (only if game is not paused)
+        // Finally, read player controls (only if game is not paused); ticks consume them
         if (!gamePaused) {
-            playerInput.update();
+            playerInput.poll();
         }
     }
     
+    private boolean isSettingsOpen() {
+        return settingsScreen.peek() != null && settingsScreen.peek().isVisible();
+    }
+    
+    /**
+     * One fixed simulation tick
+     */
     private void update(float delta) {
+        // Input for this tick: live keyboard, or the recording being replayed
+        int input;
+        if (replay != null) {
+            input = replay.nextTick(this::applyReplayedPowerUp);
+            if (replay.isFinished()) {
+                return;
+            }
+        } else {
+            input = playerInput.sample();
+        }
+        
+        // Remember where everything was so rendering can blend toward the new state
+        interpolator.capture(worldManager.getPlayer(), worldManager.getMobs(),
+            worldManager.getProjectiles(), worldManager.getPickups());
+        
+        playerInput.apply(input);
+        
         // Update world (player, enemies, spawning)
         worldManager.update(delta);
         
         // Process collisions (projectile hits, mob contact damage, pickup collection)
+        FrameProfiler.begin(Phase.COLLISIONS);
         collisionSystem.process(
             delta,
             worldManager.getPlayer(),
@@ -614,9 +1014,51 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
             worldManager.getProjectiles(),
             worldManager.getPickups()
         );
+        FrameProfiler.end(Phase.COLLISIONS);
         
-        // Update UI
-        gameUI.update(delta);
+        if (recorder != null) {
+            recorder.recordTick(input, WorldChecksum.compute(worldManager));
+        } else if (replay != null) {
+            replay.verify(WorldChecksum.compute(worldManager));
+        }
+    }
+    
+    private void applyReplayedPowerUp(String powerUp) {
+        Gdx.app.log("BoneChild", "Replay power-up: " + powerUp);
+        worldManager.getPlayer().applyPowerUp(powerUp);
+    }
+    
+    /**
+     * Count replayed frames; once the recording is used up, log the summary and exit.
+     * Returns true when the replay has finished.
+     */
+    private boolean trackReplay() {
+        if (replayFrames++ == 0) {
+            replayStartNanos = System.nanoTime();
+        }
+        if (!replay.isFinished()) {
+            return false;
+        }
+        
+        float seconds = (System.nanoTime() - replayStartNanos) / 1_000_000_000f;
+        Gdx.app.log("BoneChild", "Replay finished: " + replay.getTick() + " ticks, " + replayFrames + " frames in "
+            + String.format(java.util.Locale.ROOT, "%.1f s (%.2f ms/frame)", seconds, seconds * 1000f / replayFrames));
+        if (replay.getMismatches() == 0) {
+            Gdx.app.log("BoneChild", "Replay matched the recording on every tick");
+        } else {
+            Gdx.app.error("BoneChild", "Replay diverged on " + replay.getMismatches() + " ticks, first at tick "
+                + replay.getFirstMismatchTick());
+        }
+        replay = null;
+        Gdx.app.exit();
+        return true;
+    }
+    
+    private void stopRecording() {
+        if (recorder != null) {
+            recorder.close();
+            recorder = null;
+        }
     }
     
     @Override
@@ -624,71 +1066,70 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         // Update viewport - this maintains consistent world view
         viewport.update(width, height, true);
         
-        if (menuScreen != null) {
-            menuScreen.resize(width, height);
+        if (uiContext != null) {
+            uiContext.resize(width, height);
+        }
+        if (screens == null) {
+            return; // Still on the loading screen
         }
         
-        if (settingsScreen != null) {
-            settingsScreen.resize(width, height);
+        // Only screens that are currently built need to follow the window
+        if (menuScreen.peek() != null) {
+            menuScreen.peek().resize(width, height);
+        }
+        if (settingsScreen.peek() != null) {
+            settingsScreen.peek().resize(width, height);
+        }
+        if (gameUI.peek() != null) {
+            gameUI.peek().resize(width, height);
+        }
+        if (pauseMenu.peek() != null) {
+            pauseMenu.peek().resize(width, height);
+        }
+        if (gameOverScreen.peek() != null) {
+            gameOverScreen.peek().resize(width, height);
+        }
+        if (powerUpScreen.peek() != null) {
+            powerUpScreen.peek().resize(width, height);
+        }
+        if (characterStatsScreen.peek() != null) {
+            characterStatsScreen.peek().resize(width, height);
+        }
+        // BossWarningScreen does not currently need explicit resize
+        if (inventoryUI.peek() != null) {
+            inventoryUI.peek().resize(width, height);
         }
         
-        if (gameStarted) {
-            if (renderer != null) {
-                renderer.resize(width, height);
-            }
-            if (gameUI != null) {
-                gameUI.resize(width, height);
-            }
-            if (pauseMenu != null) {
-                pauseMenu.resize(width, height);
-            }
-            if (gameOverScreen != null) {
-                gameOverScreen.resize(width, height);
-            }
-            if (powerUpScreen != null) {
-                powerUpScreen.resize(width, height);
-            }
-            if (characterStatsScreen != null) {
-                characterStatsScreen.resize(width, height);
-            }
-            // BossWarningScreen does not currently need explicit resize
-            if (inventoryUI != null) {
-                inventoryUI.resize(width, height);
-            }
+        if (gameStarted && renderer != null) {
+            renderer.resize(width, height);
         }
     }
     
     @Override
     public void dispose() {
         Gdx.app.log("BoneChild", "Disposing game resources...");
+        stopRecording();
+        AllocationProfiler.stopCsv();
         
-        if (menuScreen != null) {
-            menuScreen.dispose();
+        if (loadingScreen != null) {
+            loadingScreen.dispose();
         }
         
-        if (gameStarted) {
-            if (renderer != null) {
-                renderer.dispose();
-            }
-            if (gameUI != null) {
-                gameUI.dispose();
-            }
-            if (pauseMenu != null) {
-                pauseMenu.dispose();
-            }
-            if (gameOverScreen != null) {
-                gameOverScreen.dispose();
-            }
-            if (bossWarningScreen != null) {
-                bossWarningScreen.dispose();
-            }
-            if (inventoryUI != null) {
-                inventoryUI.dispose();
-            }
+        // Every screen still built, whether or not a game is running
+        if (screens != null) {
+            screens.dispose();
+        }
+        
+        if (renderer != null) {
+            renderer.dispose();
+        }
+        
+        if (worldManager != null) {
+            worldManager.dispose();
         }
         
-        if (settingsScreen != null) {
-            settingsScreen.dispose();
+        if (uiContext != null) {
+            uiContext.dispose();
         }
         
         if (assets != null) {
@@ -696,5 +1137,6 @@ public class BoneChildGame extends ApplicationAdapter implements MenuScreen.Menu
         }
         
         Gdx.app.log("BoneChild", "Game disposed successfully!");
+        Log.shutdown(); // Flush queued gameplay log lines
     }
 }
@@ -0,0 +1,125 @@
+package com.bonechild;
+
+import com.bonechild.assets.AssetRegistry;
+import com.bonechild.logging.Log;
+
+/**
+ * Command line options for the desktop launcher.
+ *
+ * Supported flags:
+ *   --tick-rate=N   simulation ticks per second (default 60)
+ *   --max-steps=N   most simulation ticks run in a single frame (default 5)
+ *   --seed=N        seed every run with N so it can be reproduced (default: clock)
+ *   --record=FILE   record each new run's inputs for replay
+ *   --replay=FILE   replay a recording instead of reading the keyboard, then exit
+ *   --log-level=L   debug, info, error or none (default info)
+ *   --log-file=FILE also append log lines to FILE (written on a background thread)
+ *   --mob-threads=N update mobs on N worker threads (default: serially on the game thread)
+ *   --alloc-csv=FILE write per-phase allocation rates (bytes/s) to FILE once a second
+ *   --texture-budget-mb=N evict unused on-demand textures above N MB (default 256)
+ *   --stages-dir=DIR read stages from DIR (e.g. stages/src/main/resources/stages) and
+ *                   reload a stage file when it is saved
+ *   --endless       play the endless horde and log FPS and phase costs at mob count milestones
+ *   --no-death      the player stops at 1 HP instead of dying
+ */
+public class LaunchOptions {
+    private int tickRate = BoneChildGame.DEFAULT_TICK_RATE;
+    private int maxStepsPerFrame = BoneChildGame.DEFAULT_MAX_STEPS_PER_FRAME;
+    private Long seed;
+    private String recordPath;
+    private String replayPath;
+    private int logLevel = Log.INFO;
+    private String logFile;
+    private int mobThreads;
+    private String allocationCsv;
+    private long textureBudgetBytes = AssetRegistry.DEFAULT_TEXTURE_BUDGET;
+    private String stagesDirectory;
+    private boolean endless;
+    private boolean deathDisabled;
+
+    public static LaunchOptions parse(String[] args) {
+        LaunchOptions options = new LaunchOptions();
+        for (String arg : args) {
+            if (arg.startsWith("--tick-rate=")) {
+                options.tickRate = parsePositive(arg, "--tick-rate=");
+            } else if (arg.startsWith("--max-steps=")) {
+                options.maxStepsPerFrame = parsePositive(arg, "--max-steps=");
+            } else if (arg.startsWith("--seed=")) {
+                options.seed = parseSeed(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--record=")) {
+                options.recordPath = arg.substring("--record=".length());
+            } else if (arg.startsWith("--replay=")) {
+                options.replayPath = arg.substring("--replay=".length());
+            } else if (arg.startsWith("--log-level=")) {
+                options.logLevel = parseLogLevel(arg.substring("--log-level=".length()));
+            } else if (arg.startsWith("--log-file=")) {
+                options.logFile = arg.substring("--log-file=".length());
+            } else if (arg.startsWith("--mob-threads=")) {
+                options.mobThreads = parsePositive(arg, "--mob-threads=");
+            } else if (arg.startsWith("--alloc-csv=")) {
+                options.allocationCsv = arg.substring("--alloc-csv=".length());
+            } else if (arg.startsWith("--texture-budget-mb=")) {
+                options.textureBudgetBytes = parsePositive(arg, "--texture-budget-mb=") * 1024L * 1024L;
+            } else if (arg.startsWith("--stages-dir=")) {
+                options.stagesDirectory = arg.substring("--stages-dir=".length());
+            } else if (arg.equals("--endless")) {
+                options.endless = true;
+            } else if (arg.equals("--no-death")) {
+                options.deathDisabled = true;
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (options.recordPath != null && options.replayPath != null) {
+            throw new IllegalArgumentException("--record= and --replay= cannot be used together");
+        }
+        return options;
+    }
+
+    private static int parsePositive(String arg, String prefix) {
+        String value = arg.substring(prefix.length());
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(prefix + " must be positive, got " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(prefix + " expects a number, got " + value);
+        }
+    }
+
+    private static int parseLogLevel(String value) {
+        switch (value.toLowerCase(java.util.Locale.ROOT)) {
+            case "debug": return Log.DEBUG;
+            case "info": return Log.INFO;
+            case "error": return Log.ERROR;
+            case "none": return Log.NONE;
+            default:
+                throw new IllegalArgumentException("--log-level= expects debug, info, error or none, got " + value);
+        }
+    }
+
+    private static long parseSeed(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--seed= expects a number, got " + value);
+        }
+    }
+
+    public int getTickRate() { return tickRate; }
+    public int getMaxStepsPerFrame() { return maxStepsPerFrame; }
+    public boolean hasSeed() { return seed != null; }
+    public long getSeed() { return seed; }
+    public String getRecordPath() { return recordPath; }
+    public String getReplayPath() { return replayPath; }
+    public int getLogLevel() { return logLevel; }
+    public String getLogFile() { return logFile; }
+    public int getMobThreads() { return mobThreads; }
+    public String getAllocationCsv() { return allocationCsv; }
+    public long getTextureBudgetBytes() { return textureBudgetBytes; }
+    public String getStagesDirectory() { return stagesDirectory; }
+    public boolean isEndless() { return endless; }
+    public boolean isDeathDisabled() { return deathDisabled; }
+}
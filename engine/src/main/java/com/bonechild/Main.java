@@ -2,12 +2,23 @@ package com.bonechild;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.bonechild.logging.Log;
+import com.bonechild.stages.StageRepository;
+
+import java.io.File;
 
 /**
  * Main entry point for BoneChild game
  */
 public class Main {
     public static void main(String[] args) {
+        LaunchOptions options = LaunchOptions.parse(args);
+        Log.setLevel(options.getLogLevel());
+        Log.setFile(options.getLogFile());
+        if (options.getStagesDirectory() != null) {
+            StageRepository.setDevelopmentDirectory(new File(options.getStagesDirectory()));
+        }
+        
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
         
         // Window configuration
@@ -15,13 +26,25 @@ public class Main {
         config.setWindowedMode(1280, 720);
         config.setResizable(true);
         
-        // Performance settings
+        // Performance settings - render at the display's refresh rate; the simulation
+        // runs at its own fixed tick rate and rendering interpolates between ticks
         config.useVsync(true);
-        config.setForegroundFPS(60);
+        config.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
         
         // Window icon (optional - uncomment when icon is available)
         // config.setWindowIcon("icon.png");
         
-        new Lwjgl3Application(new BoneChildGame(), config);
+        BoneChildGame game = new BoneChildGame(options.getTickRate(), options.getMaxStepsPerFrame());
+        if (options.hasSeed()) {
+            game.setRunSeed(options.getSeed());
+        }
+        game.setRecordPath(options.getRecordPath());
+        game.setReplayPath(options.getReplayPath());
+        game.setMobThreads(options.getMobThreads());
+        game.setAllocationCsvPath(options.getAllocationCsv());
+        game.setTextureBudget(options.getTextureBudgetBytes());
+        game.setEndless(options.isEndless());
+        game.setDeathDisabled(options.isDeathDisabled());
+        new Lwjgl3Application(game, config);
     }
 }
@@ -1,12 +1,13 @@
 package com.bonechild.collision;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.bonechild.monsters.api.MobEntity;
 import com.bonechild.playablecharacters.Pickup;
 import com.bonechild.playablecharacters.Player;
 import com.bonechild.playablecharacters.Projectile;
+import com.bonechild.random.RandomStream;
+import com.bonechild.logging.Log;
 
 /**
  * Engine-level collision coordinator.
@@ -22,13 +23,15 @@ public class CollisionSystem {
     
     /**
      * Callback interface for spawning pickups
-     * This allows CollisionSystem to spawn loot without depending on WorldManager
+     * This allows CollisionSystem to spawn loot without depending on WorldManager,
+     * which takes the pickup from its pool
      */
     public interface PickupSpawner {
-        void spawnPickup(Pickup pickup);
+        void spawnPickup(float x, float y, Pickup.PickupType type, float value);
     }
     
     private PickupSpawner pickupSpawner;
+    private RandomStream lootRandom = new RandomStream(System.nanoTime());
 
     /**
      * Set the pickup spawner callback (injected by BoneChildGame)
@@ -37,6 +40,13 @@ public class CollisionSystem {
         this.pickupSpawner = spawner;
     }
 
+    /**
+     * Use the run's seeded loot stream for drop chances (injected by BoneChildGame)
+     */
+    public void setLootRandom(RandomStream lootRandom) {
+        this.lootRandom = lootRandom;
+    }
+
     /**
      * Process all world collisions.
      *
@@ -103,7 +113,9 @@ public class CollisionSystem {
                     projectile.deactivate();
 
                     // Basic log (effects/particles handled elsewhere)
-                    Gdx.app.log("CollisionSystem", "Projectile hit mob: " + mob.getTypeId() + " dmg=" + projectile.getDamage());
+                    if (Log.isDebugEnabled()) {
+                        Log.debug("CollisionSystem", "Projectile hit mob: {} dmg={}", mob.getTypeId(), projectile.getDamage());
+                    }
 
                     // If mob died, give player streak AND spawn loot
                     if (wasAlive && mob.isDead()) {
@@ -129,23 +141,20 @@ public class CollisionSystem {
 
         // Always drop XP (scaled by player's kill streak multiplier)
         float xpAmount = 10f * player.getKillStreakMultiplier();
-        Pickup xpOrb = new Pickup(mobCenterX, mobCenterY, Pickup.PickupType.XP_ORB, xpAmount);
-        pickupSpawner.spawnPickup(xpOrb);
+        pickupSpawner.spawnPickup(mobCenterX, mobCenterY, Pickup.PickupType.XP_ORB, xpAmount);
 
         // 50% chance to drop gold (also scaled by streak)
-        if (Math.random() < 0.5f) {
+        if (lootRandom.chance(0.5f)) {
             int goldAmount = (int)(5f * player.getKillStreakMultiplier());
-            Pickup goldCoin = new Pickup(mobCenterX + 10f, mobCenterY, Pickup.PickupType.GOLD_COIN, goldAmount);
-            pickupSpawner.spawnPickup(goldCoin);
+            pickupSpawner.spawnPickup(mobCenterX + 10f, mobCenterY, Pickup.PickupType.GOLD_COIN, goldAmount);
         }
 
         // 10% chance to drop health orb
-        if (Math.random() < 0.1f) {
-            Pickup healthOrb = new Pickup(mobCenterX - 10f, mobCenterY, Pickup.PickupType.HEALTH_ORB, 20f);
-            pickupSpawner.spawnPickup(healthOrb);
+        if (lootRandom.chance(0.1f)) {
+            pickupSpawner.spawnPickup(mobCenterX - 10f, mobCenterY, Pickup.PickupType.HEALTH_ORB, 20f);
         }
 
-        Gdx.app.log("CollisionSystem", "Spawned loot for " + mob.getTypeId());
+        Log.debug("CollisionSystem", "Spawned loot for {}", mob.getTypeId());
     }
 
     private void processMobContactDamage(Player player, Array<MobEntity> mobs) {
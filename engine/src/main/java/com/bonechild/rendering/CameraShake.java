@@ -1,7 +1,7 @@
 package com.bonechild.rendering;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import java.util.Random;
+import com.bonechild.random.RandomStream;
 
 /**
  * Camera shake effect for impactful visual feedback
@@ -12,13 +12,13 @@ public class CameraShake {
     private float intensity;
     private float duration;
     private float timer;
-    private Random random;
+    private RandomStream random;
     
     private float originalX;
     private float originalY;
     
-    public CameraShake() {
-        this.random = new Random();
+    public CameraShake(RandomStream random) {
+        this.random = random;
         this.intensity = 0;
         this.duration = 0;
         this.timer = 0;
@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.bonechild.random.RandomStream;
 
 /**
  * EPIC floating damage number with bounce and scale animations!
@@ -26,10 +27,10 @@ public class DamageNumber {
     private float rotationSpeed;
     private float bounceTimer;
     
-    public DamageNumber(float x, float y, float damage, boolean isCritical) {
+    public DamageNumber(float x, float y, float damage, boolean isCritical, RandomStream random) {
         this.position = new Vector2(x, y);
         this.velocity = new Vector2(
-            MathUtils.random(-20f, 20f), 
+            random.range(-20f, 20f), 
             isCritical ? 120f : 80f  // Crits pop up faster!
         );
         this.text = String.format("%.0f", damage);
@@ -42,8 +43,8 @@ public class DamageNumber {
         // Epic animation values
         this.scale = 0.5f;
         this.targetScale = isCritical ? 1.3f : 1.0f;
-        this.rotation = MathUtils.random(-15f, 15f);
-        this.rotationSpeed = MathUtils.random(-180f, 180f);
+        this.rotation = random.range(-15f, 15f);
+        this.rotationSpeed = random.range(-180f, 180f);
         this.bounceTimer = 0f;
     }
     
@@ -86,6 +87,13 @@ public class DamageNumber {
     }
     
     public void render(SpriteBatch batch, BitmapFont font) {
+        render(batch, font, 1f);
+    }
+
+    /**
+     * Render with an extra scale factor for fonts baked larger than the default 15px font
+     */
+    public void render(SpriteBatch batch, BitmapFont font, float fontScale) {
         if (!active) return;
         
         // Save original state
@@ -94,7 +102,7 @@ public class DamageNumber {
         
         // Bouncy scale with sine wave
         float bounce = 1f + MathUtils.sin(bounceTimer * 8f) * 0.1f;
-        float finalScale = scale * bounce * 0.7f;
+        float finalScale = scale * bounce * 0.7f * fontScale;
         font.getData().setScale(finalScale);
         
         // Calculate text dimensions for centering
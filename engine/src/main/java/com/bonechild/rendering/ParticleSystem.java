@@ -7,6 +7,8 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
+import com.bonechild.assets.GpuMemory;
+import com.bonechild.random.RandomStream;
 
 /**
  * ENHANCED particle system with MAXIMUM JUICE! 🎨✨
@@ -15,15 +17,23 @@ public class ParticleSystem {
     private Array<Particle> particles;
     private ShapeRenderer shapeRenderer;
     private OrthographicCamera camera;
+    private final RandomStream random;
     private static final int MAX_PARTICLES = 1000; // MOAR PARTICLES!
     
-    public ParticleSystem(OrthographicCamera camera) {
+    public ParticleSystem(OrthographicCamera camera, RandomStream random) {
+        this(camera, random, MAX_PARTICLES);
+    }
+    
+    /**
+     * @param maxParticles particles pre-allocated; spawns beyond this are dropped
+     */
+    public ParticleSystem(OrthographicCamera camera, RandomStream random, int maxParticles) {
         this.camera = camera;
-        this.particles = new Array<>(MAX_PARTICLES);
-        this.shapeRenderer = new ShapeRenderer();
+        this.random = random;
+        this.particles = new Array<>(maxParticles);
         
         // Pre-allocate particles
-        for (int i = 0; i < MAX_PARTICLES; i++) {
+        for (int i = 0; i < maxParticles; i++) {
             particles.add(new Particle());
         }
     }
@@ -37,6 +47,11 @@ public class ParticleSystem {
     }
     
     public void render() {
+        // Created on first draw, so spawning and updating work without a GL context
+        if (shapeRenderer == null) {
+            shapeRenderer = new ShapeRenderer();
+            GpuMemory.trackShapeRenderer(shapeRenderer, "effects", "particles");
+        }
         shapeRenderer.setProjectionMatrix(camera.combined);
         
         Gdx.gl.glEnable(GL20.GL_BLEND);
@@ -61,13 +76,13 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = (360f / count) * i + MathUtils.random(-10f, 10f);
-            float speed = MathUtils.random(80f, 180f);
+            float angle = (360f / count) * i + random.range(-10f, 10f);
+            float speed = random.range(80f, 180f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
-            p.spawn(x, y, vx, vy, color, MathUtils.random(3f, 6f), 
-                   MathUtils.random(0.4f, 0.8f), -250f, Particle.ParticleShape.CIRCLE);
+            p.spawn(x, y, vx, vy, color, random.range(3f, 6f), 
+                   random.range(0.4f, 0.8f), -250f, Particle.ParticleShape.CIRCLE);
         }
         
         // Add extra sparks for juice!
@@ -75,8 +90,8 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = MathUtils.random(360f);
-            float speed = MathUtils.random(120f, 250f);
+            float angle = random.nextFloat(360f);
+            float speed = random.range(120f, 250f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
@@ -85,8 +100,8 @@ public class ParticleSystem {
             sparkColor.g = Math.min(1f, sparkColor.g + 0.3f);
             sparkColor.b = Math.min(1f, sparkColor.b + 0.3f);
             
-            p.spawn(x, y, vx, vy, sparkColor, MathUtils.random(1.5f, 3f), 
-                   MathUtils.random(0.2f, 0.4f), -150f, Particle.ParticleShape.SPARK);
+            p.spawn(x, y, vx, vy, sparkColor, random.range(1.5f, 3f), 
+                   random.range(0.2f, 0.4f), -150f, Particle.ParticleShape.SPARK);
         }
     }
     
@@ -101,15 +116,15 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = MathUtils.random(360f);
-            float speed = MathUtils.random(100f, 250f);
+            float angle = random.nextFloat(360f);
+            float speed = random.range(100f, 250f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
             Color color = i % 2 == 0 ? bloodColor : darkBlood;
             
-            p.spawn(x, y, vx, vy, color, MathUtils.random(4f, 8f), 
-                   MathUtils.random(0.5f, 1.0f), -400f, Particle.ParticleShape.CIRCLE);
+            p.spawn(x, y, vx, vy, color, random.range(4f, 8f), 
+                   random.range(0.5f, 1.0f), -400f, Particle.ParticleShape.CIRCLE);
         }
     }
     
@@ -126,12 +141,12 @@ public class ParticleSystem {
             if (p == null) break;
             
             float angle = (360f / 20f) * i;
-            float speed = MathUtils.random(150f, 300f);
+            float speed = random.range(150f, 300f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
-            p.spawn(x, y, vx, vy, goldColor, MathUtils.random(4f, 7f), 
-                   MathUtils.random(0.6f, 1.0f), -200f, Particle.ParticleShape.SQUARE);
+            p.spawn(x, y, vx, vy, goldColor, random.range(4f, 7f), 
+                   random.range(0.6f, 1.0f), -200f, Particle.ParticleShape.SQUARE);
         }
         
         // Orange sparks
@@ -139,13 +154,13 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = MathUtils.random(360f);
-            float speed = MathUtils.random(200f, 400f);
+            float angle = random.nextFloat(360f);
+            float speed = random.range(200f, 400f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
-            p.spawn(x, y, vx, vy, orangeColor, MathUtils.random(2f, 4f), 
-                   MathUtils.random(0.3f, 0.6f), -100f, Particle.ParticleShape.SPARK);
+            p.spawn(x, y, vx, vy, orangeColor, random.range(2f, 4f), 
+                   random.range(0.3f, 0.6f), -100f, Particle.ParticleShape.SPARK);
         }
     }
     
@@ -157,13 +172,13 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = MathUtils.random(360f);
-            float speed = MathUtils.random(150f, 300f);
+            float angle = random.nextFloat(360f);
+            float speed = random.range(150f, 300f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
-            p.spawn(x, y, vx, vy, color, MathUtils.random(2f, 4f), 
-                   MathUtils.random(0.3f, 0.6f), -150f, Particle.ParticleShape.SPARK);
+            p.spawn(x, y, vx, vy, color, random.range(2f, 4f), 
+                   random.range(0.3f, 0.6f), -150f, Particle.ParticleShape.SPARK);
         }
     }
     
@@ -179,15 +194,15 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = MathUtils.random(360f);
-            float speed = MathUtils.random(100f, 250f);
+            float angle = random.nextFloat(360f);
+            float speed = random.range(100f, 250f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed + 200f; // Bias upward!
             
             Color color = i % 3 == 0 ? whiteColor : goldColor;
             
-            p.spawn(x, y, vx, vy, color, MathUtils.random(4f, 9f), 
-                   MathUtils.random(1.0f, 1.5f), -120f, Particle.ParticleShape.SQUARE);
+            p.spawn(x, y, vx, vy, color, random.range(4f, 9f), 
+                   random.range(1.0f, 1.5f), -120f, Particle.ParticleShape.SQUARE);
         }
         
         // Sparkles
@@ -195,13 +210,13 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = MathUtils.random(360f);
-            float speed = MathUtils.random(150f, 350f);
+            float angle = random.nextFloat(360f);
+            float speed = random.range(150f, 350f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed + 150f;
             
-            p.spawn(x, y, vx, vy, whiteColor, MathUtils.random(2f, 4f), 
-                   MathUtils.random(0.5f, 1.0f), -80f, Particle.ParticleShape.SPARK);
+            p.spawn(x, y, vx, vy, whiteColor, random.range(2f, 4f), 
+                   random.range(0.5f, 1.0f), -80f, Particle.ParticleShape.SPARK);
         }
     }
     
@@ -219,12 +234,12 @@ public class ParticleSystem {
             
             float offsetX = facingRight ? -i * 8f : i * 8f;
             float vx = facingRight ? -150f : 150f;
-            float vy = MathUtils.random(-40f, 40f);
+            float vy = random.range(-40f, 40f);
             
             Color color = i % 2 == 0 ? trailColor : brightColor;
             
-            p.spawn(x + offsetX, y + MathUtils.random(0f, 40f), 
-                   vx, vy, color, MathUtils.random(6f, 12f), 
+            p.spawn(x + offsetX, y + random.range(0f, 40f), 
+                   vx, vy, color, random.range(6f, 12f), 
                    0.5f, 0f, Particle.ParticleShape.CIRCLE);
         }
         
@@ -233,13 +248,13 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = facingRight ? MathUtils.random(120f, 240f) : MathUtils.random(-60f, 60f);
-            float speed = MathUtils.random(80f, 180f);
+            float angle = facingRight ? random.range(120f, 240f) : random.range(-60f, 60f);
+            float speed = random.range(80f, 180f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
-            p.spawn(x, y + MathUtils.random(0f, 30f), vx, vy, brightColor, 
-                   MathUtils.random(2f, 4f), 0.4f, -100f, Particle.ParticleShape.SPARK);
+            p.spawn(x, y + random.range(0f, 30f), vx, vy, brightColor, 
+                   random.range(2f, 4f), 0.4f, -100f, Particle.ParticleShape.SPARK);
         }
     }
     
@@ -254,13 +269,13 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float vx = MathUtils.random(-60f, 60f);
-            float vy = MathUtils.random(80f, 180f); // Float upward!
+            float vx = random.range(-60f, 60f);
+            float vy = random.range(80f, 180f); // Float upward!
             
             Color color = i % 2 == 0 ? healColor : glowColor;
             
-            p.spawn(x + MathUtils.random(-20f, 20f), y, vx, vy, color, 
-                   MathUtils.random(4f, 7f), MathUtils.random(0.8f, 1.2f), 
+            p.spawn(x + random.range(-20f, 20f), y, vx, vy, color, 
+                   random.range(4f, 7f), random.range(0.8f, 1.2f), 
                    -60f, Particle.ParticleShape.CIRCLE);
         }
     }
@@ -275,12 +290,12 @@ public class ParticleSystem {
             if (p == null) break;
             
             float angle = (360f / 16f) * i;
-            float speed = MathUtils.random(120f, 220f);
+            float speed = random.range(120f, 220f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
-            p.spawn(x, y, vx, vy, color, MathUtils.random(4f, 8f), 
-                   MathUtils.random(0.5f, 0.8f), -200f, Particle.ParticleShape.CIRCLE);
+            p.spawn(x, y, vx, vy, color, random.range(4f, 8f), 
+                   random.range(0.5f, 0.8f), -200f, Particle.ParticleShape.CIRCLE);
         }
         
         // Sparks
@@ -288,8 +303,8 @@ public class ParticleSystem {
             Particle p = getInactiveParticle();
             if (p == null) break;
             
-            float angle = MathUtils.random(360f);
-            float speed = MathUtils.random(180f, 320f);
+            float angle = random.nextFloat(360f);
+            float speed = random.range(180f, 320f);
             float vx = MathUtils.cosDeg(angle) * speed;
             float vy = MathUtils.sinDeg(angle) * speed;
             
@@ -298,8 +313,8 @@ public class ParticleSystem {
             sparkColor.g = Math.min(1f, sparkColor.g + 0.4f);
             sparkColor.b = Math.min(1f, sparkColor.b + 0.4f);
             
-            p.spawn(x, y, vx, vy, sparkColor, MathUtils.random(2f, 4f), 
-                   MathUtils.random(0.3f, 0.5f), -100f, Particle.ParticleShape.SPARK);
+            p.spawn(x, y, vx, vy, sparkColor, random.range(2f, 4f), 
+                   random.range(0.3f, 0.5f), -100f, Particle.ParticleShape.SPARK);
         }
     }
     
@@ -313,6 +328,9 @@ public class ParticleSystem {
     }
     
     public void dispose() {
-        shapeRenderer.dispose();
+        if (shapeRenderer != null) {
+            GpuMemory.untrack(shapeRenderer);
+            shapeRenderer.dispose();
+        }
     }
 }
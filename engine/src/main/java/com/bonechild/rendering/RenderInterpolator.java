@@ -0,0 +1,86 @@
+package com.bonechild.rendering;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.playablecharacters.Pickup;
+import com.bonechild.playablecharacters.Player;
+import com.bonechild.playablecharacters.Projectile;
+
+/**
+ * Smooths rendering between fixed simulation ticks.
+ *
+ * Before every tick, capture() stores each entity's position as its previous position.
+ * At render time, apply() temporarily moves every entity to the blend of its previous and
+ * current position, so all existing render code draws the interpolated state unchanged.
+ * restore() must be called once rendering is done, before any game logic runs again.
+ */
+public class RenderInterpolator {
+    // Live positions moved by apply(), and their real coordinates saved as x,y pairs
+    private final Array<Vector2> moved = new Array<>(false, 256);
+    private final FloatArray saved = new FloatArray(512);
+
+    /**
+     * Record the start-of-tick position of every entity
+     */
+    public void capture(Player player, Array<MobEntity> mobs, Array<Projectile> projectiles, Array<Pickup> pickups) {
+        if (player != null) {
+            player.capturePreviousPosition();
+        }
+        for (int i = 0; i < mobs.size; i++) {
+            mobs.get(i).capturePreviousPosition();
+        }
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).capturePreviousPosition();
+        }
+        for (int i = 0; i < pickups.size; i++) {
+            pickups.get(i).capturePreviousPosition();
+        }
+    }
+
+    /**
+     * Move every entity to its interpolated render position (alpha 0 = previous tick, 1 = latest)
+     */
+    public void apply(float alpha, Player player, Array<MobEntity> mobs, Array<Projectile> projectiles, Array<Pickup> pickups) {
+        restore();
+        if (alpha >= 1f) return;
+
+        if (player != null) {
+            blend(player.getPosition(), player.getPreviousPosition(), alpha);
+        }
+        for (int i = 0; i < mobs.size; i++) {
+            MobEntity mob = mobs.get(i);
+            blend(mob.getPosition(), mob.getPreviousPosition(), alpha);
+        }
+        for (int i = 0; i < projectiles.size; i++) {
+            Projectile projectile = projectiles.get(i);
+            blend(projectile.getPosition(), projectile.getPreviousPosition(), alpha);
+        }
+        for (int i = 0; i < pickups.size; i++) {
+            Pickup pickup = pickups.get(i);
+            blend(pickup.getPosition(), pickup.getPreviousPosition(), alpha);
+        }
+    }
+
+    private void blend(Vector2 position, Vector2 previous, float alpha) {
+        if (position.x == previous.x && position.y == previous.y) return;
+        moved.add(position);
+        saved.add(position.x, position.y);
+        position.set(
+            previous.x + (position.x - previous.x) * alpha,
+            previous.y + (position.y - previous.y) * alpha
+        );
+    }
+
+    /**
+     * Put every entity back at its real simulation position
+     */
+    public void restore() {
+        for (int i = 0; i < moved.size; i++) {
+            moved.get(i).set(saved.get(i * 2), saved.get(i * 2 + 1));
+        }
+        moved.clear();
+        saved.clear();
+    }
+}
@@ -7,26 +7,34 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.bonechild.assets.GpuMemory;
 import com.bonechild.monsters.api.MobEntity;
 import com.bonechild.playablecharacters.Player;
 import com.bonechild.playablecharacters.Pickup;
 import com.bonechild.playablecharacters.GhostSprite;
 import com.bonechild.playablecharacters.Projectile;
+import com.bonechild.random.RandomStream;
 import com.bonechild.world.TileMap;
 
 /**
  * Handles rendering of all game objects
  */
 public class Renderer {
+    private static final int DAMAGE_FONT_SIZE = 20;
+    private static final String DAMAGE_FONT_ID = "damage_" + DAMAGE_FONT_SIZE;
+
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
     private OrthographicCamera camera;
     private Assets assets;
+    private RandomStream random; // Cosmetic stream: particles, damage numbers, shake, tile variety
     private float deltaTime;
     private TileMap tileMap;
     private CameraShake cameraShake;
     private Array<DamageNumber> damageNumbers;
     private BitmapFont damageFont;
+    private boolean ownsDamageFont;
+    private float damageFontScale;
     private ParticleSystem particleSystem; // NEW: Particle system
     private ScreenEffects screenEffects; // EPIC: Screen effects for maximum juice!
     
@@ -36,26 +44,38 @@ public class Renderer {
     private Animation playerHurtAnimation;
     private Animation playerDeathAnimation;
     
-    public Renderer(OrthographicCamera camera, Assets assets) {
+    public Renderer(OrthographicCamera camera, Assets assets, RandomStream random) {
         this.camera = camera;
         this.assets = assets;
+        this.random = random;
         this.batch = new SpriteBatch();
         this.shapeRenderer = new ShapeRenderer();
+        GpuMemory.trackSpriteBatch(batch, "renderer", "world batch");
+        GpuMemory.trackShapeRenderer(shapeRenderer, "renderer", "world shapes");
         this.deltaTime = 0;
-        this.cameraShake = new CameraShake();
+        this.cameraShake = new CameraShake(random);
         this.damageNumbers = new Array<>();
-        this.particleSystem = new ParticleSystem(camera); // Fixed: Pass camera to constructor
+        this.particleSystem = new ParticleSystem(camera, random); // Fixed: Pass camera to constructor
         this.screenEffects = new ScreenEffects(camera); // EPIC: Initialize screen effects!
         
-        // Create damage number font with proper scaling for world coordinates
-        this.damageFont = new BitmapFont();
-        this.damageFont.getData().setScale(0.5f); // Smaller scale for world coordinates
-        
         var registry = assets.getRegistry();
 
+        // Damage numbers use the baked bold atlas; fall back to the default font if it is missing
+        if (registry.hasFont(DAMAGE_FONT_ID)) {
+            this.damageFont = registry.getFont(DAMAGE_FONT_ID);
+            this.ownsDamageFont = false;
+            this.damageFontScale = 15f / DAMAGE_FONT_SIZE;
+        } else {
+            this.damageFont = new BitmapFont();
+            GpuMemory.trackFont(damageFont, "renderer", "fallback damage font");
+            this.ownsDamageFont = true;
+            this.damageFontScale = 1f;
+        }
+        this.damageFont.setUseIntegerPositions(false);
+
         // Create tile map when tileset is loaded
         if (registry.hasTexture("tileset")) {
-            this.tileMap = new TileMap(registry.getTexture("tileset"), 16); // Changed from 32 to 16 for Dungeon_Tileset
+            this.tileMap = new TileMap(registry.getTexture("tileset"), 16, random); // Changed from 32 to 16 for Dungeon_Tileset
         }
         
         // Create separate player animation instances using registry
@@ -65,6 +85,13 @@ public class Renderer {
         playerDeathAnimation = registry.getAnimation("player_death");
     }
     
+    /**
+     * Render calls issued by the world batch since this renderer was created
+     */
+    public int getTotalRenderCalls() {
+        return batch.totalRenderCalls;
+    }
+    
     /**
      * Set delta time for animations
      */
@@ -438,7 +465,7 @@ public class Renderer {
             batch.begin();
             for (DamageNumber dn : damageNumbers) {
                 if (dn.isActive()) {
-                    dn.render(batch, damageFont);
+                    dn.render(batch, damageFont, damageFontScale);
                 }
             }
             batch.end();
@@ -477,12 +504,15 @@ public class Renderer {
      */
     public void dispose() {
         if (batch != null) {
+            GpuMemory.untrack(batch);
             batch.dispose();
         }
         if (shapeRenderer != null) {
+            GpuMemory.untrack(shapeRenderer);
             shapeRenderer.dispose();
         }
-        if (damageFont != null) {
+        if (damageFont != null && ownsDamageFont) {
+            GpuMemory.untrackFont(damageFont);
             damageFont.dispose();
         }
     }
@@ -494,7 +524,7 @@ public class Renderer {
      * Spawn damage number at location
      */
     public void spawnDamageNumber(float x, float y, float damage, boolean isCritical) {
-        damageNumbers.add(new DamageNumber(x, y, damage, isCritical));
+        damageNumbers.add(new DamageNumber(x, y, damage, isCritical, random));
     }
     
     // NEW: Particle effect methods
@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.bonechild.assets.GpuMemory;
 
 /**
  * Epic screen effects for maximum juice!
@@ -32,6 +33,7 @@ public class ScreenEffects {
     public ScreenEffects(OrthographicCamera camera) {
         this.camera = camera;
         this.shapeRenderer = new ShapeRenderer();
+        GpuMemory.trackShapeRenderer(shapeRenderer, "effects", "screen effects");
     }
     
     public void update(float delta) {
@@ -171,6 +173,7 @@ public class ScreenEffects {
     }
     
     public void dispose() {
+        GpuMemory.untrack(shapeRenderer);
         shapeRenderer.dispose();
     }
 }
@@ -0,0 +1,96 @@
+package com.bonechild.replay;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a run's inputs to a compact binary file for deterministic replay.
+ *
+ * File layout (gzip-compressed):
+ *   header:  magic "BCRP", version, run seed, tick rate
+ *   records: TICK (input bits, world checksum after the tick)
+ *            POWER_UP (power-up name, applied before the next tick)
+ *            END
+ *
+ * Only the run seed, the per-tick input bits and the power-up choices are needed to
+ * rebuild the run; checksums let InputReplay verify it stays in lockstep.
+ */
+public class InputRecorder {
+    static final int MAGIC = 0x42435250; // "BCRP"
+    static final short VERSION = 1;
+    static final byte RECORD_TICK = 0;
+    static final byte RECORD_POWER_UP = 1;
+    static final byte RECORD_END = 2;
+
+    private final String path;
+    private DataOutputStream out;
+    private long ticks;
+
+    public InputRecorder(String path, long seed, int tickRate) throws IOException {
+        this.path = path;
+        this.out = new DataOutputStream(new BufferedOutputStream(
+            new GZIPOutputStream(new FileOutputStream(path))));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(seed);
+        out.writeInt(tickRate);
+        Gdx.app.log("InputRecorder", "Recording to " + path + " (seed " + seed + ", " + tickRate + " Hz)");
+    }
+
+    /**
+     * Record the input bits used for a tick and the world checksum after it
+     */
+    public void recordTick(int input, int checksum) {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_TICK);
+            out.writeByte(input);
+            out.writeInt(checksum);
+            ticks++;
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Record a power-up chosen on the level-up screen (applies before the next tick)
+     */
+    public void recordPowerUp(String powerUp) {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_POWER_UP);
+            out.writeUTF(powerUp);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    public void close() {
+        if (out == null) return;
+        try {
+            out.writeByte(RECORD_END);
+            out.close();
+            Gdx.app.log("InputRecorder", "Saved " + ticks + " ticks to " + path);
+        } catch (IOException e) {
+            Gdx.app.error("InputRecorder", "Failed to finish " + path, e);
+        }
+        out = null;
+    }
+
+    public long getTickCount() { return ticks; }
+
+    private void fail(IOException e) {
+        Gdx.app.error("InputRecorder", "Recording stopped: " + path, e);
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // Already failing
+        }
+        out = null;
+    }
+}
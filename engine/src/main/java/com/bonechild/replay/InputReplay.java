@@ -0,0 +1,112 @@
+package com.bonechild.replay;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Plays back a file written by InputRecorder, one simulation tick at a time.
+ *
+ * Usage (per tick):
+ *
+ * int input = replay.nextTick(powerUp -> player.applyPowerUp(powerUp));
+ * playerInput.apply(input);
+ * ... update world ...
+ * replay.verify(WorldChecksum.compute(world));
+ */
+public class InputReplay {
+    private final String path;
+    private final long seed;
+    private final int tickRate;
+    private DataInputStream in;
+
+    private boolean finished;
+    private long tick;
+    private int expectedChecksum;
+    private long mismatches;
+    private long firstMismatchTick = -1;
+
+    public InputReplay(String path) throws IOException {
+        this.path = path;
+        this.in = new DataInputStream(new BufferedInputStream(
+            new GZIPInputStream(new FileInputStream(path))));
+        if (in.readInt() != InputRecorder.MAGIC) {
+            in.close();
+            throw new IOException(path + " is not a BoneChild replay");
+        }
+        short version = in.readShort();
+        if (version != InputRecorder.VERSION) {
+            in.close();
+            throw new IOException(path + " has replay version " + version + ", expected " + InputRecorder.VERSION);
+        }
+        this.seed = in.readLong();
+        this.tickRate = in.readInt();
+        Gdx.app.log("InputReplay", "Replaying " + path + " (seed " + seed + ", " + tickRate + " Hz)");
+    }
+
+    /**
+     * Input bits for the next tick. Power-ups recorded before this tick are handed to
+     * the callback first. Returns 0 once the recording has ended (see isFinished).
+     */
+    public int nextTick(Consumer<String> powerUps) {
+        if (finished) return 0;
+        try {
+            while (true) {
+                byte type = in.readByte();
+                if (type == InputRecorder.RECORD_TICK) {
+                    int input = in.readUnsignedByte();
+                    expectedChecksum = in.readInt();
+                    tick++;
+                    return input;
+                } else if (type == InputRecorder.RECORD_POWER_UP) {
+                    powerUps.accept(in.readUTF());
+                } else {
+                    finish();
+                    return 0;
+                }
+            }
+        } catch (EOFException e) {
+            Gdx.app.error("InputReplay", path + " ended without an END record after " + tick + " ticks");
+            finish();
+        } catch (IOException e) {
+            Gdx.app.error("InputReplay", "Failed reading " + path, e);
+            finish();
+        }
+        return 0;
+    }
+
+    /**
+     * Compare the world checksum after the current tick with the recorded one
+     */
+    public boolean verify(int checksum) {
+        if (checksum == expectedChecksum) return true;
+        if (firstMismatchTick < 0) {
+            firstMismatchTick = tick;
+            Gdx.app.error("InputReplay", "Replay diverged from the recording at tick " + tick);
+        }
+        mismatches++;
+        return false;
+    }
+
+    private void finish() {
+        finished = true;
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // Nothing left to read
+        }
+    }
+
+    public boolean isFinished() { return finished; }
+    public long getSeed() { return seed; }
+    public int getTickRate() { return tickRate; }
+    public long getTick() { return tick; }
+    public long getMismatches() { return mismatches; }
+    public long getFirstMismatchTick() { return firstMismatchTick; }
+}
@@ -0,0 +1,66 @@
+package com.bonechild.replay;
+
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.playablecharacters.Pickup;
+import com.bonechild.playablecharacters.Player;
+import com.bonechild.playablecharacters.Projectile;
+import com.bonechild.world.WorldManager;
+
+/**
+ * Cheap hash of the simulation state after a tick.
+ *
+ * Covers the player (position, health, xp, level, gold), every mob (position, health),
+ * projectiles, pickups and wave progress. Floats are hashed by their exact bits, so any
+ * divergence between a recording and its replay shows up on the tick it happens.
+ */
+public final class WorldChecksum {
+    private WorldChecksum() {
+    }
+
+    public static int compute(WorldManager world) {
+        Player player = world.getPlayer();
+        int hash = 17;
+        hash = mix(hash, player.getPosition().x);
+        hash = mix(hash, player.getPosition().y);
+        hash = mix(hash, player.getCurrentHealth());
+        hash = mix(hash, player.getExperience());
+        hash = mix(hash, player.getLevel());
+        hash = mix(hash, player.getGold());
+
+        Array<MobEntity> mobs = world.getMobs();
+        hash = mix(hash, mobs.size);
+        for (int i = 0; i < mobs.size; i++) {
+            MobEntity mob = mobs.get(i);
+            hash = mix(hash, mob.getX());
+            hash = mix(hash, mob.getY());
+            hash = mix(hash, mob.getHealthPercentage());
+        }
+
+        Array<Projectile> projectiles = world.getProjectiles();
+        hash = mix(hash, projectiles.size);
+        for (int i = 0; i < projectiles.size; i++) {
+            hash = mix(hash, projectiles.get(i).getPosition().x);
+            hash = mix(hash, projectiles.get(i).getPosition().y);
+        }
+
+        Array<Pickup> pickups = world.getPickups();
+        hash = mix(hash, pickups.size);
+        for (int i = 0; i < pickups.size; i++) {
+            hash = mix(hash, pickups.get(i).getPosition().x);
+            hash = mix(hash, pickups.get(i).getPosition().y);
+        }
+
+        hash = mix(hash, world.getCurrentStageIndex());
+        hash = mix(hash, world.getCurrentWave());
+        return hash;
+    }
+
+    private static int mix(int hash, float value) {
+        return mix(hash, Float.floatToIntBits(value));
+    }
+
+    private static int mix(int hash, int value) {
+        return hash * 31 + value;
+    }
+}
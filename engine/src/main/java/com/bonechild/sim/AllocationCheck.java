@@ -0,0 +1,189 @@
+package com.bonechild.sim;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.bonechild.collision.CollisionSystem;
+import com.bonechild.logging.Log;
+import com.bonechild.playablecharacters.Player;
+import com.bonechild.random.RandomService;
+import com.bonechild.world.WorldManager;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Zero-garbage check for the gameplay tick.
+ *
+ * Plays headless games with KitingPolicy and measures the bytes the current thread
+ * allocates inside WorldManager.update + CollisionSystem.process only. The first ticks of
+ * every run are warm-up (pools filling, classes loading) and are not counted. The tick
+ * that moves to the next stage trims the mob pools to that stage's types and prewarms its
+ * pools (WorldManager.loadCurrentStage); that is a level load rather than gameplay, so
+ * stage change ticks are reported on their own and left out of the budget. When a run
+ * ends before enough ticks were measured, a new one starts and warms up again; after
+ * MAX_EMPTY_RUNS runs in a row that end during warm-up the check fails.
+ *
+ * Fails (an IllegalStateException out of main, so exit status 1) if the measured ticks
+ * average more than the allowed bytes.
+ *
+ * Runs in the engine module's test phase (skipped with -DskipTests); by hand:
+ *   java -cp bonechild-engine-1.0.0-all.jar com.bonechild.sim.AllocationCheck
+ *
+ * Supported flags:
+ *   --ticks=N               ticks to measure (default 10000)
+ *   --warmup=N              ticks skipped at the start of each run (default 2000)
+ *   --tick-rate=N           simulation ticks per second (default 120, so one run covers more ticks)
+ *   --seed=N                seed of the first run; later runs use seed + 1, ... (default 1)
+ *   --max-bytes-per-tick=N  allowed average (default 16)
+ */
+public class AllocationCheck extends ApplicationAdapter {
+    // Same virtual world size as the game
+    private static final float WORLD_WIDTH = 1280f;
+    private static final float WORLD_HEIGHT = 720f;
+    // Runs in a row that may end before measuring a tick (--warmup longer than a run)
+    private static final int MAX_EMPTY_RUNS = 10;
+
+    private int ticks = 10000;
+    private int warmup = 2000;
+    private int tickRate = 120;
+    private long seed = 1L;
+    private int maxBytesPerTick = 16;
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile String failure = "the check did not run"; // null: passed
+
+    public static void main(String[] args) throws InterruptedException {
+        AllocationCheck check = new AllocationCheck();
+        for (String arg : args) {
+            if (arg.startsWith("--ticks=")) {
+                check.ticks = parseCount(arg, "--ticks=");
+            } else if (arg.startsWith("--warmup=")) {
+                check.warmup = parseCount(arg, "--warmup=");
+            } else if (arg.startsWith("--tick-rate=")) {
+                check.tickRate = parseCount(arg, "--tick-rate=");
+            } else if (arg.startsWith("--seed=")) {
+                check.seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--max-bytes-per-tick=")) {
+                check.maxBytesPerTick = parseCount(arg, "--max-bytes-per-tick=");
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // The check runs inside create(); no render loop needed
+        new HeadlessApplication(check, config);
+
+        // The check runs on the application's thread; wait for it so a failure fails main
+        // (and the exec:java build step) instead of calling System.exit inside Maven
+        check.finished.await();
+        if (check.failure != null) {
+            throw new IllegalStateException("Allocation check failed: " + check.failure);
+        }
+    }
+
+    @Override
+    public void create() {
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+        Log.setLevel(Log.ERROR);
+        try {
+            failure = measure();
+        } finally {
+            Log.shutdown();
+            finished.countDown();
+        }
+        Gdx.app.exit();
+    }
+
+    /**
+     * @return why the check failed; null if it passed
+     */
+    private String measure() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return "this JVM cannot measure per-thread allocation";
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        float step = 1f / tickRate;
+
+        long measuredTicks = 0;
+        long totalBytes = 0;
+        long worstTick = 0;
+        long allocatingTicks = 0;
+        long stageChanges = 0;
+        long stageChangeBytes = 0;
+        int runs = 0;
+        int emptyRuns = 0;
+
+        while (measuredTicks < ticks) {
+            RandomService random = new RandomService(seed + runs);
+            runs++;
+            Player player = new Player(WORLD_WIDTH / 2f, WORLD_HEIGHT / 2f);
+            player.setMovementBounds(WORLD_WIDTH, WORLD_HEIGHT);
+            WorldManager world = new WorldManager(player);
+            world.initialize(null, random);
+            world.startWave();
+            CollisionSystem collisions = new CollisionSystem();
+            collisions.setPickupSpawner(world::spawnPickup);
+            collisions.setLootRandom(random.loot());
+            KitingPolicy policy = new KitingPolicy(random.upgrades(), WORLD_WIDTH, WORLD_HEIGHT);
+
+            int tick = 0;
+            long measuredBefore = measuredTicks;
+            while (measuredTicks < ticks && !player.isDead() && !world.isAllStagesComplete()) {
+                policy.act(player, world.getMobs(), world.getPickups());
+
+                int stage = world.getCurrentStageIndex();
+                long before = threads.getThreadAllocatedBytes(threadId);
+                world.update(step);
+                collisions.process(step, player, world.getMobs(), world.getProjectiles(), world.getPickups());
+                long bytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+                if (stage != world.getCurrentStageIndex()) {
+                    stageChanges++;
+                    stageChangeBytes += bytes;
+                } else if (tick++ >= warmup) {
+                    measuredTicks++;
+                    totalBytes += bytes;
+                    worstTick = Math.max(worstTick, bytes);
+                    if (bytes > 0) allocatingTicks++;
+                }
+
+                if (player.hasLeveledUpThisFrame()) {
+                    player.clearLevelUpFlag();
+                    policy.chooseUpgrade(player);
+                }
+            }
+            world.dispose();
+
+            emptyRuns = measuredTicks == measuredBefore ? emptyRuns + 1 : 0;
+            if (emptyRuns >= MAX_EMPTY_RUNS) {
+                return emptyRuns + " runs in a row ended within the " + warmup + "-tick warm-up; lower --warmup";
+            }
+        }
+
+        double perTick = totalBytes / (double) measuredTicks;
+        boolean ok = perTick <= maxBytesPerTick;
+        System.out.println("[AllocationCheck] " + measuredTicks + " ticks over " + runs + " runs: "
+            + String.format(java.util.Locale.ROOT, "%.2f", perTick) + " bytes/tick (limit " + maxBytesPerTick
+            + "), " + allocatingTicks + " ticks allocated, worst " + worstTick + " bytes; "
+            + stageChanges + " stage changes, " + stageChangeBytes + " bytes - " + (ok ? "PASS" : "FAIL"));
+        return ok ? null : "the gameplay tick allocates more than " + maxBytesPerTick + " bytes per tick";
+    }
+
+    private static int parseCount(String arg, String prefix) {
+        String value = arg.substring(prefix.length());
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < 0) {
+                throw new IllegalArgumentException(prefix + " must not be negative, got " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(prefix + " expects a number, got " + value);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.bonechild.sim;
+
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.playablecharacters.Pickup;
+import com.bonechild.playablecharacters.Player;
+import com.bonechild.random.RandomStream;
+
+/**
+ * Scripted stand-in for a human player.
+ *
+ * Moves away from nearby mobs (weighted by inverse square distance), circles around them
+ * instead of backing into a wall, walks to nearby pickups when it is safe, dodges when a
+ * mob gets close and picks a random power-up on every level up. The player's auto-attack
+ * does the shooting, exactly as in the real game.
+ */
+public class KitingPolicy {
+    private static final String[] POWER_UPS = {
+        "SPEED", "STRENGTH", "GRAB", "ATTACK_SPEED", "MAX_HP",
+        "XP_BOOST", "EXPLOSION_CHANCE", "CHAIN_LIGHTNING", "LIFESTEAL"
+    };
+
+    private static final float THREAT_RADIUS = 350f;
+    private static final float DODGE_RADIUS = 70f;
+    private static final float SAFE_RADIUS = 180f;
+    private static final float PICKUP_RADIUS = 300f;
+    private static final float WALL_MARGIN = 120f;
+    private static final float STRAFE_WEIGHT = 0.6f;
+
+    private final RandomStream random;
+    private final float worldWidth;
+    private final float worldHeight;
+    private float strafeSign = 1f;
+
+    public KitingPolicy(RandomStream random, float worldWidth, float worldHeight) {
+        this.random = random;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /**
+     * Set the player's velocity (and dodge if needed) for the coming tick
+     */
+    public void act(Player player, Array<MobEntity> mobs, Array<Pickup> pickups) {
+        if (player.isDead() || player.isDodging()) return;
+
+        float px = player.getPosition().x + player.getHitboxOffsetX() + player.getHitboxWidth() / 2f;
+        float py = player.getPosition().y + player.getHitboxOffsetY() + player.getHitboxHeight() / 2f;
+
+        // Flee from every mob in range, weighted by inverse square distance
+        float fleeX = 0f, fleeY = 0f;
+        float nearest = Float.MAX_VALUE;
+        for (int i = 0; i < mobs.size; i++) {
+            MobEntity mob = mobs.get(i);
+            if (mob.isDead()) continue;
+            float dx = px - (mob.getX() + mob.getHitboxOffsetX() + mob.getHitboxWidth() / 2f);
+            float dy = py - (mob.getY() + mob.getHitboxOffsetY() + mob.getHitboxHeight() / 2f);
+            float dist2 = Math.max(dx * dx + dy * dy, 1f);
+            float dist = (float) Math.sqrt(dist2);
+            nearest = Math.min(nearest, dist);
+            if (dist < THREAT_RADIUS) {
+                fleeX += dx / dist2;
+                fleeY += dy / dist2;
+            }
+        }
+
+        float moveX, moveY;
+        float fleeLength = (float) Math.sqrt(fleeX * fleeX + fleeY * fleeY);
+        if (fleeLength > 0f) {
+            fleeX /= fleeLength;
+            fleeY /= fleeLength;
+            // Circle around the pack so the player does not get pinned against a wall
+            moveX = fleeX - fleeY * STRAFE_WEIGHT * strafeSign;
+            moveY = fleeY + fleeX * STRAFE_WEIGHT * strafeSign;
+        } else {
+            moveX = 0f;
+            moveY = 0f;
+        }
+
+        // Collect loot when nothing is close
+        if (nearest > SAFE_RADIUS) {
+            Pickup target = closestPickup(pickups, px, py);
+            if (target != null) {
+                float dx = target.getPosition().x - px;
+                float dy = target.getPosition().y - py;
+                float dist = (float) Math.sqrt(dx * dx + dy * dy);
+                if (dist > 1f) {
+                    moveX += dx / dist;
+                    moveY += dy / dist;
+                }
+            }
+        }
+
+        // Push back from the walls, and switch circling direction when cornered
+        float wallX = wallPush(px, worldWidth);
+        float wallY = wallPush(py, worldHeight);
+        if ((wallX != 0f || wallY != 0f) && random.chance(0.02f)) {
+            strafeSign = -strafeSign;
+        }
+        moveX += wallX;
+        moveY += wallY;
+
+        float length = (float) Math.sqrt(moveX * moveX + moveY * moveY);
+        if (length > 0.001f) {
+            float speed = player.getSpeed();
+            player.setVelocity(moveX / length * speed, moveY / length * speed);
+        } else {
+            player.setVelocity(0f, 0f);
+        }
+
+        if (nearest < DODGE_RADIUS && player.getDodgeCharges() > 0 && fleeLength > 0f) {
+            player.dodge(fleeX, fleeY);
+        }
+    }
+
+    /**
+     * Choose and apply a power-up, as the player would on the level-up screen
+     */
+    public String chooseUpgrade(Player player) {
+        String choice = POWER_UPS[random.nextInt(POWER_UPS.length)];
+        player.applyPowerUp(choice);
+        return choice;
+    }
+
+    private Pickup closestPickup(Array<Pickup> pickups, float px, float py) {
+        Pickup closest = null;
+        float best = PICKUP_RADIUS * PICKUP_RADIUS;
+        for (int i = 0; i < pickups.size; i++) {
+            Pickup pickup = pickups.get(i);
+            if (pickup.isCollected()) continue;
+            float dx = pickup.getPosition().x - px;
+            float dy = pickup.getPosition().y - py;
+            float dist2 = dx * dx + dy * dy;
+            if (dist2 < best) {
+                best = dist2;
+                closest = pickup;
+            }
+        }
+        return closest;
+    }
+
+    private static float wallPush(float position, float size) {
+        if (position < WALL_MARGIN) {
+            return (WALL_MARGIN - position) / WALL_MARGIN;
+        }
+        if (position > size - WALL_MARGIN) {
+            return -(position - (size - WALL_MARGIN)) / WALL_MARGIN;
+        }
+        return 0f;
+    }
+}
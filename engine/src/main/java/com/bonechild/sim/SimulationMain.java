@@ -0,0 +1,101 @@
+package com.bonechild.sim;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.bonechild.logging.Log;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless batch simulator for balance and performance sweeps.
+ *
+ * Boots libGDX's headless backend (file access and logging, no window or GL), then plays
+ * N independent games with a scripted policy on a thread pool - one run per core by
+ * default - at maximum speed. Writes one CSV row per wave: outcome, kill time, kills and
+ * per-tick CPU cost.
+ *
+ * Run with: java -cp bonechild-engine-1.0.0-all.jar com.bonechild.sim.SimulationMain --runs=16
+ */
+public class SimulationMain extends ApplicationAdapter {
+    private final SimulationOptions options;
+
+    public SimulationMain(SimulationOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        SimulationOptions options = SimulationOptions.parse(args);
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // The batch runs inside create(); no render loop needed
+        new HeadlessApplication(new SimulationMain(options), config);
+    }
+
+    @Override
+    public void create() {
+        // Only errors from game code; info lines would be written at full simulation speed
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+        Log.setLevel(Log.ERROR);
+
+        try {
+            runBatch();
+            Gdx.app.exit();
+        } catch (Exception e) {
+            System.err.println("[Simulation] Failed: " + e);
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            Log.shutdown();
+        }
+    }
+
+    private void runBatch() throws IOException, InterruptedException, ExecutionException {
+        System.out.println("[Simulation] " + options.getRuns() + " runs on " + options.getThreads()
+            + " threads, " + options.getTickRate() + " Hz, seed " + options.getSeed());
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(options.getThreads());
+        List<Future<List<WaveResult>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < options.getRuns(); i++) {
+                futures.add(pool.submit(new SimulationRun(i, options.getSeed() + i,
+                    options.getTickRate(), options.getMaxSimulatedSeconds(), options.getMobThreads())));
+            }
+
+            Path output = Paths.get(options.getOutputPath());
+            int died = 0;
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+                writer.println(WaveResult.CSV_HEADER);
+                for (Future<List<WaveResult>> future : futures) {
+                    List<WaveResult> waves = future.get();
+                    for (WaveResult wave : waves) {
+                        writer.println(wave.toCsv());
+                    }
+                    if (!waves.isEmpty() && waves.get(waves.size() - 1).getOutcome() == WaveResult.Outcome.DIED) {
+                        died++;
+                    }
+                }
+            }
+
+            float seconds = (System.nanoTime() - start) / 1_000_000_000f;
+            System.out.println("[Simulation] " + died + "/" + options.getRuns() + " runs died, finished in "
+                + String.format(java.util.Locale.ROOT, "%.1f", seconds) + " s, results in " + output.toAbsolutePath());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bonechild.sim;
+
+import com.bonechild.BoneChildGame;
+
+/**
+ * Command line options for the headless batch simulator.
+ *
+ * Supported flags:
+ *   --runs=N        independent simulations to run (default 8)
+ *   --threads=N     worker threads (default: one per core)
+ *   --seed=N        base seed; run i uses seed + i (default 1)
+ *   --tick-rate=N   simulation ticks per second (default 60)
+ *   --max-time=N    simulated seconds before a run is stopped (default 1800)
+ *   --out=FILE      CSV output path (default simulation-results.csv)
+ *   --mob-threads=N update each run's mobs on N worker threads (default: serially)
+ */
+public class SimulationOptions {
+    private int runs = 8;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 1L;
+    private int tickRate = BoneChildGame.DEFAULT_TICK_RATE;
+    private float maxSimulatedSeconds = 1800f;
+    private String outputPath = "simulation-results.csv";
+    private int mobThreads;
+
+    public static SimulationOptions parse(String[] args) {
+        SimulationOptions options = new SimulationOptions();
+        for (String arg : args) {
+            if (arg.startsWith("--runs=")) {
+                options.runs = parsePositive(arg, "--runs=");
+            } else if (arg.startsWith("--threads=")) {
+                options.threads = parsePositive(arg, "--threads=");
+            } else if (arg.startsWith("--seed=")) {
+                options.seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--tick-rate=")) {
+                options.tickRate = parsePositive(arg, "--tick-rate=");
+            } else if (arg.startsWith("--max-time=")) {
+                options.maxSimulatedSeconds = parsePositive(arg, "--max-time=");
+            } else if (arg.startsWith("--out=")) {
+                options.outputPath = arg.substring("--out=".length());
+            } else if (arg.startsWith("--mob-threads=")) {
+                options.mobThreads = parsePositive(arg, "--mob-threads=");
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        options.threads = Math.min(options.threads, options.runs);
+        return options;
+    }
+
+    private static int parsePositive(String arg, String prefix) {
+        String value = arg.substring(prefix.length());
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(prefix + " must be positive, got " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(prefix + " expects a number, got " + value);
+        }
+    }
+
+    public int getRuns() { return runs; }
+    public int getThreads() { return threads; }
+    public long getSeed() { return seed; }
+    public int getTickRate() { return tickRate; }
+    public float getMaxSimulatedSeconds() { return maxSimulatedSeconds; }
+    public String getOutputPath() { return outputPath; }
+    public int getMobThreads() { return mobThreads; }
+}
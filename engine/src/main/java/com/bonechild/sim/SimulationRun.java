@@ -0,0 +1,134 @@
+package com.bonechild.sim;
+
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.collision.CollisionSystem;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.playablecharacters.Player;
+import com.bonechild.random.RandomService;
+import com.bonechild.world.WorldManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * One complete game played by KitingPolicy with no rendering.
+ *
+ * Uses the same WorldManager, StageSpawner, DefaultMobFactory and CollisionSystem as
+ * the real game, stepped at a fixed tick rate as fast as the CPU allows. Each run owns
+ * all of its state, so many runs can execute in parallel on separate threads.
+ */
+public class SimulationRun implements Callable<List<WaveResult>> {
+    // Same virtual world size as the game
+    private static final float WORLD_WIDTH = 1280f;
+    private static final float WORLD_HEIGHT = 720f;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final int runIndex;
+    private final long seed;
+    private final float stepSeconds;
+    private final float maxSimulatedSeconds;
+    private final int mobThreads;
+
+    public SimulationRun(int runIndex, long seed, int tickRate, float maxSimulatedSeconds, int mobThreads) {
+        this.runIndex = runIndex;
+        this.seed = seed;
+        this.stepSeconds = 1f / tickRate;
+        this.maxSimulatedSeconds = maxSimulatedSeconds;
+        this.mobThreads = mobThreads;
+    }
+
+    @Override
+    public List<WaveResult> call() {
+        boolean threadCpuTime = THREADS.isCurrentThreadCpuTimeSupported();
+
+        Player player = new Player(WORLD_WIDTH / 2f, WORLD_HEIGHT / 2f);
+        player.setMovementBounds(WORLD_WIDTH, WORLD_HEIGHT);
+
+        RandomService random = new RandomService(seed);
+        WorldManager world = new WorldManager(player);
+        world.setMobThreads(mobThreads);
+        world.initialize(null, random); // No assets: mobs are created without animations
+        world.startWave();
+
+        CollisionSystem collisions = new CollisionSystem();
+        collisions.setPickupSpawner(world::spawnPickup);
+        collisions.setLootRandom(random.loot());
+
+        // The policy stands in for the player on the power-up screen, so it draws from the upgrade stream
+        KitingPolicy policy = new KitingPolicy(random.upgrades(), WORLD_WIDTH, WORLD_HEIGHT);
+
+        List<WaveResult> results = new ArrayList<>();
+        WaveResult current = newWave(world, 0f);
+        float time = 0f;
+
+        while (true) {
+            policy.act(player, world.getMobs(), world.getPickups());
+
+            long start = threadCpuTime ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+            world.update(stepSeconds);
+            collisions.process(stepSeconds, player, world.getMobs(), world.getProjectiles(), world.getPickups());
+            long cost = (threadCpuTime ? THREADS.getCurrentThreadCpuTime() : System.nanoTime()) - start;
+            time += stepSeconds;
+
+            current.recordTick(cost, world.getMobCount(), countDead(world.getMobs()));
+
+            if (player.hasLeveledUpThisFrame()) {
+                player.clearLevelUpFlag();
+                policy.chooseUpgrade(player);
+            }
+
+            if (player.isDead()) {
+                finish(current, WaveResult.Outcome.DIED, time, player, results);
+                break;
+            }
+            if (world.isAllStagesComplete()) {
+                finish(current, WaveResult.Outcome.CLEARED, time, player, results);
+                break;
+            }
+            if (time >= maxSimulatedSeconds) {
+                finish(current, WaveResult.Outcome.TIMEOUT, time, player, results);
+                break;
+            }
+
+            // A new wave (or stage) started: the previous one was cleared. Between the last
+            // wave of a stage and the next stage the wave number briefly runs past the end.
+            int wave = world.getCurrentWave();
+            int stage = world.getCurrentStageIndex() + 1;
+            if (wave <= world.getTotalWaves() && (wave != current.wave || stage != current.stage)) {
+                finish(current, WaveResult.Outcome.CLEARED, time, player, results);
+                current = newWave(world, time);
+            }
+        }
+        world.dispose();
+        return results;
+    }
+
+    private WaveResult newWave(WorldManager world, float time) {
+        return new WaveResult(runIndex, seed, world.getCurrentStageIndex() + 1, world.getStageName(),
+            world.getCurrentWave(), time);
+    }
+
+    /**
+     * Mobs killed this tick are still in the list until WorldManager removes them next tick
+     */
+    private static int countDead(Array<MobEntity> mobs) {
+        int dead = 0;
+        for (int i = 0; i < mobs.size; i++) {
+            if (mobs.get(i).isDead()) dead++;
+        }
+        return dead;
+    }
+
+    private static void finish(WaveResult wave, WaveResult.Outcome outcome, float time, Player player,
+                               List<WaveResult> results) {
+        wave.outcome = outcome;
+        wave.durationSeconds = time - wave.startSeconds;
+        wave.playerLevel = player.getLevel();
+        wave.playerHealth = player.getCurrentHealth();
+        results.add(wave);
+    }
+}
@@ -0,0 +1,66 @@
+package com.bonechild.sim;
+
+/**
+ * Outcome and cost of one wave in one simulation run
+ */
+public class WaveResult {
+    public enum Outcome {
+        CLEARED, DIED, TIMEOUT
+    }
+
+    public static final String CSV_HEADER =
+        "run,seed,stage,stage_name,wave,outcome,start_s,duration_s,kills,peak_mobs,player_level,player_health,"
+        + "ticks,cpu_mean_us,cpu_max_us";
+
+    final int run;
+    final long seed;
+    final int stage;
+    final String stageName;
+    final int wave;
+    final float startSeconds;
+
+    Outcome outcome;
+    float durationSeconds;
+    int kills;
+    int peakMobs;
+    int playerLevel;
+    float playerHealth;
+    long ticks;
+    long cpuNanosTotal;
+    long cpuNanosMax;
+
+    WaveResult(int run, long seed, int stage, String stageName, int wave, float startSeconds) {
+        this.run = run;
+        this.seed = seed;
+        this.stage = stage;
+        this.stageName = stageName;
+        this.wave = wave;
+        this.startSeconds = startSeconds;
+    }
+
+    void recordTick(long cpuNanos, int mobCount, int killsThisTick) {
+        ticks++;
+        cpuNanosTotal += cpuNanos;
+        cpuNanosMax = Math.max(cpuNanosMax, cpuNanos);
+        peakMobs = Math.max(peakMobs, mobCount);
+        kills += killsThisTick;
+    }
+
+    public Outcome getOutcome() { return outcome; }
+    public float getDurationSeconds() { return durationSeconds; }
+
+    public String toCsv() {
+        double meanMicros = ticks > 0 ? cpuNanosTotal / (double) ticks / 1000.0 : 0.0;
+        return run + "," + seed + "," + stage + "," + quote(stageName) + "," + wave + "," + outcome + ","
+            + String.format(java.util.Locale.ROOT, "%.2f,%.2f", startSeconds, durationSeconds) + ","
+            + kills + "," + peakMobs + "," + playerLevel + ","
+            + String.format(java.util.Locale.ROOT, "%.1f", playerHealth) + ","
+            + ticks + ","
+            + String.format(java.util.Locale.ROOT, "%.2f,%.2f", meanMicros, cpuNanosMax / 1000.0);
+    }
+
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,223 @@
+package com.bonechild.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeType;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Build-time font baker.
+ *
+ * Rasterizes every face/size listed in fonts-src/fonts.json with FreeType, packs all sizes
+ * of a face into one atlas page and writes AngelCode .fnt files next to it. Also writes the
+ * fonts manifest picked up by AssetLoader, so the game never runs FreeType at runtime.
+ *
+ * Run with: mvn -Pbake-fonts -pl engine -am process-classes
+ */
+public class FontBaker {
+    private static final int PADDING = 2;
+
+    private final File fontsSourceDir;
+    private final File resourcesDir;
+    private final JsonValue spec;
+
+    public FontBaker(File specFile, File resourcesDir) {
+        this.fontsSourceDir = specFile.getParentFile();
+        this.resourcesDir = resourcesDir;
+        this.spec = new JsonReader().parse(new FileHandle(specFile));
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: FontBaker <fonts.json> <resources dir>");
+            System.exit(1);
+        }
+
+        GdxNativesLoader.load();
+        new FontBaker(new File(args[0]), new File(args[1])).bake();
+    }
+
+    public void bake() throws IOException {
+        String outputPath = spec.getString("output", "fonts");
+        String manifestPath = spec.getString("manifest", "json/fonts-assets.json");
+        int pageSize = spec.getInt("pageSize", 1024);
+        String characters = spec.getString("characters");
+
+        File outputDir = new File(resourcesDir, outputPath);
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Cannot create font output directory " + outputDir);
+        }
+
+        StringBuilder manifest = new StringBuilder();
+        manifest.append("{\n  \"module\": \"ui\",\n  \"fonts\": {\n");
+        boolean firstEntry = true;
+
+        FreeType.Library library = FreeType.initFreeType();
+        try {
+            for (JsonValue faceSpec = spec.get("faces").child; faceSpec != null; faceSpec = faceSpec.next) {
+                String faceName = faceSpec.name;
+                File ttf = new File(fontsSourceDir, faceSpec.getString("ttf"));
+                int[] sizes = faceSpec.get("sizes").asIntArray();
+                int facePageSize = faceSpec.getInt("pageSize", pageSize);
+
+                String[] fntFiles = bakeFace(library, faceName, ttf, sizes, characters, facePageSize, outputDir);
+                for (int i = 0; i < sizes.length; i++) {
+                    if (!firstEntry) manifest.append(",\n");
+                    firstEntry = false;
+                    manifest.append("    \"").append(faceName).append('_').append(sizes[i]).append("\": \"")
+                        .append(outputPath).append('/').append(fntFiles[i]).append('"');
+                }
+            }
+        } finally {
+            library.dispose();
+        }
+
+        manifest.append("\n  }\n}\n");
+        File manifestFile = new File(resourcesDir, manifestPath);
+        Files.writeString(manifestFile.toPath(), manifest.toString(), StandardCharsets.UTF_8);
+        System.out.println("[FontBaker] Wrote manifest " + manifestFile);
+    }
+
+    /**
+     * Bake every size of one face into a shared atlas. Returns the .fnt file names in size order.
+     */
+    private String[] bakeFace(FreeType.Library library, String faceName, File ttf, int[] sizes,
+                              String characters, int pageSize, File outputDir) throws IOException {
+        PixmapPacker packer = new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, PADDING, false,
+            new PixmapPacker.SkylineStrategy());
+        FreeType.Face face = library.newFace(new FileHandle(ttf), 0);
+        String[] fntFiles = new String[sizes.length];
+        StringBuilder[] fntBodies = new StringBuilder[sizes.length];
+
+        try {
+            for (int s = 0; s < sizes.length; s++) {
+                fntBodies[s] = rasterizeSize(face, faceName, sizes[s], characters, packer);
+                fntFiles[s] = faceName + "-" + sizes[s] + ".fnt";
+            }
+
+            // Pages are only final once every size is packed
+            int pageCount = packer.getPages().size;
+            String[] pageFiles = new String[pageCount];
+            for (int p = 0; p < pageCount; p++) {
+                pageFiles[p] = pageCount == 1 ? faceName + ".png" : faceName + "_" + p + ".png";
+                PixmapIO.writePNG(new FileHandle(new File(outputDir, pageFiles[p])),
+                    packer.getPages().get(p).getPixmap());
+            }
+
+            for (int s = 0; s < sizes.length; s++) {
+                writeFnt(new File(outputDir, fntFiles[s]), ttf.getName(), face, sizes[s], pageSize, pageFiles, fntBodies[s]);
+            }
+
+            System.out.println("[FontBaker] " + faceName + ": " + sizes.length + " sizes on "
+                + pageCount + " page(s) from " + ttf.getName());
+        } finally {
+            face.dispose();
+            packer.dispose();
+        }
+        return fntFiles;
+    }
+
+    /**
+     * Rasterize all characters at one pixel size. Returns the "chars" and "kernings" blocks.
+     */
+    private StringBuilder rasterizeSize(FreeType.Face face, String faceName, int size,
+                                        String characters, PixmapPacker packer) {
+        if (!face.setPixelSizes(0, size)) {
+            throw new IllegalStateException("Could not set pixel size " + size + " for " + faceName);
+        }
+        int base = FreeType.toInt(face.getSize().getMetrics().getAscender());
+
+        StringBuilder chars = new StringBuilder();
+        int count = 0;
+        for (int i = 0; i < characters.length(); i++) {
+            char c = characters.charAt(i);
+            if (!face.loadChar(c, FreeType.FT_LOAD_DEFAULT)) continue;
+
+            FreeType.GlyphSlot slot = face.getGlyph();
+            if (!slot.renderGlyph(FreeType.FT_RENDER_MODE_NORMAL)) continue;
+
+            FreeType.Bitmap bitmap = slot.getBitmap();
+            int x = 0, y = 0, page = 0;
+            int width = bitmap.getWidth();
+            int height = bitmap.getRows();
+            if (width > 0 && height > 0) {
+                Pixmap pixmap = bitmap.getPixmap(Pixmap.Format.RGBA8888, Color.WHITE, 1f);
+                String name = faceName + "_" + size + "_" + (int) c;
+                Rectangle rect = packer.pack(name, pixmap);
+                pixmap.dispose();
+                x = (int) rect.x;
+                y = (int) rect.y;
+                page = packer.getPageIndex(name);
+            }
+
+            int xAdvance = FreeType.toInt(slot.getMetrics().getHoriAdvance());
+            chars.append("char id=").append((int) c)
+                .append(" x=").append(x).append(" y=").append(y)
+                .append(" width=").append(width).append(" height=").append(height)
+                .append(" xoffset=").append(slot.getBitmapLeft())
+                .append(" yoffset=").append(base - slot.getBitmapTop())
+                .append(" xadvance=").append(xAdvance)
+                .append(" page=").append(page).append(" chnl=0\n");
+            count++;
+        }
+
+        StringBuilder body = new StringBuilder();
+        body.append("chars count=").append(count).append('\n').append(chars);
+
+        if (face.hasKerning()) {
+            StringBuilder kernings = new StringBuilder();
+            int kerningCount = 0;
+            for (int i = 0; i < characters.length(); i++) {
+                char first = characters.charAt(i);
+                int firstIndex = face.getCharIndex(first);
+                if (firstIndex == 0) continue;
+                for (int j = 0; j < characters.length(); j++) {
+                    char second = characters.charAt(j);
+                    int secondIndex = face.getCharIndex(second);
+                    if (secondIndex == 0) continue;
+                    int amount = FreeType.toInt(face.getKerning(firstIndex, secondIndex, FreeType.FT_KERNING_DEFAULT));
+                    if (amount == 0) continue;
+                    kernings.append("kerning first=").append((int) first)
+                        .append(" second=").append((int) second)
+                        .append(" amount=").append(amount).append('\n');
+                    kerningCount++;
+                }
+            }
+            if (kerningCount > 0) {
+                body.append("kernings count=").append(kerningCount).append('\n').append(kernings);
+            }
+        }
+        return body;
+    }
+
+    private void writeFnt(File file, String faceName, FreeType.Face face, int size, int pageSize,
+                          String[] pageFiles, StringBuilder body) throws IOException {
+        face.setPixelSizes(0, size);
+        int lineHeight = FreeType.toInt(face.getSize().getMetrics().getHeight());
+        int base = FreeType.toInt(face.getSize().getMetrics().getAscender());
+
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("info face=\"" + faceName + "\" size=" + size
+                + " bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1 padding=0,0,0,0 spacing="
+                + PADDING + "," + PADDING + "\n");
+            writer.write("common lineHeight=" + lineHeight + " base=" + base + " scaleW=" + pageSize
+                + " scaleH=" + pageSize + " pages=" + pageFiles.length + " packed=0\n");
+            for (int p = 0; p < pageFiles.length; p++) {
+                writer.write("page id=" + p + " file=\"" + pageFiles[p] + "\"\n");
+            }
+            writer.write(body.toString());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.bonechild.tools;
+
+import com.badlogic.gdx.math.Vector2;
+import com.bonechild.assets.AssetFootprint;
+import com.bonechild.assets.GpuMemory;
+import com.bonechild.monsters.core.DefaultMobFactory;
+import com.bonechild.stages.CompiledStage;
+import com.bonechild.stages.StageRepository;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Build-time texture memory budget check.
+ *
+ * Loads the stages listed in stages.json through StageRepository, so a stage that does
+ * not compile (unknown mobType, no waves) fails the build here too. For every stage, adds up what AssetFootprint says will be resident while it runs
+ * (the eager textures plus the lazy modules of its mob types) and fails when that exceeds
+ * the stage's textureBudgetMb. A stage without a budget fails too, so a new stage cannot
+ * slip through unchecked.
+ *
+ * Runs in the engine module's test phase (skipped with -DskipTests); by hand:
+ *   java -cp ... com.bonechild.tools.TextureBudgetCheck <stages dir>
+ */
+public class TextureBudgetCheck {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: TextureBudgetCheck <stages dir>");
+            System.exit(1);
+        }
+
+        List<String> failures = check(AssetFootprint.fromClasspath(), new File(args[0]));
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Texture budget exceeded:\n  " + String.join("\n  ", failures));
+        }
+    }
+
+    /**
+     * Print every stage's footprint against its budget; returns one message per failing stage
+     */
+    public static List<String> check(AssetFootprint footprint, File stagesDir) throws IOException {
+        if (!new File(stagesDir, StageRepository.INDEX).isFile()) {
+            throw new IOException("No " + StageRepository.INDEX + " in " + stagesDir);
+        }
+        // Mob type ids only; the factory builds nothing until asked
+        DefaultMobFactory mobFactory = new DefaultMobFactory(new Vector2(), null);
+        StageRepository stages = StageRepository.load(stagesDir, mobFactory.getTypeIds());
+
+        System.out.println("[TextureBudgetCheck] Eager textures: " + megabytes(footprint.getEagerBytes()));
+        for (Map.Entry<String, Long> module : footprint.getLazyModules().entrySet()) {
+            System.out.println("[TextureBudgetCheck] Lazy " + module.getKey() + ": " + megabytes(module.getValue()));
+        }
+
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < stages.size(); i++) {
+            String name = stages.getFile(i);
+            CompiledStage stage = stages.get(i);
+            Set<String> mobTypes = new TreeSet<>(stage.getMobTypes());
+            long bytes = footprint.getStageBytes(mobTypes);
+            long budget = stage.getTextureBudgetMb() * 1024L * 1024L;
+
+            String line = name + ": " + megabytes(bytes) + " of " + stage.getTextureBudgetMb() + " MB " + mobTypes;
+            System.out.println("[TextureBudgetCheck] " + line);
+            if (stage.getTextureBudgetMb() <= 0) {
+                failures.add(name + ": no textureBudgetMb");
+            } else if (bytes > budget) {
+                failures.add(line);
+            }
+        }
+        return failures;
+    }
+
+    private static String megabytes(long bytes) {
+        return String.format(Locale.ROOT, "%.1f MB", GpuMemory.megabytes(bytes));
+    }
+}
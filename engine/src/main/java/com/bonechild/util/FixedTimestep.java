@@ -0,0 +1,104 @@
+package com.bonechild.util;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Fixed-step accumulator for the simulation.
+ *
+ * Frame time is accumulated and drained in steps of exactly 1/tickRate seconds, so game
+ * logic behaves the same at any frame rate. The fraction left over is exposed as an
+ * interpolation alpha for rendering between the last two ticks.
+ *
+ * A long hitch would otherwise queue up more ticks than a frame can run (the "spiral of
+ * death"), so at most maxStepsPerFrame ticks run per frame and the rest of the backlog
+ * is dropped - the game slows down instead of freezing.
+ */
+public class FixedTimestep {
+    /**
+     * One simulation tick
+     */
+    public interface Step {
+        void step(float delta);
+    }
+
+    private final int tickRate;
+    private final float stepSeconds;
+    private final int maxStepsPerFrame;
+
+    private float accumulator;
+    private float alpha;
+    private long tickCount;
+    private int droppedFrames;
+
+    public FixedTimestep(int tickRate, int maxStepsPerFrame) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive, got " + tickRate);
+        }
+        if (maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Max steps per frame must be positive, got " + maxStepsPerFrame);
+        }
+        this.tickRate = tickRate;
+        this.stepSeconds = 1f / tickRate;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Add a frame's worth of time and run every tick that is due. Returns the number of ticks run.
+     */
+    public int advance(float frameDelta, Step step) {
+        accumulator += frameDelta;
+
+        int steps = 0;
+        while (accumulator >= stepSeconds) {
+            if (steps == maxStepsPerFrame) {
+                // Spiral-of-death guard: drop the backlog but keep the partial tick
+                accumulator %= stepSeconds;
+                droppedFrames++;
+                Gdx.app.debug("FixedTimestep", "Frame took " + frameDelta + "s, dropped simulation backlog");
+                break;
+            }
+            step.step(stepSeconds);
+            accumulator -= stepSeconds;
+            steps++;
+            tickCount++;
+        }
+
+        alpha = accumulator / stepSeconds;
+        return steps;
+    }
+
+    /**
+     * Forget any accumulated time (e.g. when a new game starts)
+     */
+    public void reset() {
+        accumulator = 0f;
+        alpha = 0f;
+    }
+
+    /**
+     * How far the current frame is between the previous tick (0) and the latest tick (1)
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getDroppedFrames() {
+        return droppedFrames;
+    }
+}
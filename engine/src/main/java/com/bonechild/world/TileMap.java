@@ -3,6 +3,7 @@ package com.bonechild.world;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.bonechild.random.RandomStream;
 
 /**
  * Handles tile-based map rendering using a tileset
@@ -18,7 +19,7 @@ public class TileMap {
     private int tilesetColumns;
     private int tilesetRows;
     
-    public TileMap(Texture tileset, int tileSize) {
+    public TileMap(Texture tileset, int tileSize, RandomStream random) {
         this.tileset = tileset;
         this.tileSize = tileSize;
         
@@ -37,13 +38,13 @@ public class TileMap {
         
         // Create a default procedural map - sized to match the screen
         // At 16px per tile: 80 tiles wide = 1280px, 45 tiles high = 720px
-        generateMap(80, 45); // Matches typical 1280x720 screen
+        generateMap(80, 45, random); // Matches typical 1280x720 screen
     }
     
     /**
      * Generate a procedural dungeon map with specified tiles
      */
-    private void generateMap(int width, int height) {
+    private void generateMap(int width, int height, RandomStream random) {
         this.mapWidth = width;
         this.mapHeight = height;
         this.map = new int[height][width];
@@ -68,10 +69,10 @@ public class TileMap {
                 // Use border tiles for the edges
                 if (x == 0 || x == width - 1 || y == 0 || y == height - 1) {
                     // Randomly pick from border tiles for variety
-                    tile = borderTiles[(int)(Math.random() * borderTiles.length)];
+                    tile = borderTiles[random.nextInt(borderTiles.length)];
                 } else {
                     // Interior: randomly pick from interior tiles
-                    tile = interiorTiles[(int)(Math.random() * interiorTiles.length)];
+                    tile = interiorTiles[random.nextInt(interiorTiles.length)];
                 }
                 
                 map[y][x] = tile;
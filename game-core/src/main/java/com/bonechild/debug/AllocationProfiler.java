@@ -0,0 +1,204 @@
+package com.bonechild.debug;
+
+import com.bonechild.debug.FrameProfiler.Phase;
+import com.bonechild.logging.Log;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Per-phase heap allocation, in bytes per second, for the profiler overlay and CSV dumps.
+ *
+ * Uses the same FrameProfiler.begin()/end() markers: while enabled, each marker also reads
+ * the render thread's allocated-bytes counter (com.sun.management.ThreadMXBean), and the
+ * difference is charged to the phase. endFrame() closes a bucket once a second has passed,
+ * normalizes it to bytes per second and pushes it into a ring of the last WINDOW_SECONDS
+ * seconds. With a CSV dump open, each closed second is also written as one row.
+ *
+ * Phases nest: FRAME includes everything else, and anything not inside a finer phase
+ * (screens, GameUI.update) only shows up in FRAME. The overlay and the CSV writer run
+ * after FRAME ends, so their own garbage is not charged to any phase.
+ */
+public final class AllocationProfiler {
+
+    /** Seconds kept per phase */
+    public static final int WINDOW_SECONDS = 10;
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private static final long[] started = new long[PHASES.length];
+    private static final long[] secondBytes = new long[PHASES.length];
+    private static final long[][] history = new long[PHASES.length][WINDOW_SECONDS];
+
+    static boolean enabled = false; // Read by FrameProfiler's markers
+    private static long secondStart;
+    private static int writeIndex;
+    private static int sampleCount;
+    private static long secondsRecorded;
+    private static PrintWriter csv;
+
+    private AllocationProfiler() {
+    }
+
+    /**
+     * Start or stop tracking. Has no effect on JVMs without per-thread allocation counters.
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && THREADS == null) {
+            Log.error("AllocationProfiler", "Per-thread allocation counters are not supported by this JVM");
+            return;
+        }
+        if (enabled && !AllocationProfiler.enabled) {
+            clear(); // Do not mix in seconds from the last time tracking was on
+        }
+        AllocationProfiler.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable tracking and append one row per second to a CSV file until stopCsv()
+     */
+    public static void startCsv(String path) {
+        stopCsv();
+        setEnabled(true);
+        if (!enabled) return;
+        try {
+            csv = new PrintWriter(Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            Log.error("AllocationProfiler", "Could not open " + path, e);
+            return;
+        }
+        StringBuilder header = new StringBuilder("second");
+        for (Phase phase : PHASES) {
+            header.append(',').append(phase.name().toLowerCase(Locale.ROOT));
+        }
+        csv.println(header);
+        csv.flush();
+        Log.info("AllocationProfiler", "Writing allocation rates to {}", path);
+    }
+
+    /**
+     * Close the CSV dump, if one is open. Tracking stays on for the overlay.
+     */
+    public static void stopCsv() {
+        if (csv == null) return;
+        csv.close();
+        csv = null;
+    }
+
+    public static boolean isDumping() {
+        return csv != null;
+    }
+
+    static void begin(Phase phase) {
+        started[phase.ordinal()] = THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    static void end(Phase phase) {
+        int index = phase.ordinal();
+        secondBytes[index] += THREADS.getCurrentThreadAllocatedBytes() - started[index];
+    }
+
+    /**
+     * Close the current one-second bucket if a second has passed. Call once per frame,
+     * outside every phase.
+     */
+    public static void endFrame() {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        long elapsed = now - secondStart;
+        if (elapsed < NANOS_PER_SECOND) return;
+
+        for (int i = 0; i < PHASES.length; i++) {
+            // A slow frame can stretch the bucket past a second; report a rate, not a total
+            history[i][writeIndex] = (long) (secondBytes[i] * (double) NANOS_PER_SECOND / elapsed);
+            secondBytes[i] = 0L;
+        }
+        secondsRecorded++;
+        if (csv != null) {
+            writeRow(writeIndex);
+        }
+        writeIndex = (writeIndex + 1) % WINDOW_SECONDS;
+        sampleCount = Math.min(sampleCount + 1, WINDOW_SECONDS);
+        secondStart = now;
+    }
+
+    /**
+     * Bytes per second allocated in a phase during the last complete second
+     */
+    public static long lastSecond(Phase phase) {
+        if (sampleCount == 0) return 0L;
+        return history[phase.ordinal()][(writeIndex + WINDOW_SECONDS - 1) % WINDOW_SECONDS];
+    }
+
+    /**
+     * Mean bytes per second of a phase over the window
+     */
+    public static long average(Phase phase) {
+        if (sampleCount == 0) return 0L;
+        long total = 0L;
+        long[] seconds = history[phase.ordinal()];
+        for (int i = 0; i < sampleCount; i++) {
+            total += seconds[i];
+        }
+        return total / sampleCount;
+    }
+
+    /**
+     * Worst second of a phase in the window, in bytes per second
+     */
+    public static long max(Phase phase) {
+        long max = 0L;
+        long[] seconds = history[phase.ordinal()];
+        for (int i = 0; i < sampleCount; i++) {
+            max = Math.max(max, seconds[i]);
+        }
+        return max;
+    }
+
+    public static int getSampleCount() { return sampleCount; }
+
+    private static void writeRow(int index) {
+        csv.print(secondsRecorded);
+        for (int i = 0; i < PHASES.length; i++) {
+            csv.print(',');
+            csv.print(history[i][index]);
+        }
+        csv.println();
+        csv.flush(); // Once a second; keeps the file usable if the game is killed
+    }
+
+    private static void clear() {
+        for (int i = 0; i < PHASES.length; i++) {
+            Arrays.fill(history[i], 0L);
+            secondBytes[i] = 0L;
+        }
+        writeIndex = 0;
+        sampleCount = 0;
+        secondsRecorded = 0L;
+        secondStart = System.nanoTime();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        if (!counter.isThreadAllocatedMemorySupported()) return null;
+        if (!counter.isThreadAllocatedMemoryEnabled()) {
+            counter.setThreadAllocatedMemoryEnabled(true);
+        }
+        return counter;
+    }
+}
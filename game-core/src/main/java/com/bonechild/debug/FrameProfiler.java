@@ -0,0 +1,169 @@
+package com.bonechild.debug;
+
+import java.util.Arrays;
+
+/**
+ * Per-phase CPU timing for the frame profiler overlay.
+ *
+ * Code marks phases with begin()/end(); time spent in a phase is summed over the frame
+ * (simulation phases can run several times per frame) and pushed into a fixed-size ring
+ * buffer by endFrame(). Everything is preallocated, and while the profiler is disabled
+ * each call is two static boolean checks, so the markers can stay in hot paths. The same
+ * markers feed AllocationProfiler when allocation tracking is on.
+ *
+ * Usage:
+ *
+ * FrameProfiler.begin(FrameProfiler.Phase.MOBS);
+ * updateMobs(delta);
+ * FrameProfiler.end(FrameProfiler.Phase.MOBS);
+ */
+public final class FrameProfiler {
+
+    public enum Phase {
+        FRAME("Frame"),
+        INPUT("Input"),
+        PLAYER("Player"),
+        SPAWNER("Spawner"),
+        MOBS("Mobs"),
+        PICKUPS("Pickups"),
+        PROJECTILES("Projectiles"),
+        COLLISIONS("Collisions"),
+        DRAW_BACKGROUND("Draw tiles"),
+        DRAW_PLAYER("Draw player"),
+        DRAW_MOBS("Draw mobs"),
+        DRAW_PROJECTILES("Draw projectiles"),
+        DRAW_PICKUPS("Draw pickups"),
+        DRAW_HITBOXES("Draw hitboxes"),
+        DRAW_EFFECTS("Draw effects"),
+        DRAW_HUD("Draw HUD");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    /** Frames kept per phase (about 5 seconds at 60 FPS) */
+    public static final int HISTORY = 300;
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final long[] started = new long[PHASES.length];
+    private static final long[] frameNanos = new long[PHASES.length];
+    private static final long[][] history = new long[PHASES.length][HISTORY];
+    private static final long[] scratch = new long[HISTORY];
+
+    private static boolean enabled = false; // shown || recording
+    private static boolean shown = false; // The overlay is open
+    private static boolean recording = false; // Keeps sampling with the overlay hidden
+    private static int writeIndex;
+    private static int sampleCount;
+    private static int lastRenderCalls;
+
+    private FrameProfiler() {
+    }
+
+    /**
+     * Called by the overlay when it is shown or hidden. Hiding it keeps the profiler
+     * sampling while something is recording.
+     */
+    public static void setEnabled(boolean enabled) {
+        shown = enabled;
+        update();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Keep sampling whether or not the overlay is shown (MilestoneReporter). Stopping
+     * turns the profiler off unless the overlay is shown.
+     */
+    public static void setRecording(boolean recording) {
+        FrameProfiler.recording = recording;
+        update();
+    }
+
+    private static void update() {
+        boolean on = shown || recording;
+        if (on && !enabled) {
+            clear(); // Do not show samples from the last time the profiler ran
+        }
+        enabled = on;
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    public static void begin(Phase phase) {
+        if (enabled) {
+            started[phase.ordinal()] = System.nanoTime();
+        }
+        if (AllocationProfiler.enabled) {
+            AllocationProfiler.begin(phase);
+        }
+    }
+
+    public static void end(Phase phase) {
+        if (AllocationProfiler.enabled) {
+            AllocationProfiler.end(phase);
+        }
+        if (enabled) {
+            int index = phase.ordinal();
+            frameNanos[index] += System.nanoTime() - started[index];
+        }
+    }
+
+    /**
+     * Push this frame's phase totals into the history
+     *
+     * @param renderCalls SpriteBatch render calls issued this frame
+     */
+    public static void endFrame(int renderCalls) {
+        if (!enabled) return;
+        for (int i = 0; i < PHASES.length; i++) {
+            history[i][writeIndex] = frameNanos[i];
+            frameNanos[i] = 0L;
+        }
+        writeIndex = (writeIndex + 1) % HISTORY;
+        sampleCount = Math.min(sampleCount + 1, HISTORY);
+        lastRenderCalls = renderCalls;
+    }
+
+    /**
+     * Fill out[0..percentiles.length) with the given percentiles (0-100) of a phase, in ms
+     */
+    public static void percentiles(Phase phase, float[] percentiles, float[] out) {
+        int count = sampleCount;
+        if (count == 0) {
+            Arrays.fill(out, 0, percentiles.length, 0f);
+            return;
+        }
+        System.arraycopy(history[phase.ordinal()], 0, scratch, 0, count);
+        Arrays.sort(scratch, 0, count);
+        for (int i = 0; i < percentiles.length; i++) {
+            int rank = Math.min(count - 1, (int) Math.ceil(percentiles[i] / 100f * count) - 1);
+            out[i] = scratch[Math.max(rank, 0)] / 1_000_000f;
+        }
+    }
+
+    public static int getSampleCount() { return sampleCount; }
+    public static int getLastRenderCalls() { return lastRenderCalls; }
+
+    /**
+     * Drop every sample, so percentiles() only covers frames from now on
+     */
+    public static void clear() {
+        for (int i = 0; i < PHASES.length; i++) {
+            Arrays.fill(history[i], 0L);
+            frameNanos[i] = 0L;
+        }
+        writeIndex = 0;
+        sampleCount = 0;
+        lastRenderCalls = 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.bonechild.debug;
+
+import com.bonechild.debug.FrameProfiler.Phase;
+import com.bonechild.logging.Log;
+
+import java.util.Locale;
+
+/**
+ * Logs sustained frame rate and per-phase CPU cost each time the live mob count reaches
+ * the next milestone (100, 250, 500, 1000, ... 50000, then every 25000), for endless
+ * horde runs (--endless).
+ *
+ * When a milestone is reached, FrameProfiler's samples are cleared and the next
+ * WINDOW_SECONDS seconds are measured; then one line reports the frame rate over that
+ * window and the frame time, and a second the median and 99th percentile of every phase
+ * that ran. With a fixed seed the same milestones come from the same waves, so reports
+ * from two builds can be compared line by line. Keeps FrameProfiler recording while active.
+ */
+public final class MilestoneReporter {
+    /** Seconds measured after each milestone is reached */
+    public static final float WINDOW_SECONDS = 5f;
+
+    private static final int[] MILESTONES = {100, 250, 500, 1000, 2500, 5000, 10000, 15000, 20000, 30000, 40000, 50000};
+    private static final int MILESTONE_STEP = 25000; // Past the table
+    private static final Phase[] PHASES = Phase.values();
+    private static final float[] PERCENTILES = {50f, 99f};
+
+    private final float[] stats = new float[PERCENTILES.length];
+    private int next; // Index of the next milestone
+    private int milestone = -1; // Being measured; -1: waiting for the next one
+    private float windowTime;
+    private int windowFrames;
+
+    public MilestoneReporter() {
+        FrameProfiler.setRecording(true);
+    }
+
+    /**
+     * Stop recording; the profiler turns off unless the overlay is shown
+     */
+    public void stop() {
+        FrameProfiler.setRecording(false);
+    }
+
+    /**
+     * Call once per rendered frame, after FrameProfiler.endFrame
+     */
+    public void frame(float delta, int mobs, int pickups, int projectiles) {
+        if (milestone < 0) {
+            if (mobs >= milestone(next)) {
+                milestone = milestone(next);
+                windowTime = 0f;
+                windowFrames = 0;
+                FrameProfiler.clear();
+                Log.info("Milestones", "Reached {} mobs; measuring {} s", milestone, WINDOW_SECONDS);
+            }
+            return;
+        }
+
+        windowTime += delta;
+        windowFrames++;
+        if (windowTime < WINDOW_SECONDS) return;
+
+        report(mobs, pickups, projectiles);
+        // Milestones passed while measuring are skipped; each report is a distinct count
+        while (mobs >= milestone(next)) next++;
+        milestone = -1;
+    }
+
+    private void report(int mobs, int pickups, int projectiles) {
+        FrameProfiler.percentiles(Phase.FRAME, PERCENTILES, stats);
+        Log.info("Milestones", String.format(Locale.ROOT,
+            "%d mobs: %.1f FPS over %.1f s, frame p50 %.2f ms p99 %.2f ms (now %d mobs, %d pickups, %d projectiles)",
+            milestone, windowFrames / windowTime, windowTime, stats[0], stats[1], mobs, pickups, projectiles));
+
+        StringBuilder phases = new StringBuilder();
+        for (Phase phase : PHASES) {
+            if (phase == Phase.FRAME) continue;
+            FrameProfiler.percentiles(phase, PERCENTILES, stats);
+            if (stats[1] == 0f) continue; // Did not run
+            phases.append(String.format(Locale.ROOT, "  %s %.2f/%.2f", phase.getLabel(), stats[0], stats[1]));
+        }
+        Log.info("Milestones", "{} mobs, ms p50/p99:{}", milestone, phases);
+    }
+
+    private static int milestone(int index) {
+        if (index < MILESTONES.length) {
+            return MILESTONES[index];
+        }
+        return MILESTONES[MILESTONES.length - 1] + (index - MILESTONES.length + 1) * MILESTONE_STEP;
+    }
+}
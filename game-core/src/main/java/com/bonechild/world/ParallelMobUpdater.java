@@ -0,0 +1,131 @@
+package com.bonechild.world;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.monsters.impl.Mob;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Steps every mob on a ForkJoinPool using double-buffered positions.
+ *
+ * Each tick:
+ * 1. Snapshot (serial) - copy each mob's position, and the player's, into the front buffer.
+ * 2. Step (parallel) - workers take disjoint ranges of mobs, advance each mob's own
+ *    animation and write its new velocity and position into the back buffer. Workers only
+ *    read the front buffer and only write their own slots, so they share no mutable state.
+ * 3. Swap (serial) - copy the back buffer onto the mobs.
+ *
+ * Dead mobs are left in the list; WorldManager removes them in a serial pass afterwards.
+ * Mob.steer is the same arithmetic Mob.update uses and no mob reads another, so the
+ * result is identical to the serial update, bit for bit.
+ */
+public class ParallelMobUpdater {
+    // Smallest range worth handing to another worker
+    private static final int MIN_BATCH = 256;
+
+    private final ForkJoinPool pool;
+    private Mob[] batch = new Mob[64];
+    private float[] front = new float[2 * 64]; // x, y per mob
+    private float[] back = new float[4 * 64];  // vx, vy, x, y per mob
+    private float targetX;
+    private float targetY;
+    private float delta;
+
+    public ParallelMobUpdater(int threads) {
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    public int getThreads() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Update every mob in the list toward the target
+     */
+    public void update(Array<MobEntity> mobs, Vector2 target, float delta) {
+        int count = mobs.size;
+        ensureCapacity(count);
+
+        // 1. Snapshot
+        for (int i = 0; i < count; i++) {
+            MobEntity mob = mobs.get(i);
+            if (mob instanceof Mob) {
+                Mob mobImpl = (Mob) mob;
+                mobImpl.setTargetPosition(target);
+                batch[i] = mobImpl;
+                front[2 * i] = mobImpl.getPosition().x;
+                front[2 * i + 1] = mobImpl.getPosition().y;
+            } else {
+                batch[i] = null;
+            }
+        }
+        this.targetX = target.x;
+        this.targetY = target.y;
+        this.delta = delta;
+
+        // 2. Step
+        if (count > MIN_BATCH) {
+            pool.invoke(new StepRange(0, count));
+        } else {
+            step(0, count);
+        }
+
+        // 3. Swap
+        for (int i = 0; i < count; i++) {
+            Mob mob = batch[i];
+            if (mob != null && mob.isMoving()) {
+                mob.applyMotion(back[4 * i], back[4 * i + 1], back[4 * i + 2], back[4 * i + 3]);
+            }
+            batch[i] = null;
+        }
+    }
+
+    private void step(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Mob mob = batch[i];
+            if (mob == null) continue;
+            mob.updateAnimation(delta);
+            if (mob.isMoving()) {
+                mob.steer(front[2 * i], front[2 * i + 1], targetX, targetY, delta, back, 4 * i);
+            }
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (batch.length >= count) return;
+        int capacity = Math.max(count, batch.length * 2);
+        batch = new Mob[capacity];
+        front = new float[2 * capacity];
+        back = new float[4 * capacity];
+    }
+
+    public void dispose() {
+        pool.shutdown();
+    }
+
+    /**
+     * Splits the mob range in halves until it is small enough to step directly
+     */
+    private class StepRange extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        StepRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_BATCH) {
+                step(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new StepRange(from, middle), new StepRange(middle, to));
+        }
+    }
+}
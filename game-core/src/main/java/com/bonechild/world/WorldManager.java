@@ -1,17 +1,27 @@
 package com.bonechild.world;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Array;
+import com.bonechild.debug.FrameProfiler;
+import com.bonechild.debug.FrameProfiler.Phase;
 import com.bonechild.rendering.Assets;
 import com.bonechild.monsters.api.MobEntity;
 import com.bonechild.monsters.api.MobFactory;
 import com.bonechild.monsters.core.DefaultMobFactory;
+import com.bonechild.stages.CompiledStage;
+import com.bonechild.stages.EndlessStage;
+import com.bonechild.stages.StagePrewarmer;
+import com.bonechild.stages.StageRepository;
 import com.bonechild.stages.StageSpawner;
 import com.bonechild.playablecharacters.Player;
 import com.bonechild.playablecharacters.Pickup;
+import com.bonechild.playablecharacters.Pickup.PickupType;
 import com.bonechild.playablecharacters.Projectile;
+import com.bonechild.pool.HandleTable;
+import com.bonechild.random.RandomService;
 import com.bonechild.saves.SaveState;
 import com.bonechild.saves.SaveStateManager;
+import com.bonechild.logging.Log;
+
 /**
  * Manages all entities in the game world
  *
@@ -34,51 +44,116 @@ public class WorldManager {
     private Array<MobEntity> mobs;
     private Array<Pickup> pickups;
     private Array<Projectile> projectiles;
+    private final Pickup.PickupPool pickupPool = new Pickup.PickupPool();
+    private final Projectile.ProjectilePool projectilePool = new Projectile.ProjectilePool();
     private Assets assets;
     private MobFactory mobFactory;
     private StageSpawner stageSpawner;
+    private StagePrewarmer stagePrewarmer;
+    private StageRepository stages;
+    private RandomService random;
+    private ParallelMobUpdater parallelMobs; // null: mobs update serially
 
-    private static final String[] STAGE_FILES = {
-        "stages/stage-1.json",
-        "stages/stage-2.json"
-    };
     private int currentStageIndex = 0;
+    private boolean endless; // Generated waves without end instead of the stage files
 
     public WorldManager(Player player) {
         this.player = player;
-        this.mobs = new Array<>();
-        this.pickups = new Array<>();
-        this.projectiles = new Array<>();
-
-        Gdx.app.log("WorldManager", "World initialized with player");
+        // Unordered: removeIndex moves the last element into the hole instead of shifting
+        // the tail, which is safe because every update loop walks the arrays backwards.
+        // The order is therefore not spawn order: a removal changes which entity is drawn
+        // on top and which one wins a first-match search (a hit, a closest-mob tie)
+        this.mobs = new Array<>(false, 64);
+        this.pickups = new Array<>(false, 64);
+        this.projectiles = new Array<>(false, 64);
+
+        Log.info("WorldManager", "World initialized with player");
     }
 
     /**
-     * Initialize with assets and load first stage
+     * Initialize with assets and load first stage, with a clock-seeded RandomService
      */
     public void initialize(Assets assets) {
+        initialize(assets, RandomService.fromClock());
+    }
+
+    /**
+     * Initialize with assets and load first stage. Assets may be null for headless
+     * simulation, in which case mobs have no animations. Spawns and the player's crits
+     * draw from the given RandomService, so the same seed reproduces the same run.
+     */
+    public void initialize(Assets assets, RandomService random) {
         this.assets = assets;
+        this.random = random;
 
         // Initialize mob factory with player position reference
-        this.mobFactory = new DefaultMobFactory(player.getPosition(), assets);
+        DefaultMobFactory factory = new DefaultMobFactory(player.getPosition(), assets);
+        this.mobFactory = factory;
+        this.stages = StageRepository.shared(factory.getTypeIds());
 
         // Initialize stage spawner
         this.stageSpawner = new StageSpawner(mobFactory);
+        this.stageSpawner.setRandom(random.spawns());
+        this.stagePrewarmer = new StagePrewarmer(mobFactory);
         this.currentStageIndex = 0;
-        loadCurrentStage();
+        if (endless) {
+            loadEndlessStage(factory);
+        } else {
+            loadCurrentStage();
+        }
         this.stageSpawner.setSpawnBounds(100, 1820, 100, 980);
 
         // Set up player's projectile spawner callback
         player.setProjectileSpawner(projectile -> projectiles.add(projectile));
+        player.setProjectilePool(projectilePool);
+        player.setCombatRandom(random.combat());
 
-        Gdx.app.log("WorldManager", "Loaded stage: " + stageSpawner.getStageName());
+        Log.info("WorldManager", "Loaded stage: {}", stageSpawner.getStageName());
     }
 
     private void loadCurrentStage() {
-        if (currentStageIndex < STAGE_FILES.length) {
-            stageSpawner.loadStage(STAGE_FILES[currentStageIndex]);
+        if (currentStageIndex < stages.size()) {
+            CompiledStage stage = stages.get(currentStageIndex);
+            stageSpawner.loadStage(stage);
+            // Pooled mobs of types this stage never spawns only pin their textures
+            mobFactory.trimPools(stage.getMobTypes());
+            stagePrewarmer.prewarm(stage);
         } else {
-            Gdx.app.log("WorldManager", "No more stages to load!");
+            Log.info("WorldManager", "No more stages to load!");
+        }
+    }
+
+    private void loadEndlessStage(DefaultMobFactory factory) {
+        EndlessStage stage = new EndlessStage(factory.getTypeIds());
+        stageSpawner.loadEndless(stage);
+        // One of each so the first spawns do not load textures; the pools grow from there
+        for (String mobType : stage.getMobTypes()) {
+            mobFactory.prewarm(mobType, 1);
+        }
+    }
+
+    /**
+     * Play the endless horde (EndlessStage) instead of the stage files; set before initialize
+     */
+    public void setEndless(boolean endless) {
+        this.endless = endless;
+    }
+
+    public boolean isEndless() {
+        return endless;
+    }
+
+    /**
+     * Swap in the current stage's latest version if it was edited since it was loaded
+     * (StageRepository development mode); called between waves
+     */
+    private void refreshStage() {
+        CompiledStage latest = stages.get(currentStageIndex);
+        if (latest != stageSpawner.getCurrentStage()) {
+            stageSpawner.replaceStage(latest);
+            stagePrewarmer.prewarm(latest);
+            Log.info("WorldManager", "Stage {} changed on disk; next wave uses the new version",
+                stages.getFile(currentStageIndex));
         }
     }
 
@@ -98,6 +173,9 @@ public class WorldManager {
         if (stageSpawner == null) return;
 
         // Clear any existing mobs
+        for (int i = 0; i < mobs.size; i++) {
+            releaseMob(mobs.get(i));
+        }
         mobs.clear();
 
         // Advance to the target wave
@@ -106,7 +184,7 @@ public class WorldManager {
             stageSpawner.nextWave();
         }
 
-        Gdx.app.log("WorldManager", "Skipped to wave " + waveNumber);
+        Log.info("WorldManager", "Skipped to wave {}", waveNumber);
     }
 
     /**
@@ -114,33 +192,51 @@ public class WorldManager {
      */
     public void update(float delta) {
         // Inject targetable mobs into player for auto-targeting
+        FrameProfiler.begin(Phase.PLAYER);
         player.setTargetableMobs(mobs);
         
         // Update player (player handles its own auto-attack logic)
         player.update(delta);
+        FrameProfiler.end(Phase.PLAYER);
 
         // Update stage spawner (spawns mobs at scheduled times)
+        FrameProfiler.begin(Phase.SPAWNER);
         if (stageSpawner != null) {
             stageSpawner.update(delta, mobs);
         }
+        FrameProfiler.end(Phase.SPAWNER);
 
         // Update all mobs
+        FrameProfiler.begin(Phase.MOBS);
         updateMobs(delta);
+        FrameProfiler.end(Phase.MOBS);
 
-        // Check if wave complete and advance
+        // Check if wave complete and advance (counted with the spawner)
+        FrameProfiler.begin(Phase.SPAWNER);
         checkWaveProgress();
+        FrameProfiler.end(Phase.SPAWNER);
 
         // Update pickups
+        FrameProfiler.begin(Phase.PICKUPS);
         updatePickups(delta);
+        FrameProfiler.end(Phase.PICKUPS);
 
         // Update projectiles
+        FrameProfiler.begin(Phase.PROJECTILES);
         updateProjectiles(delta);
+        FrameProfiler.end(Phase.PROJECTILES);
     }
 
     /**
      * Update all mobs - set target, update state, remove dead
      */
     private void updateMobs(float delta) {
+        if (parallelMobs != null) {
+            parallelMobs.update(mobs, player.getPosition(), delta);
+            removeDeadMobs();
+            return;
+        }
+
         for (int i = mobs.size - 1; i >= 0; i--) {
             MobEntity mob = mobs.get(i);
 
@@ -154,51 +250,109 @@ public class WorldManager {
             // Remove dead mobs
             if (mob.isDead()) {
                 mobs.removeIndex(i);
-                Gdx.app.log("WorldManager", "Mob died. Remaining: " + mobs.size);
+                releaseMob(mob);
+                if (Log.isDebugEnabled()) {
+                    Log.debug("WorldManager", "Mob died. Remaining: {}", mobs.size);
+                }
             }
         }
     }
 
+    /**
+     * Serial compaction after a parallel update, in the same order the serial loop removes
+     */
+    private void removeDeadMobs() {
+        for (int i = mobs.size - 1; i >= 0; i--) {
+            if (mobs.get(i).isDead()) {
+                releaseMob(mobs.removeIndex(i));
+                if (Log.isDebugEnabled()) {
+                    Log.debug("WorldManager", "Mob died. Remaining: {}", mobs.size);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return a removed mob to the factory's pool; mobs added from outside the factory
+     * have no handle and are simply dropped
+     */
+    private void releaseMob(MobEntity mob) {
+        if (mobFactory != null && mob.getHandle() != HandleTable.NONE) {
+            mobFactory.release(mob);
+        }
+    }
+
+    /**
+     * Update mobs on this many worker threads (see ParallelMobUpdater); 0 updates them
+     * serially on the calling thread. Both modes produce identical results.
+     */
+    public void setMobThreads(int threads) {
+        if (parallelMobs != null) {
+            parallelMobs.dispose();
+            parallelMobs = null;
+        }
+        if (threads > 0) {
+            parallelMobs = new ParallelMobUpdater(threads);
+            Log.info("WorldManager", "Parallel mob update on {} threads", threads);
+        }
+    }
+
+    /**
+     * Stop the mob worker threads, if any
+     */
+    public void dispose() {
+        setMobThreads(0);
+    }
+
     /**
      * Check wave progression
      */
     private void checkWaveProgress() {
-        if (stageSpawner == null) return;
+        if (stageSpawner == null || stageSpawner.isEndless()) return; // Endless waves start on a timer
 
         // All mobs dead and spawning complete? Advance wave
         if (mobs.size == 0 && !stageSpawner.isWaveActive()) {
+            refreshStage();
             if (!stageSpawner.isStageComplete()) {
-                Gdx.app.log("WorldManager", "✅ Wave cleared! Advancing...");
+                Log.info("WorldManager", "✅ Wave cleared! Advancing...");
                 stageSpawner.nextWave();
             } else {
-                Gdx.app.log("WorldManager", "🎉 STAGE COMPLETE!");
+                Log.info("WorldManager", "🎉 STAGE COMPLETE!");
                 // Advance to next stage if available
-                if (currentStageIndex + 1 < STAGE_FILES.length) {
+                if (currentStageIndex + 1 < stages.size()) {
                     currentStageIndex++;
                     loadCurrentStage();
                     startWave();
-                    Gdx.app.log("WorldManager", "➡️ Proceeding to next stage: " + stageSpawner.getStageName());
+                    Log.info("WorldManager", "➡️ Proceeding to next stage: {}", stageSpawner.getStageName());
                 } else {
-                    Gdx.app.log("WorldManager", "🏆 All stages complete! Game over or victory screen here.");
+                    Log.info("WorldManager", "🏆 All stages complete! Game over or victory screen here.");
                 }
             }
         }
     }
 
+    /**
+     * True once the last wave of the last stage has been cleared
+     */
+    public boolean isAllStagesComplete() {
+        return stageSpawner != null
+            && currentStageIndex + 1 >= stages.size()
+            && stageSpawner.isStageComplete()
+            && mobs.size == 0;
+    }
+
     /**
      * Check if current wave is a boss wave (for UI banner)
      */
     public boolean isCurrentWaveBossWave() {
-        if (stageSpawner == null) return false;
-        StageSpawner.WaveDefinition wave = stageSpawner.getCurrentWaveDefinition();
-        return wave != null && wave.isBossWave;
+        return stageSpawner != null && stageSpawner.isCurrentWaveBossWave();
     }
 
     /**
-     * Get pickup adder callback for CollisionSystem
+     * Drop a pooled pickup into the world (CollisionSystem's loot callback)
      */
-    public java.util.function.Consumer<Pickup> getPickupAdder() {
-        return pickup -> pickups.add(pickup);
+    public void spawnPickup(float x, float y, PickupType type, float value) {
+        pickups.add(pickupPool.obtain(x, y, type, value));
     }
 
     /**
@@ -209,9 +363,12 @@ public class WorldManager {
             Pickup pickup = pickups.get(i);
             pickup.update(delta);
 
-            // Remove collected pickups
+            // Remove collected pickups; ones added from outside the pool have no handle
             if (pickup.isCollected()) {
                 pickups.removeIndex(i);
+                if (pickup.getHandle() != HandleTable.NONE) {
+                    pickupPool.free(pickup);
+                }
             }
         }
     }
@@ -227,6 +384,7 @@ public class WorldManager {
             // Remove inactive projectiles
             if (!projectile.isActive()) {
                 projectiles.removeIndex(i);
+                projectilePool.free(projectile);
             }
         }
     }
@@ -250,16 +408,22 @@ public class WorldManager {
      * Check if current wave is a boss wave
      */
     public boolean isBossWave() {
-        if (stageSpawner == null) return false;
-        StageSpawner.WaveDefinition wave = stageSpawner.getCurrentWaveDefinition();
-        return wave != null && wave.isBossWave;
+        return stageSpawner != null && stageSpawner.isCurrentWaveBossWave();
     }
 
-    // Getters - provide access to entities
+    // Getters - provide access to entities. The arrays are unordered: removing an entity
+    // moves the last one into its slot, so do not rely on spawn order
     public Player getPlayer() { return player; }
     public Array<MobEntity> getMobs() { return mobs; }
     public Array<Pickup> getPickups() { return pickups; }
     public Array<Projectile> getProjectiles() { return projectiles; }
+
+    /**
+     * Live mob for a handle from MobEntity.getHandle, or null once it has died and been recycled
+     */
+    public MobEntity getMob(int handle) {
+        return mobFactory != null ? mobFactory.resolve(handle) : null;
+    }
     public Assets getAssets() { return assets; }
 
     // Stage/Wave info
@@ -267,6 +431,8 @@ public class WorldManager {
     public int getTotalWaves() { return stageSpawner != null ? stageSpawner.getTotalWaves() : 0; }
     public int getMobCount() { return mobs.size; }
     public String getStageName() { return stageSpawner != null ? stageSpawner.getStageName() : ""; }
+    public int getCurrentStageIndex() { return currentStageIndex; }
+    public RandomService getRandom() { return random; }
     // Save System
     private SaveStateManager saveStateManager = new SaveStateManager();
     public void saveGame() {
@@ -1,5 +1,7 @@
 package com.bonechild.monsters.api;
 
+import com.badlogic.gdx.math.Vector2;
+
 /**
  * Minimal interface for mobs and bosses exposed from the monster module.
  * Engine code and stage system should depend on this rather than concrete classes.
@@ -20,9 +22,21 @@ public interface MobEntity extends Damageable {
      */
     float getDamage();
 
+    // Live position and the position at the start of the current simulation tick,
+    // used by the renderer to interpolate between fixed ticks
+    Vector2 getPosition();
+    Vector2 getPreviousPosition();
+    void capturePreviousPosition();
+
     // Hitbox methods for collision and targeting
     float getHitboxOffsetX();
     float getHitboxOffsetY();
     float getHitboxWidth();
     float getHitboxHeight();
+
+    /**
+     * Generational handle while the mob is in the world (see MobFactory.resolve).
+     * Hold this instead of the object across ticks: released mobs are reused.
+     */
+    int getHandle();
 }
@@ -1,10 +1,39 @@
 package com.bonechild.monsters.api;
 
+import java.util.Collection;
+
 /**
  * Factory interface for creating mobs/bosses by type id.
  * Concrete implementation will live in the monster module and be wired into the engine.
  */
 public interface MobFactory {
     MobEntity create(String mobTypeId, SpawnContext context);
+
+    /**
+     * Hand back a mob that has left the world so create can reuse it.
+     * The caller must not touch the mob afterwards.
+     */
+    default void release(MobEntity mob) {
+    }
+
+    /**
+     * Mob a handle was issued for, or null once that mob has been released
+     */
+    default MobEntity resolve(int handle) {
+        return null;
+    }
+
+    /**
+     * Drop pooled mobs of every type not in keepTypeIds, along with the assets they hold
+     */
+    default void trimPools(Collection<String> keepTypeIds) {
+    }
+
+    /**
+     * Build mobs of a type ahead of time (loading their assets) until at least count are
+     * pooled, so that spawning them later does not
+     */
+    default void prewarm(String mobTypeId, int count) {
+    }
 }
 
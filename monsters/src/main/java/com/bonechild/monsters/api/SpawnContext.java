@@ -5,6 +5,8 @@ import com.badlogic.gdx.math.Vector2;
 /**
  * Context passed to mob factory containing spawn position and any
  * additional references needed for AI and rendering.
+ *
+ * Factories must copy what they need: spawners reuse one context for every spawn.
  */
 public final class SpawnContext {
     private final Vector2 position;
@@ -13,6 +15,14 @@ public final class SpawnContext {
         this.position = new Vector2(x, y);
     }
 
+    /**
+     * Reuse this context for another spawn
+     */
+    public SpawnContext set(float x, float y) {
+        position.set(x, y);
+        return this;
+    }
+
     public Vector2 getPosition() {
         return position;
     }
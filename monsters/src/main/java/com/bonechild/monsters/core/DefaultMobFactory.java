@@ -7,28 +7,41 @@ import com.bonechild.monsters.api.SpawnContext;
 import com.bonechild.monsters.impl.Mob;
 import com.bonechild.monsters.impl.Goblin;
 import com.bonechild.monsters.impl.Boss08B;
+import com.bonechild.pool.HandlePool;
+import com.bonechild.pool.HandleTable;
 import com.bonechild.rendering.Assets;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.BiFunction;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Default implementation of MobFactory that maps mobTypeId strings
  * to concrete mob constructors.
+ *
+ * Each type has its own pool: released mobs (and the animations they copied) are reset
+ * and handed out again by create, so after the first waves spawning stops allocating.
+ * All types share one handle table, so any mob handle resolves through this factory.
+ * Pooled mobs keep references to their animations; trimPools drops the pooled mobs of
+ * types a stage no longer spawns so the registry can evict those textures; prewarm
+ * fills a pool ahead of a stage so its first spawns do not build mobs or load textures.
  */
 public class DefaultMobFactory implements MobFactory {
+    // Creators build the instance; create() then moves it to the spawn point
+    private static final SpawnContext ORIGIN = new SpawnContext(0f, 0f);
 
-    /**
-     * Creator function: (SpawnContext, Dependencies) -> MobEntity
-     * For now we keep it simple and capture Player position / Assets in this factory.
-     */
-    private final Map<String, java.util.function.Function<SpawnContext, MobEntity>> registry = new HashMap<>();
+    private final Map<String, MobPool> pools = new HashMap<>();
+    private final HandleTable<MobEntity> handles = new HandleTable<>();
     private final Vector2 playerPosition; // Reference to player position for mob AI
 
+    /**
+     * @param assets may be null (headless simulation); mobs are then created without animations
+     */
     public DefaultMobFactory(Vector2 playerPosition, Assets assets) {
         this.playerPosition = playerPosition;
-        var assetRegistry = assets.getRegistry();
 
         // Register built-in mob types
         register("mob", ctx -> new Mob(ctx.getPosition().x, ctx.getPosition().y, playerPosition));
@@ -36,18 +49,94 @@ public class DefaultMobFactory implements MobFactory {
         register("boss08b", ctx -> new Boss08B(ctx.getPosition().x, ctx.getPosition().y, playerPosition, assets));
     }
 
-    public DefaultMobFactory register(String typeId, java.util.function.Function<SpawnContext, MobEntity> creator) {
-        registry.put(typeId, creator);
+    /**
+     * @param typeId must equal getTypeId() of the mobs the creator builds, so release finds the pool
+     */
+    public DefaultMobFactory register(String typeId, Function<SpawnContext, Mob> creator) {
+        pools.put(typeId, new MobPool(creator));
         return this;
     }
 
+    /**
+     * Every registered mob type id (what stage files may name); a live view
+     */
+    public Set<String> getTypeIds() {
+        return Collections.unmodifiableSet(pools.keySet());
+    }
+
     @Override
     public MobEntity create(String mobTypeId, SpawnContext context) {
-        var creator = registry.get(mobTypeId);
-        if (creator == null) {
+        MobPool pool = pools.get(mobTypeId);
+        if (pool == null) {
             throw new IllegalArgumentException("Unknown mob type id: " + mobTypeId);
         }
-        return creator.apply(context);
+        Mob mob = pool.obtain();
+        mob.respawn(context.getPosition().x, context.getPosition().y);
+        return mob;
+    }
+
+    @Override
+    public void release(MobEntity mob) {
+        MobPool pool = pools.get(mob.getTypeId());
+        if (pool == null) {
+            throw new IllegalArgumentException("Unknown mob type id: " + mob.getTypeId());
+        }
+        pool.free((Mob) mob);
+    }
+
+    @Override
+    public MobEntity resolve(int handle) {
+        return handles.get(handle);
+    }
+
+    /**
+     * Discard the free mobs of every type not in keepTypeIds, releasing their asset
+     * references. Mobs still in the world are untouched and return to their pool as usual.
+     */
+    @Override
+    public void trimPools(Collection<String> keepTypeIds) {
+        for (Map.Entry<String, MobPool> entry : pools.entrySet()) {
+            if (!keepTypeIds.contains(entry.getKey())) {
+                entry.getValue().clear();
+            }
+        }
     }
-}
 
+    @Override
+    public void prewarm(String mobTypeId, int count) {
+        MobPool pool = pools.get(mobTypeId);
+        if (pool == null) {
+            throw new IllegalArgumentException("Unknown mob type id: " + mobTypeId);
+        }
+        if (count > pool.getFree()) {
+            pool.fill(count - pool.getFree());
+        }
+    }
+
+    /**
+     * Mobs currently handed out and not yet released
+     */
+    public int getLiveCount() {
+        return handles.getLiveCount();
+    }
+
+    private class MobPool extends HandlePool<Mob> {
+        private final Function<SpawnContext, Mob> creator;
+
+        MobPool(Function<SpawnContext, Mob> creator) {
+            super(handles, 32);
+            this.creator = creator;
+        }
+
+        @Override
+        protected Mob newObject() {
+            return creator.apply(ORIGIN);
+        }
+
+        @Override
+        protected void discard(Mob mob) {
+            super.discard(mob);
+            mob.releaseAssets();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.bonechild.monsters.impl;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.bonechild.assets.AssetRegistry;
 import com.bonechild.rendering.Animation;
 import com.bonechild.rendering.Assets;
 
@@ -12,6 +13,7 @@ import com.bonechild.rendering.Assets;
 public class Goblin extends Mob {
     private Animation walkAnimation;
     private Animation deathAnimation;
+    private AssetRegistry registry; // Holds references to the animations until releaseAssets()
 
     public Goblin(float x, float y, Vector2 playerPosition, Assets assets) {
         super(x, y, playerPosition);
@@ -32,16 +34,16 @@ public class Goblin extends Mob {
         this.speed = 120f;  // Fast!
         setDamage(5f);
 
-        // Load animations
+        // Load animations (on first use; the registry may evict them once no goblin holds them)
         if (assets != null) {
-            var registry = assets.getRegistry();
-            this.walkAnimation = registry.getAnimation("goblin_walk");
-            this.deathAnimation = registry.getAnimation("goblin_death");
+            this.registry = assets.getRegistry();
+            this.walkAnimation = registry.acquireAnimation("goblin_walk");
+            this.deathAnimation = registry.acquireAnimation("goblin_death");
         }
     }
 
     @Override
-    public void update(float delta) {
+    public void updateAnimation(float delta) {
         // If dead, just update death animation
         if (isDead()) {
             if (deathAnimation != null) {
@@ -54,9 +56,23 @@ public class Goblin extends Mob {
         if (walkAnimation != null) {
             walkAnimation.update(delta);
         }
+    }
 
-        // Use parent Mob's update for movement
-        super.update(delta);
+    @Override
+    public void reset() {
+        super.reset();
+        if (walkAnimation != null) walkAnimation.reset();
+        if (deathAnimation != null) deathAnimation.reset();
+    }
+
+    @Override
+    public void releaseAssets() {
+        if (registry == null) return;
+        registry.releaseAnimation("goblin_walk");
+        registry.releaseAnimation("goblin_death");
+        registry = null;
+        walkAnimation = null;
+        deathAnimation = null;
     }
 
     public void render(SpriteBatch batch) {
@@ -2,13 +2,19 @@ package com.bonechild.monsters.impl;
 
 import com.badlogic.gdx.math.Vector2;
 import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.pool.HandleTable;
+import com.bonechild.pool.Pooled;
 
 /**
- * Base mob class with health, movement, and collision
+ * Base mob class with health, movement, and collision.
+ *
+ * Mobs are pooled by DefaultMobFactory: reset() returns one to full health, alive and
+ * at rest, and respawn() places it for its next use.
  */
-public class Mob implements MobEntity {
+public class Mob implements MobEntity, Pooled {
     // Position and dimensions
     protected Vector2 position;
+    protected Vector2 previousPosition; // Position at the start of the current simulation tick
     protected Vector2 velocity;
     protected float width;
     protected float height;
@@ -27,12 +33,16 @@ public class Mob implements MobEntity {
     // Movement
     protected float speed;
     protected Vector2 targetPosition;  // Target to chase (usually player position)
+    private final float[] motion = new float[4]; // steer output for update
 
     // Combat
     protected float damage;
 
+    private int handle = HandleTable.NONE;
+
     public Mob(float x, float y, Vector2 targetPosition) {
         this.position = new Vector2(x, y);
+        this.previousPosition = new Vector2(x, y);
         this.velocity = new Vector2();
         this.targetPosition = targetPosition;
 
@@ -53,20 +63,95 @@ public class Mob implements MobEntity {
     }
 
     /**
-     * Update mob - chase target position
+     * Update mob - animate, then chase target position
      */
     public void update(float delta) {
-        if (dead || targetPosition == null) {
+        updateAnimation(delta);
+        if (!isMoving()) {
             return;
         }
 
         // Move toward target
-        Vector2 direction = new Vector2(targetPosition).sub(position).nor();
-        velocity.set(direction.x * speed, direction.y * speed);
-        position.x += velocity.x * delta;
-        position.y += velocity.y * delta;
+        steer(position.x, position.y, targetPosition.x, targetPosition.y, delta, motion, 0);
+        applyMotion(motion[0], motion[1], motion[2], motion[3]);
+    }
+
+    /**
+     * Advance animations and other state that belongs to this mob alone (override in subclasses)
+     */
+    public void updateAnimation(float delta) {
+        // Base mob has no animation
+    }
+
+    /**
+     * True if this mob moves this tick (alive and has a target)
+     */
+    public boolean isMoving() {
+        return !dead && targetPosition != null;
+    }
+
+    /**
+     * Compute one tick of movement from (x, y) toward (targetX, targetY) without changing
+     * the mob. Writes vx, vy, newX, newY to out[offset..offset + 3]. Reads only this mob's
+     * speed, so many mobs can be stepped on different threads at once.
+     */
+    public void steer(float x, float y, float targetX, float targetY, float delta, float[] out, int offset) {
+        float dx = targetX - x;
+        float dy = targetY - y;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length != 0f) {
+            dx /= length;
+            dy /= length;
+        }
+        float vx = dx * speed;
+        float vy = dy * speed;
+        out[offset] = vx;
+        out[offset + 1] = vy;
+        out[offset + 2] = x + vx * delta;
+        out[offset + 3] = y + vy * delta;
+    }
+
+    /**
+     * Set the velocity and position computed by steer
+     */
+    public void applyMotion(float vx, float vy, float x, float y) {
+        velocity.set(vx, vy);
+        position.set(x, y);
+    }
+
+    /**
+     * Place a new or recycled mob at its spawn point
+     */
+    public void respawn(float x, float y) {
+        position.set(x, y);
+        previousPosition.set(x, y);
     }
 
+    /**
+     * Back to the state the constructor left it in (stats and animations are kept)
+     */
+    @Override
+    public void reset() {
+        position.setZero();
+        previousPosition.setZero();
+        velocity.setZero();
+        currentHealth = maxHealth;
+        dead = false;
+    }
+
+    /**
+     * Release the asset references taken in the constructor. Called when the pool drops
+     * this mob for good; it must not be used afterwards.
+     */
+    public void releaseAssets() {
+    }
+
+    @Override
+    public int getHandle() { return handle; }
+
+    @Override
+    public void setHandle(int handle) { this.handle = handle; }
+
     /**
      * Update target position (called by game-core with player position)
      */
@@ -113,9 +198,22 @@ public class Mob implements MobEntity {
         currentHealth = Math.min(currentHealth + amount, maxHealth);
     }
 
+    /**
+     * Remember the current position as the start of the next simulation tick.
+     * The renderer blends from here to the new position between fixed ticks.
+     */
+    @Override
+    public void capturePreviousPosition() {
+        previousPosition.set(position);
+    }
+
     // Getters
+    @Override
     public Vector2 getPosition() { return position; }
 
+    @Override
+    public Vector2 getPreviousPosition() { return previousPosition; }
+
     @Override
     public float getDamage() { return damage; }
 
@@ -7,6 +7,7 @@ import com.badlogic.gdx.math.Vector2;
  */
 public abstract class Entity {
     protected Vector2 position;
+    protected Vector2 previousPosition; // Position at the start of the current simulation tick
     protected Vector2 velocity;
     protected float width;
     protected float height;
@@ -18,6 +19,7 @@ public abstract class Entity {
 
     public Entity(float x, float y, float width, float height) {
         this.position = new Vector2(x, y);
+        this.previousPosition = new Vector2(x, y);
         this.velocity = new Vector2(0, 0);
         this.width = width;
         this.height = height;
@@ -59,9 +61,18 @@ public abstract class Entity {
                thisY + hitboxHeight > otherY;
     }
 
+    /**
+     * Remember the current position as the start of the next simulation tick.
+     * The renderer blends from here to the new position between fixed ticks.
+     */
+    public void capturePreviousPosition() {
+        previousPosition.set(position);
+    }
+
     // Getters and Setters
     public Vector2 getPosition() { return position; }
     public void setPosition(float x, float y) { position.set(x, y); }
+    public Vector2 getPreviousPosition() { return previousPosition; }
 
     public Vector2 getVelocity() { return velocity; }
     public void setVelocity(float x, float y) { velocity.set(x, y); }
@@ -1,9 +1,11 @@
 package com.bonechild.playablecharacters;
 
+import com.badlogic.gdx.utils.Pool;
+
 /**
- * Ghost sprite for dodge trail effect
+ * Ghost sprite for dodge trail effect. Player recycles expired ghosts through a Pool.
  */
-public class GhostSprite {
+public class GhostSprite implements Pool.Poolable {
     private float x;
     private float y;
     private float width;
@@ -13,7 +15,17 @@ public class GhostSprite {
     private float lifetime;
     private static final float MAX_LIFETIME = 0.4f; // Ghost lasts 0.4 seconds
     
+    /**
+     * Empty ghost for a pool; call init before use
+     */
+    public GhostSprite() {
+    }
+
     public GhostSprite(float x, float y, float width, float height, boolean facingRight) {
+        init(x, y, width, height, facingRight);
+    }
+
+    public GhostSprite init(float x, float y, float width, float height, boolean facingRight) {
         this.x = x;
         this.y = y;
         this.width = width;
@@ -21,6 +33,15 @@ public class GhostSprite {
         this.facingRight = facingRight;
         this.opacity = 0.6f; // Start at 60% opacity
         this.lifetime = 0f;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        x = 0f;
+        y = 0f;
+        opacity = 0f;
+        lifetime = 0f;
     }
     
     public void update(float delta) {
@@ -1,17 +1,24 @@
 package com.bonechild.playablecharacters;
 
 import com.badlogic.gdx.math.Vector2;
+import com.bonechild.pool.HandlePool;
+import com.bonechild.pool.HandleTable;
+import com.bonechild.pool.Pooled;
 
 /**
- * Represents a pickup item (coin or XP orb) that players collect
+ * Represents a pickup item (coin or XP orb) that players collect.
+ *
+ * Loot is recycled through a Pickup.PickupPool; reset() leaves a pickup uncollected at
+ * the origin and init() sets it up for its next drop.
  */
-public class Pickup {
+public class Pickup implements Pooled {
     public enum PickupType {
         GOLD_COIN, XP_ORB, HEALTH_ORB
     }
 
     // Position and size
-    private Vector2 position;
+    private final Vector2 position = new Vector2();
+    private final Vector2 previousPosition = new Vector2(); // Position at the start of the current simulation tick
     private float width;
     private float height;
 
@@ -21,10 +28,26 @@ public class Pickup {
     private float magneticPullDistance;
     private float magneticPullSpeed;
     private boolean collected;
+    private int handle = HandleTable.NONE;
+
+    /**
+     * Empty pickup for a pool; call init before use
+     */
+    public Pickup() {
+        this.type = PickupType.XP_ORB;
+    }
 
     public Pickup(float x, float y, PickupType type, float value) {
+        init(x, y, type, value);
+    }
+
+    /**
+     * Set up a new or recycled pickup
+     */
+    public Pickup init(float x, float y, PickupType type, float value) {
         // Set position and size based on pickup type - XP orbs are much smaller
-        this.position = new Vector2(x, y);
+        this.position.set(x, y);
+        this.previousPosition.set(x, y);
         this.width = type == PickupType.XP_ORB ? 4 : 16;  // XP orbs are 4x4 (1/8th size of 16x16)
         this.height = type == PickupType.XP_ORB ? 4 : 16;
         this.type = type;
@@ -33,8 +56,23 @@ public class Pickup {
         this.magneticPullDistance = 120f; // How far away magnetic pull starts - increased from 80
         this.magneticPullSpeed = 250f; // Speed of magnetic pull (pixels per second) - increased from 150
         this.collected = false;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        position.setZero();
+        previousPosition.setZero();
+        collected = false;
+        value = 0f;
     }
 
+    @Override
+    public int getHandle() { return handle; }
+
+    @Override
+    public void setHandle(int handle) { this.handle = handle; }
+
     public void update(float delta) {
         if (collected) {
             return;
@@ -112,10 +150,37 @@ public class Pickup {
         collected = true;
     }
 
+    /**
+     * Remember the current position as the start of the next simulation tick.
+     * The renderer blends from here to the new position between fixed ticks.
+     */
+    public void capturePreviousPosition() {
+        previousPosition.set(position);
+    }
+
     public Vector2 getPosition() { return position; }
+    public Vector2 getPreviousPosition() { return previousPosition; }
     public float getWidth() { return width; }
     public float getHeight() { return height; }
     public PickupType getType() { return type; }
     public boolean isCollected() { return collected; }
+
+    /**
+     * Pool of loot pickups with generational handles
+     */
+    public static class PickupPool extends HandlePool<Pickup> {
+        public PickupPool() {
+            super(64);
+        }
+
+        public Pickup obtain(float x, float y, PickupType type, float value) {
+            return obtain().init(x, y, type, value);
+        }
+
+        @Override
+        protected Pickup newObject() {
+            return new Pickup();
+        }
+    }
 }
 
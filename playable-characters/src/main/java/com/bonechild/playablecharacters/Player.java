@@ -1,7 +1,10 @@
 package com.bonechild.playablecharacters;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Pool;
 import com.bonechild.monsters.api.MobEntity;
+import com.bonechild.random.RandomStream;
+import com.bonechild.logging.Log;
 
 /**
  * Player character
@@ -18,6 +21,7 @@ public class Player extends LivingEntity {
     
     // Callback for spawning projectiles
     private ProjectileSpawner projectileSpawner;
+    private Projectile.ProjectilePool projectilePool; // null: every fireball is a new object
     
     // Reference to mobs for auto-targeting (injected by WorldManager)
     private com.badlogic.gdx.utils.Array<MobEntity> targetableMobs;
@@ -58,6 +62,7 @@ public class Player extends LivingEntity {
     private static final float INVINCIBILITY_DURATION = 0.375f;
     private float invincibilityTimer = 0f;
     private boolean isInvincible = false;
+    private boolean deathDisabled = false; // Stress runs: damage still lands but stops at 1 HP
     
     // Dodge mechanic
     private static final int MAX_DODGE_CHARGES = 3;
@@ -72,7 +77,13 @@ public class Player extends LivingEntity {
     private float dodgeDirectionX = 0f;
     private float dodgeDirectionY = 0f;
     private float ghostSpawnTimer = 0f;
-    private java.util.ArrayList<GhostSprite> ghostTrail = new java.util.ArrayList<>();
+    private java.util.ArrayList<GhostSprite> ghostTrail = new java.util.ArrayList<>(16); // Sized for a full dodge trail
+    private final Pool<GhostSprite> ghostPool = new Pool<GhostSprite>(16) {
+        @Override
+        protected GhostSprite newObject() {
+            return new GhostSprite();
+        }
+    };
 
     // Kill streak system
     private static final float KILL_STREAK_TIMEOUT = 5.0f;
@@ -84,7 +95,7 @@ public class Player extends LivingEntity {
     private static final float BASE_CRIT_CHANCE = 0.15f;
     private static final float CRIT_MULTIPLIER = 2.0f;
     private static final float DAMAGE_VARIANCE = 0.2f;
-    private java.util.Random critRandom = new java.util.Random();
+    private RandomStream critRandom = new RandomStream(System.nanoTime());
     
     // Temporary grab boost on level up
     private boolean tempGrabBoostActive = false;
@@ -98,6 +109,10 @@ public class Player extends LivingEntity {
     private float attackCooldown;
     private float timeSinceLastAttack;
     
+    // Area the player is kept inside; 0 means the current window size
+    private float movementBoundsWidth;
+    private float movementBoundsHeight;
+    
     public Player(float x, float y) {
         super(x, y, 48, 48, 100f, 200f); // Entity size matches PNG: 48x48
         
@@ -143,11 +158,11 @@ public class Player extends LivingEntity {
             if (!canAttack()) {
                 // Cooldown active - don't log every frame
             } else if (isDead()) {
-                Gdx.app.log("Player", "Can't attack - player is dead");
+                Log.debug("Player", "Can't attack - player is dead");
             } else if (projectileSpawner == null) {
-                Gdx.app.log("Player", "Can't attack - projectileSpawner is null!");
+                Log.debug("Player", "Can't attack - projectileSpawner is null!");
             } else if (targetableMobs == null) {
-                Gdx.app.log("Player", "Can't attack - targetableMobs is null!");
+                Log.debug("Player", "Can't attack - targetableMobs is null!");
             }
         }
         
@@ -159,7 +174,7 @@ public class Player extends LivingEntity {
                 killStreak = 0;
                 killStreakTimer = 0f;
                 updateKillStreakMultiplier();
-                Gdx.app.log("Player", "Kill streak lost!");
+                Log.info("Player", "Kill streak lost!");
             }
         }
         
@@ -169,7 +184,7 @@ public class Player extends LivingEntity {
             if (dodgeRechargeTimer >= DODGE_CHARGE_COOLDOWN) {
                 dodgeCharges++;
                 dodgeRechargeTimer = 0f;
-                Gdx.app.log("Player", "Dodge charge restored! Charges: " + dodgeCharges);
+                Log.info("Player", "Dodge charge restored! Charges: {}", dodgeCharges);
             }
         }
         
@@ -208,6 +223,7 @@ public class Player extends LivingEntity {
             ghost.update(delta);
             if (ghost.isExpired()) {
                 ghostTrail.remove(i);
+                ghostPool.free(ghost);
             }
         }
 
@@ -226,7 +242,7 @@ public class Player extends LivingEntity {
             if (tempGrabBoostTimer >= TEMP_GRAB_BOOST_DURATION) {
                 tempGrabBoostActive = false;
                 tempGrabBoostTimer = 0f;
-                Gdx.app.log("Player", "Temporary grab boost expired!");
+                Log.info("Player", "Temporary grab boost expired!");
             }
         }
         
@@ -275,14 +291,22 @@ public class Player extends LivingEntity {
         position.x += velocity.x * delta;
         position.y += velocity.y * delta;
         
-        // Keep player on screen
-        float screenWidth = Gdx.graphics.getWidth();
-        float screenHeight = Gdx.graphics.getHeight();
+        // Keep player on screen (or inside explicit bounds when there is no window)
+        float screenWidth = movementBoundsWidth > 0 ? movementBoundsWidth : Gdx.graphics.getWidth();
+        float screenHeight = movementBoundsHeight > 0 ? movementBoundsHeight : Gdx.graphics.getHeight();
         
         position.x = Math.max(0, Math.min(position.x, screenWidth - width));
         position.y = Math.max(0, Math.min(position.y, screenHeight - height));
     }
     
+    /**
+     * Keep the player inside a fixed area instead of the window (used by headless simulation)
+     */
+    public void setMovementBounds(float width, float height) {
+        this.movementBoundsWidth = width;
+        this.movementBoundsHeight = height;
+    }
+    
     /**
      * Perform a dodge/dash
      */
@@ -314,7 +338,7 @@ public class Player extends LivingEntity {
         dodgeDirectionY = dirY;
         isInvincible = true; // Grant i-frames during dodge
         
-        Gdx.app.log("Player", "Dodge! Charges remaining: " + dodgeCharges);
+        Log.info("Player", "Dodge! Charges remaining: {}", dodgeCharges);
         return true;
     }
     
@@ -322,7 +346,7 @@ public class Player extends LivingEntity {
      * Spawn a ghost sprite at current position
      */
     private void spawnGhost() {
-        ghostTrail.add(new GhostSprite(position.x, position.y, width, height, facingRight));
+        ghostTrail.add(ghostPool.obtain().init(position.x, position.y, width, height, facingRight));
     }
 
     /**
@@ -337,6 +361,9 @@ public class Player extends LivingEntity {
         if (isInvincible) {
             return;
         }
+        if (deathDisabled && damage >= currentHealth) {
+            damage = Math.max(currentHealth - 1f, 0f);
+        }
         
         super.takeDamage(damage);
         
@@ -406,7 +433,7 @@ public class Player extends LivingEntity {
         float visualCenterX = position.x + getHitboxOffsetX() + getHitboxWidth() / 2f;
         float visualCenterY = position.y + getHitboxOffsetY() + getHitboxHeight() / 2f;
         
-        Projectile projectile = new Projectile(
+        Projectile projectile = (projectilePool != null ? projectilePool.obtain() : new Projectile()).init(
             visualCenterX,
             visualCenterY,
             targetHitboxCenterX,
@@ -417,9 +444,11 @@ public class Player extends LivingEntity {
         );
         
         if (isCrit) {
-            Gdx.app.log("Player", "💥 CRITICAL HIT! Damage: " + finalDamage + " (base: " + attackDamage + ")");
-        } else {
-            Gdx.app.log("Player", "Fireball cast! Damage: " + finalDamage + " (base: " + attackDamage + ")");
+            if (Log.isDebugEnabled()) {
+                Log.debug("Player", "💥 CRITICAL HIT! Damage: {} (base: {})", finalDamage, attackDamage);
+            }
+        } else if (Log.isDebugEnabled()) {
+            Log.debug("Player", "Fireball cast! Damage: {} (base: {})", finalDamage, attackDamage);
         }
         return projectile;
     }
@@ -431,6 +460,20 @@ public class Player extends LivingEntity {
         this.projectileSpawner = spawner;
     }
 
+    /**
+     * Take fireballs from this pool; whoever removes spent projectiles frees them back to it
+     */
+    public void setProjectilePool(Projectile.ProjectilePool pool) {
+        this.projectilePool = pool;
+    }
+
+    /**
+     * Use the run's seeded combat stream for damage variance and crits
+     */
+    public void setCombatRandom(RandomStream random) {
+        this.critRandom = random;
+    }
+
     /**
      * Set the targetable mobs array (injected by WorldManager each frame)
      */
@@ -469,7 +512,9 @@ public class Player extends LivingEntity {
      */
     public void addGold(int amount) {
         gold += amount;
-        Gdx.app.log("Player", "Gold collected! Total: " + gold);
+        if (Log.isDebugEnabled()) {
+            Log.debug("Player", "Gold collected! Total: {}", gold);
+        }
     }
     
     /**
@@ -478,7 +523,7 @@ public class Player extends LivingEntity {
     public boolean spendGold(int amount) {
         if (gold >= amount) {
             gold -= amount;
-            Gdx.app.log("Player", "Spent " + amount + " gold. Remaining: " + gold);
+            Log.info("Player", "Spent {} gold. Remaining: {}", amount, gold);
             return true;
         }
         return false;
@@ -506,10 +551,10 @@ public class Player extends LivingEntity {
         // Activate temporary grab boost
         tempGrabBoostActive = true;
         tempGrabBoostTimer = 0f;
-        Gdx.app.log("Player", "🌟 GRAB BOOST ACTIVATED! Max pickup range for " + TEMP_GRAB_BOOST_DURATION + " seconds!");
+        Log.info("Player", "🌟 GRAB BOOST ACTIVATED! Max pickup range for {} seconds!", TEMP_GRAB_BOOST_DURATION);
         
         leveledUpThisFrame = true;
-        Gdx.app.log("Player", "🎉 Level up! Now level " + level + ", Next level needs: " + experienceToNextLevel + " XP");
+        Log.info("Player", "🎉 Level up! Now level {}, Next level needs: {} XP", level, experienceToNextLevel);
     }
     
     /**
@@ -520,48 +565,48 @@ public class Player extends LivingEntity {
             case "SPEED":
                 speedLevel++;
                 speed += 50f; // Increase speed by 50 each time
-                Gdx.app.log("Player", "Speed upgraded! Level: " + speedLevel + ", Speed: " + speed);
+                Log.info("Player", "Speed upgraded! Level: {}, Speed: {}", speedLevel, speed);
                 break;
             case "STRENGTH":
                 strengthLevel++;
                 attackDamage += 10f; // Increase damage by 10 each time
-                Gdx.app.log("Player", "Strength upgraded! Level: " + strengthLevel + ", Damage: " + attackDamage);
+                Log.info("Player", "Strength upgraded! Level: {}, Damage: {}", strengthLevel, attackDamage);
                 break;
             case "GRAB":
                 grabLevel++;
                 // Grab increases pickup pull distance and speed (handled in Pickup class)
-                Gdx.app.log("Player", "Grab upgraded! Level: " + grabLevel);
+                Log.info("Player", "Grab upgraded! Level: {}", grabLevel);
                 break;
             case "ATTACK_SPEED":
                 attackSpeedLevel++;
                 attackCooldown = Math.max(0.1f, attackCooldown - 0.05f); // Reduce cooldown by 0.05s, minimum 0.1s
-                Gdx.app.log("Player", "Attack Speed upgraded! Level: " + attackSpeedLevel + ", Cooldown: " + attackCooldown);
+                Log.info("Player", "Attack Speed upgraded! Level: {}, Cooldown: {}", attackSpeedLevel, attackCooldown);
                 break;
             case "MAX_HP":
                 maxHpLevel++;
                 maxHealth += 20f; // Increase max health by 20
                 currentHealth += 20f; // Also heal by 20 when upgrading
-                Gdx.app.log("Player", "Max HP upgraded! Level: " + maxHpLevel + ", Max HP: " + maxHealth);
+                Log.info("Player", "Max HP upgraded! Level: {}, Max HP: {}", maxHpLevel, maxHealth);
                 break;
             case "XP_BOOST":
                 xpBoostLevel++;
                 // XP boost multiplier is calculated when collecting XP
-                Gdx.app.log("Player", "XP Boost upgraded! Level: " + xpBoostLevel);
+                Log.info("Player", "XP Boost upgraded! Level: {}", xpBoostLevel);
                 break;
             case "EXPLOSION_CHANCE":
                 explosionChanceLevel++;
                 // Each level gives 5% chance for explosions
-                Gdx.app.log("Player", "Explosion Chance upgraded! Level: " + explosionChanceLevel + ", Chance: " + (explosionChanceLevel * 5) + "%");
+                Log.info("Player", "Explosion Chance upgraded! Level: {}, Chance: {}%", explosionChanceLevel, explosionChanceLevel * 5);
                 break;
             case "CHAIN_LIGHTNING":
                 chainLightningLevel++;
                 // Each level gives 20% chance for chain lightning (maxes at 100% at level 5)
-                Gdx.app.log("Player", "Chain Lightning upgraded! Level: " + chainLightningLevel + ", Chance: " + Math.min(100, chainLightningLevel * 20) + "%");
+                Log.info("Player", "Chain Lightning upgraded! Level: {}, Chance: {}%", chainLightningLevel, Math.min(100, chainLightningLevel * 20));
                 break;
             case "LIFESTEAL":
                 lifestealLevel++;
                 // Each level gives 15% lifesteal on kill
-                Gdx.app.log("Player", "Lifesteal upgraded! Level: " + lifestealLevel + ", Heal: " + (lifestealLevel * 15) + "% damage on kill");
+                Log.info("Player", "Lifesteal upgraded! Level: {}, Heal: {}% damage on kill", lifestealLevel, lifestealLevel * 15);
                 break;
         }
     }
@@ -605,7 +650,7 @@ public class Player extends LivingEntity {
     
     @Override
     protected void onDeath() {
-        Gdx.app.log("Player", "Player died!");
+        Log.info("Player", "Player died!");
         // TODO: Game over logic
     }
     
@@ -619,7 +664,7 @@ public class Player extends LivingEntity {
         
         // Log milestone streaks
         if (killStreak == 5 || killStreak == 10 || killStreak == 25 || killStreak == 50 || killStreak == 100) {
-            Gdx.app.log("Player", "🔥 KILL STREAK: " + killStreak + "! Multiplier: " + killStreakMultiplier + "x");
+            Log.info("Player", "🔥 KILL STREAK: {}! Multiplier: {}x", killStreak, killStreakMultiplier);
         }
     }
     
@@ -628,7 +673,7 @@ public class Player extends LivingEntity {
      */
     public void resetKillStreak() {
         if (killStreak > 0) {
-            Gdx.app.log("Player", "Kill streak broken at " + killStreak);
+            Log.info("Player", "Kill streak broken at {}", killStreak);
             killStreak = 0;
             killStreakTimer = 0f;
             updateKillStreakMultiplier();
@@ -684,6 +729,12 @@ public class Player extends LivingEntity {
         return tempGrabBoostActive ? (TEMP_GRAB_BOOST_DURATION - tempGrabBoostTimer) : 0f; 
     }
 
+    /**
+     * Keep the player alive at 1 HP however much damage it takes (endless stress runs)
+     */
+    public void setDeathDisabled(boolean deathDisabled) { this.deathDisabled = deathDisabled; }
+    public boolean isDeathDisabled() { return deathDisabled; }
+
     // Animation getters
     public AnimationState getCurrentState() { return currentState; }
     public boolean isFacingRight() { return facingRight; }
@@ -8,7 +8,17 @@ import com.badlogic.gdx.math.Vector2;
  * Handles player input for movement and dodging
  */
 public class PlayerInput {
+    // Input bits for one simulation tick (recorded as a single byte by replays)
+    public static final int MOVE_UP = 1;
+    public static final int MOVE_DOWN = 1 << 1;
+    public static final int MOVE_LEFT = 1 << 2;
+    public static final int MOVE_RIGHT = 1 << 3;
+    public static final int DODGE = 1 << 4;
+    
     private Player player;
+    private final Vector2 movement = new Vector2();
+    private int heldKeys;
+    private boolean dodgePending;
     
     // Keybinds
     private int keyMoveUp;
@@ -28,31 +38,76 @@ public class PlayerInput {
     }
     
     /**
-     * Process input and update player velocity
+     * Process input and update player velocity immediately
      */
     public void update() {
+        poll();
+        apply(sample());
+    }
+    
+    /**
+     * Read the keyboard for this frame. Held keys are remembered and dodge presses are
+     * latched until the next simulation tick consumes them, so a press is not lost on a
+     * frame that runs no ticks.
+     */
+    public void poll() {
+        int held = 0;
+        if (Gdx.input.isKeyPressed(keyMoveUp) || Gdx.input.isKeyPressed(Input.Keys.UP)) {
+            held |= MOVE_UP;
+        }
+        if (Gdx.input.isKeyPressed(keyMoveDown) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
+            held |= MOVE_DOWN;
+        }
+        if (Gdx.input.isKeyPressed(keyMoveLeft) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
+            held |= MOVE_LEFT;
+        }
+        if (Gdx.input.isKeyPressed(keyMoveRight) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
+            held |= MOVE_RIGHT;
+        }
+        heldKeys = held;
+        
+        if (Gdx.input.isKeyJustPressed(keyDodge)) {
+            dodgePending = true;
+        }
+    }
+    
+    /**
+     * Input bits for the coming simulation tick (consumes a latched dodge press)
+     */
+    public int sample() {
+        int input = heldKeys;
+        if (dodgePending) {
+            input |= DODGE;
+            dodgePending = false;
+        }
+        return input;
+    }
+    
+    /**
+     * Apply one tick of input bits to the player. Live play passes sample(); replays pass
+     * the recorded bits, so both drive the player through exactly the same code.
+     */
+    public void apply(int input) {
         if (player == null || player.isDead()) {
             return;
         }
         
-        // Check for dodge input (don't allow if already dodging)
-        if (Gdx.input.isKeyJustPressed(keyDodge) && !player.isDodging()) {
-            // Get current movement direction for dodge
-            float dirX = 0, dirY = 0;
-            if (Gdx.input.isKeyPressed(keyMoveUp) || Gdx.input.isKeyPressed(Input.Keys.UP)) {
-                dirY += 1;
-            }
-            if (Gdx.input.isKeyPressed(keyMoveDown) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-                dirY -= 1;
-            }
-            if (Gdx.input.isKeyPressed(keyMoveLeft) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-                dirX -= 1;
-            }
-            if (Gdx.input.isKeyPressed(keyMoveRight) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-                dirX += 1;
-            }
-            
-            // Perform dodge in movement direction (or facing direction if not moving)
+        float dirX = 0, dirY = 0;
+        if ((input & MOVE_UP) != 0) {
+            dirY += 1;
+        }
+        if ((input & MOVE_DOWN) != 0) {
+            dirY -= 1;
+        }
+        if ((input & MOVE_LEFT) != 0) {
+            dirX -= 1;
+        }
+        if ((input & MOVE_RIGHT) != 0) {
+            dirX += 1;
+        }
+        
+        // Dodge in movement direction (or facing direction if not moving), not while already dodging
+        if ((input & DODGE) != 0 && !player.isDodging()) {
             player.dodge(dirX, dirY);
         }
         
@@ -61,21 +116,7 @@ public class PlayerInput {
             return;
         }
         
-        Vector2 movement = new Vector2(0, 0);
-        
-        // WASD movement (using keybinds)
-        if (Gdx.input.isKeyPressed(keyMoveUp) || Gdx.input.isKeyPressed(Input.Keys.UP)) {
-            movement.y += 1;
-        }
-        if (Gdx.input.isKeyPressed(keyMoveDown) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-            movement.y -= 1;
-        }
-        if (Gdx.input.isKeyPressed(keyMoveLeft) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            movement.x -= 1;
-        }
-        if (Gdx.input.isKeyPressed(keyMoveRight) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            movement.x += 1;
-        }
+        movement.set(dirX, dirY);
         
         // Normalize diagonal movement
         if (movement.len() > 0) {
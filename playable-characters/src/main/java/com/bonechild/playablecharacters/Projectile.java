@@ -2,6 +2,7 @@ package com.bonechild.playablecharacters;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.bonechild.assets.AssetRegistry;
 import com.bonechild.rendering.Animation;
 
@@ -11,20 +12,30 @@ import com.bonechild.rendering.Animation;
  * Design: Projectile owns its visual identity via animationId. Renderer is generic.
  *
  * NOTE: Collision is handled by the engine-level CollisionSystem.
+ *
+ * Projectiles are recycled through a Projectile.ProjectilePool. reset() deactivates one
+ * and keeps its animation, which init() reuses if the next shot has the same animationId.
  */
-public class Projectile {
-    private final String animationId;
+public class Projectile implements Pool.Poolable {
+    private String animationId;
     private Animation animation; // lazily obtained from AssetRegistry
 
-    private final Vector2 position;
-    private final Vector2 velocity;
-    private final float radius;
-    private final float damage;
-    private final float maxDistance;
+    private final Vector2 position = new Vector2();
+    private final Vector2 previousPosition = new Vector2(); // Position at the start of the current simulation tick
+    private final Vector2 velocity = new Vector2();
+    private float radius;
+    private float damage;
+    private float maxDistance;
 
     private float distanceTraveled;
     private boolean active;
-    private final boolean isCritical;
+    private boolean isCritical;
+
+    /**
+     * Inactive projectile for a pool; call init before use
+     */
+    public Projectile() {
+    }
 
     public Projectile(
             float startX,
@@ -35,13 +46,34 @@ public class Projectile {
             boolean isCritical,
             String animationId
     ) {
-        this.position = new Vector2(startX, startY);
+        init(startX, startY, targetX, targetY, damage, isCritical, animationId);
+    }
+
+    /**
+     * Set up a new or recycled projectile aimed at the target
+     */
+    public Projectile init(
+            float startX,
+            float startY,
+            float targetX,
+            float targetY,
+            float damage,
+            boolean isCritical,
+            String animationId
+    ) {
+        this.position.set(startX, startY);
+        this.previousPosition.set(startX, startY);
         this.radius = 5f;
         this.damage = damage;
         this.maxDistance = 1000f;
         this.distanceTraveled = 0f;
         this.active = true;
         this.isCritical = isCritical;
+        if (animationId == null || !animationId.equals(this.animationId)) {
+            this.animation = null;
+        } else if (animation != null) {
+            animation.reset();
+        }
         this.animationId = animationId;
 
         // Calculate direction to target
@@ -52,10 +84,20 @@ public class Projectile {
         // Normalize and apply speed
         float speed = 300f; // pixels/second
         if (distance > 0f) {
-            this.velocity = new Vector2(dx / distance * speed, dy / distance * speed);
+            this.velocity.set(dx / distance * speed, dy / distance * speed);
         } else {
-            this.velocity = new Vector2(0f, 0f);
+            this.velocity.set(0f, 0f);
         }
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        position.setZero();
+        previousPosition.setZero();
+        velocity.setZero();
+        distanceTraveled = 0f;
+        active = false;
     }
 
     /**
@@ -114,12 +156,35 @@ public class Projectile {
         active = false;
     }
 
+    /**
+     * Remember the current position as the start of the next simulation tick.
+     * The renderer blends from here to the new position between fixed ticks.
+     */
+    public void capturePreviousPosition() {
+        previousPosition.set(position);
+    }
+
     // Getters
     public Vector2 getPosition() { return position; }
+    public Vector2 getPreviousPosition() { return previousPosition; }
     public Vector2 getVelocity() { return velocity; }
     public float getRadius() { return radius; }
     public float getDamage() { return damage; }
     public boolean isActive() { return active; }
     public boolean isCritical() { return isCritical; }
     public String getAnimationId() { return animationId; }
+
+    /**
+     * Pool of projectiles, shared by whoever fires them and whoever removes them
+     */
+    public static class ProjectilePool extends Pool<Projectile> {
+        public ProjectilePool() {
+            super(32);
+        }
+
+        @Override
+        protected Projectile newObject() {
+            return new Projectile();
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package com.bonechild.stages;
+
+import com.bonechild.stages.StageSpawner.SpawnPattern;
+import com.bonechild.stages.StageSpawner.StageDefinition;
+import com.bonechild.stages.StageSpawner.WaveDefinition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A validated stage, ready to play: every wave compiled into a WaveTimeline, plus what the
+ * spawner and prewarmer ask about the stage as a whole. Immutable, so one instance can be
+ * shared by every world (and the simulator's threads) and swapped out whole on reload.
+ *
+ * StageDefinition stays the JSON shape; it is only read once, by compile().
+ */
+public final class CompiledStage {
+    private final String stageId;
+    private final String name;
+    private final String description;
+    private final int textureBudgetMb;
+    private final Wave[] waves;
+    private final Set<String> mobTypes;
+    private final Map<String, Integer> peakMobCounts;
+
+    public static final class Wave {
+        private final int waveNumber;
+        private final boolean bossWave;
+        private final WaveTimeline timeline;
+
+        Wave(int waveNumber, boolean bossWave, WaveTimeline timeline) {
+            this.waveNumber = waveNumber;
+            this.bossWave = bossWave;
+            this.timeline = timeline;
+        }
+
+        public int getWaveNumber() { return waveNumber; }
+        public boolean isBossWave() { return bossWave; }
+        public WaveTimeline getTimeline() { return timeline; }
+    }
+
+    private CompiledStage(StageDefinition definition, Wave[] waves, Set<String> mobTypes,
+                          Map<String, Integer> peakMobCounts) {
+        this.stageId = definition.stageId;
+        this.name = definition.name != null ? definition.name : "";
+        this.description = definition.description != null ? definition.description : "";
+        this.textureBudgetMb = definition.textureBudgetMb;
+        this.waves = waves;
+        this.mobTypes = Collections.unmodifiableSet(mobTypes);
+        this.peakMobCounts = Collections.unmodifiableMap(peakMobCounts);
+    }
+
+    /**
+     * Check and compile a parsed stage.
+     *
+     * @param knownMobTypes the mob type ids the factory can build; null skips that check
+     * @throws IllegalArgumentException listing every problem found, prefixed with source
+     */
+    public static CompiledStage compile(StageDefinition definition, Collection<String> knownMobTypes, String source) {
+        List<String> errors = new ArrayList<>();
+        if (definition.waves == null || definition.waves.size == 0) {
+            errors.add("no waves");
+        }
+
+        int waveCount = definition.waves != null ? definition.waves.size : 0;
+        Wave[] waves = new Wave[waveCount];
+        Set<String> mobTypes = new LinkedHashSet<>();
+        Map<String, Integer> peaks = new HashMap<>();
+        Map<String, Integer> wavePeaks = new HashMap<>();
+        for (int w = 0; w < waveCount; w++) {
+            WaveDefinition wave = definition.waves.get(w);
+            String where = "wave " + (w + 1);
+            if (wave.spawns == null) {
+                errors.add(where + ": no spawns");
+                continue;
+            }
+            wavePeaks.clear();
+            for (SpawnPattern pattern : wave.spawns) {
+                if (pattern.mobType == null) {
+                    errors.add(where + ": spawn without a mobType");
+                    continue;
+                }
+                if (knownMobTypes != null && !knownMobTypes.contains(pattern.mobType)) {
+                    errors.add(where + ": unknown mobType \"" + pattern.mobType + "\"");
+                }
+                if (pattern.count < 0) {
+                    errors.add(where + ": negative count for " + pattern.mobType);
+                }
+                mobTypes.add(pattern.mobType.intern());
+                wavePeaks.merge(pattern.mobType, Math.max(pattern.count, 0), Integer::sum);
+            }
+            // Waves do not overlap (the next starts once the last one is dead), so the most
+            // of a type alive at once is the most any single wave spawns
+            for (Map.Entry<String, Integer> entry : wavePeaks.entrySet()) {
+                peaks.merge(entry.getKey().intern(), entry.getValue(), Math::max);
+            }
+            if (errors.isEmpty()) {
+                waves[w] = new Wave(wave.waveNumber, wave.isBossWave, WaveTimeline.compile(wave));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(source + ": " + String.join("; ", errors));
+        }
+        return new CompiledStage(definition, waves, mobTypes, peaks);
+    }
+
+    public String getStageId() { return stageId; }
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+
+    /**
+     * Texture memory allowed while this stage runs, see TextureBudgetCheck; 0: none set
+     */
+    public int getTextureBudgetMb() { return textureBudgetMb; }
+
+    public int getWaveCount() { return waves.length; }
+
+    public Wave getWave(int index) { return waves[index]; }
+
+    /**
+     * Every mob type spawned by any wave
+     */
+    public Set<String> getMobTypes() { return mobTypes; }
+
+    /**
+     * Most mobs of each type alive at once
+     */
+    public Map<String, Integer> getPeakMobCounts() { return peakMobCounts; }
+}
@@ -0,0 +1,140 @@
+package com.bonechild.stages;
+
+import com.badlogic.gdx.utils.Array;
+import com.bonechild.random.RandomStream;
+import com.bonechild.stages.StageSpawner.SpawnPattern;
+import com.bonechild.stages.StageSpawner.WaveDefinition;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Endless horde: waves generated one at a time from a difficulty budget that grows by
+ * budgetPerWave every wave, without limit. Used for scale testing (--endless).
+ *
+ * Every mob type has a cost; a wave spends its budget on them and is spread evenly over
+ * waveDuration seconds. Every BOSS_EVERY waves a tenth of the budget goes to bosses, which
+ * arrive at the end of the wave. The split between the other types is drawn from the
+ * spawner's random stream, so the same seed generates the same waves. Boss waves show no
+ * warning screen, so nothing pauses a run.
+ *
+ * StageSpawner starts the next wave as soon as this one has spawned and waveDuration has
+ * passed, whether or not its mobs are dead, so the horde keeps growing.
+ */
+public final class EndlessStage {
+    public static final String NAME = "Endless Horde";
+    public static final int DEFAULT_BASE_BUDGET = 50;
+    public static final int DEFAULT_BUDGET_PER_WAVE = 100;
+    public static final float DEFAULT_WAVE_DURATION = 15f;
+
+    private static final int BOSS_EVERY = 10;
+    private static final int GROUP = 16; // Types alternate in groups of this many spawns
+
+    // Cheapest first; the last type is the boss
+    private static final String[] TYPES = {"mob", "goblin", "boss08b"};
+    private static final int[] COSTS = {1, 3, 100};
+
+    private final int baseBudget;
+    private final int budgetPerWave;
+    private final float waveDuration;
+
+    public EndlessStage(Collection<String> knownMobTypes) {
+        this(knownMobTypes, DEFAULT_BASE_BUDGET, DEFAULT_BUDGET_PER_WAVE, DEFAULT_WAVE_DURATION);
+    }
+
+    /**
+     * @param knownMobTypes the mob type ids the factory can build; null skips that check
+     */
+    public EndlessStage(Collection<String> knownMobTypes, int baseBudget, int budgetPerWave, float waveDuration) {
+        if (knownMobTypes != null) {
+            for (String type : TYPES) {
+                if (!knownMobTypes.contains(type)) {
+                    throw new IllegalArgumentException(NAME + ": unknown mobType \"" + type + "\"");
+                }
+            }
+        }
+        if (baseBudget < 1 || budgetPerWave < 0 || waveDuration <= 0f) {
+            throw new IllegalArgumentException(NAME + ": invalid budget " + baseBudget + " + "
+                + budgetPerWave + "/wave over " + waveDuration + " s");
+        }
+        this.baseBudget = baseBudget;
+        this.budgetPerWave = budgetPerWave;
+        this.waveDuration = waveDuration;
+    }
+
+    public String getName() { return NAME; }
+    public float getWaveDuration() { return waveDuration; }
+
+    public Set<String> getMobTypes() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(TYPES)));
+    }
+
+    /**
+     * Difficulty points wave waveNumber (from 1) spends
+     */
+    public long getBudget(int waveNumber) {
+        return baseBudget + (long) budgetPerWave * (waveNumber - 1);
+    }
+
+    private static boolean isBossWave(int waveNumber) {
+        return waveNumber % BOSS_EVERY == 0;
+    }
+
+    /**
+     * Spend wave waveNumber's budget and compile it. Allocates the wave's timeline; called
+     * once per wave.
+     */
+    public WaveTimeline generateWave(int waveNumber, RandomStream random) {
+        long budget = getBudget(waveNumber);
+        int[] counts = new int[TYPES.length];
+
+        int boss = TYPES.length - 1;
+        if (isBossWave(waveNumber)) {
+            counts[boss] = (int) Math.max(1L, budget / 10 / COSTS[boss]);
+            budget = Math.max(0L, budget - (long) counts[boss] * COSTS[boss]);
+        }
+
+        // Each other type but the cheapest gets a random share; the cheapest takes the rest
+        for (int type = boss - 1; type > 0; type--) {
+            long share = (long) (budget * random.range(0.2f, 0.6f));
+            counts[type] = (int) (share / COSTS[type]);
+            budget -= (long) counts[type] * COSTS[type];
+        }
+        counts[0] = (int) (budget / COSTS[0]);
+
+        int total = 0;
+        for (int count : counts) total += count;
+        float delay = waveDuration / Math.max(total, 1);
+
+        WaveDefinition wave = new WaveDefinition();
+        wave.waveNumber = waveNumber;
+        wave.spawns = new Array<>();
+        int[] left = counts.clone();
+        boolean more = true;
+        while (more) {
+            more = false;
+            for (int type = 0; type < boss; type++) {
+                if (left[type] == 0) continue;
+                int group = Math.min(GROUP, left[type]);
+                wave.spawns.add(pattern(TYPES[type], group, delay));
+                left[type] -= group;
+                more |= left[type] > 0;
+            }
+        }
+        if (counts[boss] > 0) {
+            wave.spawns.add(pattern(TYPES[boss], counts[boss], delay));
+        }
+        return WaveTimeline.compile(wave);
+    }
+
+    private static SpawnPattern pattern(String mobType, int count, float spawnDelay) {
+        SpawnPattern pattern = new SpawnPattern();
+        pattern.mobType = mobType;
+        pattern.count = count;
+        pattern.spawnDelay = spawnDelay;
+        return pattern;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bonechild.stages;
+
+import com.bonechild.logging.Log;
+import com.bonechild.monsters.api.MobFactory;
+
+import java.util.Map;
+
+/**
+ * Moves a stage's one-off costs out of the ticks that spawn it.
+ *
+ * prewarm() runs when a stage is loaded: for every mob type the stage spawns it asks the
+ * factory to pool as many mobs as the stage ever has alive at once. Building them loads
+ * and references their animations, so the first goblin of a wave and the boss come out
+ * of the pool with their textures already uploaded.
+ *
+ * Stage files themselves are parsed once, up front, by StageRepository.
+ */
+public class StagePrewarmer {
+    private final MobFactory mobFactory;
+
+    public StagePrewarmer(MobFactory mobFactory) {
+        this.mobFactory = mobFactory;
+    }
+
+    /**
+     * Pool each mob type of the stage up to its peak concurrent count
+     */
+    public void prewarm(CompiledStage stage) {
+        long start = System.nanoTime();
+        Map<String, Integer> peaks = stage.getPeakMobCounts();
+        for (Map.Entry<String, Integer> peak : peaks.entrySet()) {
+            mobFactory.prewarm(peak.getKey(), peak.getValue());
+        }
+        Log.info("StagePrewarmer", "Prewarmed {} in {} ms: {}", stage.getName(),
+            (System.nanoTime() - start) / 1_000_000, peaks);
+    }
+}
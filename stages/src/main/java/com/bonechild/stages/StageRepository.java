@@ -0,0 +1,210 @@
+package com.bonechild.stages;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.bonechild.logging.Log;
+import com.bonechild.stages.StageSpawner.StageDefinition;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Every stage of the game, parsed, validated and compiled once.
+ *
+ * The play order comes from the index file, stages/stages.json:
+ *   { "stages": [ "stage-1.json", "stage-2.json" ] }
+ * Stage files are read from the same directory. Any problem in any stage (a broken file,
+ * an unknown mobType, no waves) fails the load with one message per stage, so a typo is
+ * caught when the game starts rather than when the stage is reached.
+ *
+ * In development mode (setDevelopmentDirectory, --stages-dir= on the launcher) stages are
+ * read from a source directory instead of the classpath and a WatchService thread
+ * recompiles a stage file whenever it is saved, swapping the new version in atomically.
+ * A save that does not compile is logged and the previous version stays. Worlds pick up
+ * the new version when their current wave is cleared (see WorldManager).
+ */
+public final class StageRepository {
+    public static final String INDEX = "stages.json";
+    private static final String CLASSPATH_DIRECTORY = "stages/";
+    private static final long SETTLE_MS = 100; // Editors may save a file in several writes
+
+    private static File developmentDirectory;
+    private static StageRepository shared;
+
+    private final File directory; // null: the classpath
+    private final String[] files;
+    private final AtomicReferenceArray<CompiledStage> stages;
+    private final Collection<String> mobTypes;
+
+    private StageRepository(File directory, String[] files, Collection<String> mobTypes) {
+        this.directory = directory;
+        this.files = files;
+        this.stages = new AtomicReferenceArray<>(files.length);
+        this.mobTypes = mobTypes;
+    }
+
+    /**
+     * Read stages from this source directory (containing stages.json) and watch it for
+     * changes; null reads them from the classpath. Set before the first shared() call.
+     */
+    public static synchronized void setDevelopmentDirectory(File directory) {
+        developmentDirectory = directory;
+    }
+
+    /**
+     * The repository every world plays from, loaded by the first call. Stages are checked
+     * against the mob types given then; every factory registers the same built-in types.
+     *
+     * @throws IllegalArgumentException if any stage does not compile
+     */
+    public static synchronized StageRepository shared(Collection<String> mobTypes) {
+        if (shared == null) {
+            File directory = developmentDirectory;
+            shared = new StageRepository(directory, readIndex(directory), mobTypes);
+            shared.compileAll();
+            if (directory != null) {
+                shared.watch();
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Load the stages in a directory once, without watching it (build-time checks)
+     *
+     * @param mobTypes null skips the mob type check
+     */
+    public static StageRepository load(File directory, Collection<String> mobTypes) {
+        StageRepository repository = new StageRepository(directory, readIndex(directory), mobTypes);
+        repository.compileAll();
+        return repository;
+    }
+
+    public int size() {
+        return files.length;
+    }
+
+    /**
+     * The latest compiled version of stage index; may change between calls in development mode
+     */
+    public CompiledStage get(int index) {
+        return stages.get(index);
+    }
+
+    /**
+     * The stage file name, as listed in the index
+     */
+    public String getFile(int index) {
+        return files[index];
+    }
+
+    private static String[] readIndex(File directory) {
+        Index index = new Json().fromJson(Index.class, file(directory, INDEX));
+        if (index.stages == null || index.stages.size == 0) {
+            throw new IllegalArgumentException(INDEX + ": no stages listed");
+        }
+        return index.stages.toArray(String.class);
+    }
+
+    private static FileHandle file(File directory, String name) {
+        if (directory != null) {
+            return new FileHandle(new File(directory, name));
+        }
+        return Gdx.files.internal(CLASSPATH_DIRECTORY + name);
+    }
+
+    private void compileAll() {
+        StringBuilder errors = new StringBuilder();
+        for (int i = 0; i < files.length; i++) {
+            try {
+                stages.set(i, compile(i));
+            } catch (RuntimeException e) {
+                errors.append("\n  ").append(e.getMessage());
+            }
+        }
+        if (errors.length() > 0) {
+            throw new IllegalArgumentException("Invalid stages:" + errors);
+        }
+        Log.info("StageRepository", "Compiled {} stages from {}", files.length,
+            directory != null ? directory : "the classpath");
+    }
+
+    private CompiledStage compile(int index) {
+        String name = files[index];
+        StageDefinition definition;
+        try {
+            definition = new Json().fromJson(StageDefinition.class, file(directory, name));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(name + ": " + e.getMessage(), e);
+        }
+        if (definition == null) {
+            throw new IllegalArgumentException(name + ": empty file");
+        }
+        return CompiledStage.compile(definition, mobTypes, name);
+    }
+
+    private void watch() {
+        WatchService watcher;
+        try {
+            watcher = FileSystems.getDefault().newWatchService();
+            directory.toPath().register(watcher,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            Log.error("StageRepository", "Cannot watch " + directory + "; stages will not reload", e);
+            return;
+        }
+
+        Thread thread = new Thread(() -> watchLoop(watcher), "bonechild-stage-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        Log.info("StageRepository", "Watching {} for stage changes", directory);
+    }
+
+    private void watchLoop(WatchService watcher) {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                Thread.sleep(SETTLE_MS);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+                    reload(((Path) event.context()).getFileName().toString());
+                }
+                if (!key.reset()) {
+                    Log.info("StageRepository", "{} is no longer watched", directory);
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    private void reload(String name) {
+        for (int i = 0; i < files.length; i++) {
+            if (!files[i].equals(name)) continue;
+            try {
+                CompiledStage stage = compile(i);
+                stages.set(i, stage);
+                Log.info("StageRepository", "Reloaded {} ({} waves)", name, stage.getWaveCount());
+            } catch (RuntimeException e) {
+                Log.error("StageRepository", "Keeping the previous version of " + e.getMessage());
+            }
+        }
+    }
+
+    // Data class for stages.json
+    public static class Index {
+        public Array<String> stages;
+    }
+}
@@ -8,6 +8,8 @@ import com.badlogic.gdx.math.Vector2;
 import com.bonechild.monsters.api.MobEntity;
 import com.bonechild.monsters.api.MobFactory;
 import com.bonechild.monsters.api.SpawnContext;
+import com.bonechild.random.RandomStream;
+import com.bonechild.logging.Log;
 
 /**
  * Stage-based wave spawning system
@@ -16,7 +18,7 @@ import com.bonechild.monsters.api.SpawnContext;
  *
  * // Setup
  * StageSpawner spawner = new StageSpawner(mobFactory);
- * spawner.loadStage("stages/stage-1.json");
+ * spawner.loadStage(stageRepository.get(0));
  *
  * // Game loop
  * spawner.update(delta, mobs);
@@ -27,10 +29,20 @@ import com.bonechild.monsters.api.SpawnContext;
  * }
  */
 public class StageSpawner {
+    /** Most mobs spawned in one update; the rest of a burst follows on later updates */
+    public static final int DEFAULT_SPAWN_BUDGET = 32;
+
     private MobFactory mobFactory;
-    private StageDefinition currentStage;
+    private CompiledStage currentStage;
+    private EndlessStage endlessStage; // Non-null: endless mode, currentStage is null
     private int currentWaveIndex = 0;
-    private Array<ScheduledSpawn> scheduledSpawns = new Array<>();
+    private WaveTimeline timeline; // The running wave's
+    private int cursor; // Next entry of timeline to spawn
+    private int spawnBudget = DEFAULT_SPAWN_BUDGET;
+
+    // Reused every spawn so spawning does not allocate
+    private final Vector2 spawnPosition = new Vector2();
+    private final SpawnContext spawnContext = new SpawnContext(0f, 0f);
     private float waveTimer = 0f;
     private boolean waveActive = false;
 
@@ -40,52 +52,103 @@ public class StageSpawner {
     private float spawnMinY = 100f;
     private float spawnMaxY = 980f;
 
+    private RandomStream random = new RandomStream(System.nanoTime());
+
     public StageSpawner(MobFactory mobFactory) {
         this.mobFactory = mobFactory;
     }
 
     /**
-     * Load stage definition from JSON
+     * Use a seeded stream for spawn positions (see RandomService)
+     */
+    public void setRandom(RandomStream random) {
+        this.random = random;
+    }
+
+    /**
+     * Load stage definition from JSON (parsed and compiled now, mob types unchecked;
+     * the game goes through StageRepository instead)
      */
     public void loadStage(String jsonPath) {
+        loadStage(CompiledStage.compile(parseStage(jsonPath), null, jsonPath));
+    }
+
+    /**
+     * Parse a stage definition without loading it. Touches no spawner state, so it is
+     * safe on any thread (see StageRepository).
+     */
+    public static StageDefinition parseStage(String jsonPath) {
         FileHandle file = Gdx.files.internal(jsonPath);
         Json json = new Json();
-        currentStage = json.fromJson(StageDefinition.class, file);
+        return json.fromJson(StageDefinition.class, file);
+    }
+
+    /**
+     * Use a generated stage definition; compiled now, mob types unchecked
+     */
+    public void loadStage(StageDefinition stage) {
+        loadStage(CompiledStage.compile(stage, null, stage.stageId));
+    }
+
+    /**
+     * Use a compiled stage from the first wave
+     */
+    public void loadStage(CompiledStage stage) {
+        currentStage = stage;
+        endlessStage = null;
         currentWaveIndex = 0;
-        Gdx.app.log("StageSpawner", "Loaded stage: " + currentStage.name + " with " + currentStage.waves.size + " waves");
+        Log.info("StageSpawner", "Loaded stage: {} with {} waves", stage.getName(), stage.getWaveCount());
+    }
+
+    /**
+     * Swap in a recompiled version of the current stage (see StageRepository's hot
+     * reload). The wave number is kept, clamped to the new wave count; the running wave,
+     * if any, finishes from the old timeline and the next one comes from the new stage.
+     */
+    public void replaceStage(CompiledStage stage) {
+        currentStage = stage;
+        currentWaveIndex = Math.min(currentWaveIndex, stage.getWaveCount());
+        Log.info("StageSpawner", "Reloaded stage: {} with {} waves", stage.getName(), stage.getWaveCount());
+    }
+
+    /**
+     * Play generated waves without end instead of a stage; see EndlessStage
+     */
+    public void loadEndless(EndlessStage stage) {
+        currentStage = null;
+        endlessStage = stage;
+        currentWaveIndex = 0;
+        Log.info("StageSpawner", "Loaded endless stage: {}", stage.getName());
     }
 
     /**
      * Start the current wave
      */
     public void startWave() {
-        if (currentWaveIndex >= currentStage.waves.size) {
-            Gdx.app.log("StageSpawner", "Stage complete!");
+        if (endlessStage != null) {
+            int waveNumber = currentWaveIndex + 1;
+            timeline = endlessStage.generateWave(waveNumber, random);
+            Log.info("StageSpawner", "🌊 Starting endless wave {}: {} spawns", waveNumber, timeline.size());
+            cursor = 0;
+            waveTimer = 0f;
+            waveActive = true;
             return;
         }
 
-        WaveDefinition wave = currentStage.waves.get(currentWaveIndex);
-        Gdx.app.log("StageSpawner", "🌊 Starting wave " + wave.waveNumber);
-
-        if (wave.isBossWave) {
-            Gdx.app.log("StageSpawner", "🚨 BOSS WAVE!");
+        if (currentWaveIndex >= currentStage.getWaveCount()) {
+            Log.info("StageSpawner", "Stage complete!");
+            return;
         }
 
-        // Schedule all spawns for this wave
-        scheduledSpawns.clear();
-        float currentDelay = 0f;
-
-        for (SpawnPattern pattern : wave.spawns) {
-            for (int i = 0; i < pattern.count; i++) {
-                ScheduledSpawn spawn = new ScheduledSpawn();
-                spawn.mobType = pattern.mobType;
-                spawn.spawnTime = currentDelay;
-                scheduledSpawns.add(spawn);
+        CompiledStage.Wave wave = currentStage.getWave(currentWaveIndex);
+        Log.info("StageSpawner", "🌊 Starting wave {}", wave.getWaveNumber());
 
-                currentDelay += pattern.spawnDelay;
-            }
+        if (wave.isBossWave()) {
+            Log.info("StageSpawner", "🚨 BOSS WAVE!");
         }
 
+        timeline = wave.getTimeline();
+        cursor = 0;
         waveTimer = 0f;
         waveActive = true;
     }
@@ -95,10 +158,10 @@ public class StageSpawner {
      */
     public void nextWave() {
         currentWaveIndex++;
-        if (currentWaveIndex < currentStage.waves.size) {
+        if (endlessStage != null || currentWaveIndex < currentStage.getWaveCount()) {
             startWave();
         } else {
-            Gdx.app.log("StageSpawner", "🎉 Stage complete!");
+            Log.info("StageSpawner", "🎉 Stage complete!");
         }
     }
 
@@ -110,58 +173,73 @@ public class StageSpawner {
 
         waveTimer += delta;
 
-        // Check for spawns that are ready
-        for (int i = scheduledSpawns.size - 1; i >= 0; i--) {
-            ScheduledSpawn spawn = scheduledSpawns.get(i);
-
-            if (waveTimer >= spawn.spawnTime) {
-                // Spawn the mob!
-                Vector2 spawnPos = getRandomSpawnPosition();
-                SpawnContext ctx = new SpawnContext(spawnPos.x, spawnPos.y);
-                MobEntity mob = mobFactory.create(spawn.mobType, ctx);
-                mobs.add(mob);
+        // Spawn the entries that are due, oldest first, up to the budget
+        int size = timeline.size();
+        int end = Math.min(size, cursor + spawnBudget);
+        while (cursor < end && timeline.getTime(cursor) <= waveTimer) {
+            String mobType = timeline.getTypeId(timeline.getType(cursor));
+            Vector2 spawnPos = getRandomSpawnPosition();
+            MobEntity mob = mobFactory.create(mobType, spawnContext.set(spawnPos.x, spawnPos.y));
+            mobs.add(mob);
 
-                Gdx.app.log("StageSpawner", "Spawned " + spawn.mobType + " at (" + (int)spawnPos.x + ", " + (int)spawnPos.y + ")");
+            Log.debug("StageSpawner", "Spawned {} at {}", mobType, spawnPos);
+            cursor++;
+        }
 
-                scheduledSpawns.removeIndex(i);
+        // Endless waves follow each other on a timer, whether or not the horde is dead
+        if (endlessStage != null) {
+            if (cursor == size && waveTimer >= endlessStage.getWaveDuration()) {
+                nextWave();
             }
+            return;
         }
 
         // Check if all spawns completed
-        if (scheduledSpawns.size == 0) {
+        if (cursor == size) {
             waveActive = false;
-            Gdx.app.log("StageSpawner", "✅ Wave spawning complete");
+            Log.info("StageSpawner", "✅ Wave spawning complete");
         }
     }
 
     /**
-     * Get random spawn position around the edges
+     * Get random spawn position around the edges (shared vector, overwritten by the next call)
      */
     private Vector2 getRandomSpawnPosition() {
         // Spawn randomly around the play area edges
-        int side = (int)(Math.random() * 4);
+        int side = random.nextInt(4);
         float x, y;
 
         switch (side) {
             case 0: // Top
-                x = spawnMinX + (float)Math.random() * (spawnMaxX - spawnMinX);
+                x = random.range(spawnMinX, spawnMaxX);
                 y = spawnMaxY;
                 break;
             case 1: // Right
                 x = spawnMaxX;
-                y = spawnMinY + (float)Math.random() * (spawnMaxY - spawnMinY);
+                y = random.range(spawnMinY, spawnMaxY);
                 break;
             case 2: // Bottom
-                x = spawnMinX + (float)Math.random() * (spawnMaxX - spawnMinX);
+                x = random.range(spawnMinX, spawnMaxX);
                 y = spawnMinY;
                 break;
             default: // Left
                 x = spawnMinX;
-                y = spawnMinY + (float)Math.random() * (spawnMaxY - spawnMinY);
+                y = random.range(spawnMinY, spawnMaxY);
                 break;
         }
 
-        return new Vector2(x, y);
+        return spawnPosition.set(x, y);
+    }
+
+    /**
+     * Most mobs spawned per update; due spawns beyond it wait for the next update.
+     * Keeps a burst (a large count with a tiny spawnDelay) from landing in one frame.
+     */
+    public void setSpawnBudget(int spawnBudget) {
+        if (spawnBudget < 1) {
+            throw new IllegalArgumentException("Spawn budget must be at least 1: " + spawnBudget);
+        }
+        this.spawnBudget = spawnBudget;
     }
 
     /**
@@ -180,7 +258,7 @@ public class StageSpawner {
     }
     
     public int getTotalWaves() { 
-        return currentStage != null ? currentStage.waves.size : 0; 
+        return currentStage != null ? currentStage.getWaveCount() : 0; 
     }
     
     public boolean isWaveActive() { 
@@ -188,30 +266,41 @@ public class StageSpawner {
     }
     
     public boolean isStageComplete() { 
-        return currentWaveIndex >= currentStage.waves.size; 
+        return endlessStage == null && currentWaveIndex >= currentStage.getWaveCount(); 
     }
     
     public String getStageName() { 
-        return currentStage != null ? currentStage.name : ""; 
+        if (endlessStage != null) return endlessStage.getName();
+        return currentStage != null ? currentStage.getName() : ""; 
+    }
+
+    public boolean isEndless() {
+        return endlessStage != null;
     }
 
     /**
-     * Get current wave definition (used by WorldManager to check if boss wave)
+     * The stage being played; null in endless mode
      */
-    public WaveDefinition getCurrentWaveDefinition() {
-        if (currentStage == null || currentWaveIndex >= currentStage.waves.size) {
-            return null;
-        }
-        return currentStage.waves.get(currentWaveIndex);
+    public CompiledStage getCurrentStage() {
+        return currentStage;
     }
 
+    /**
+     * Whether the current wave is a boss wave (used by WorldManager); false past the last wave
+     */
+    public boolean isCurrentWaveBossWave() {
+        return currentStage != null && currentWaveIndex < currentStage.getWaveCount()
+            && currentStage.getWave(currentWaveIndex).isBossWave();
+    }
 
-    // Data classes for JSON parsing
+
+    // Data classes for JSON parsing; CompiledStage.compile() turns them into what is played
     public static class StageDefinition {
         public String stageId;
         public String name;
         public String description;
         public Array<WaveDefinition> waves;
+        public int textureBudgetMb; // Texture memory allowed while this stage runs, see TextureBudgetCheck; 0: none
     }
 
     public static class WaveDefinition {
@@ -225,9 +314,4 @@ public class StageSpawner {
         public int count;
         public float spawnDelay;
     }
-
-    private static class ScheduledSpawn {
-        String mobType;
-        float spawnTime;
-    }
 }
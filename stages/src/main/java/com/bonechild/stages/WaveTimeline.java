@@ -0,0 +1,92 @@
+package com.bonechild.stages;
+
+import com.bonechild.stages.StageSpawner.SpawnPattern;
+import com.bonechild.stages.StageSpawner.WaveDefinition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A wave's spawns flattened into parallel arrays sorted by time: spawn i is a mob of type
+ * getTypeId(getType(i)) at getTime(i) seconds after the wave starts.
+ *
+ * Built once per wave when a stage is loaded, so starting a wave allocates nothing and
+ * StageSpawner only moves a cursor over entries that are due. Patterns are laid out one
+ * after another as before: each pattern starts when the previous one has spawned its
+ * last mob, and mobs within a pattern are spawnDelay apart. Entries with equal times keep
+ * that order.
+ */
+public final class WaveTimeline {
+    private final float[] times;
+    private final short[] types; // Index into typeIds
+    private final String[] typeIds;
+
+    private WaveTimeline(float[] times, short[] types, String[] typeIds) {
+        this.times = times;
+        this.types = types;
+        this.typeIds = typeIds;
+    }
+
+    public static WaveTimeline compile(WaveDefinition wave) {
+        int count = 0;
+        for (SpawnPattern pattern : wave.spawns) {
+            count += Math.max(pattern.count, 0);
+        }
+
+        float[] times = new float[count];
+        short[] types = new short[count];
+        List<String> typeIds = new ArrayList<>();
+        boolean sorted = true;
+        float currentDelay = 0f;
+        int index = 0;
+        for (SpawnPattern pattern : wave.spawns) {
+            int type = typeIds.indexOf(pattern.mobType);
+            if (type < 0) {
+                type = typeIds.size();
+                typeIds.add(pattern.mobType.intern()); // One String per mob type across all stages
+            }
+            for (int i = 0; i < pattern.count; i++) {
+                times[index] = currentDelay;
+                types[index] = (short) type;
+                if (index > 0 && times[index] < times[index - 1]) sorted = false;
+                index++;
+                currentDelay += pattern.spawnDelay;
+            }
+        }
+
+        WaveTimeline timeline = new WaveTimeline(times, types, typeIds.toArray(new String[0]));
+        if (!sorted) timeline.sortByTime(); // Only with a negative spawnDelay
+        return timeline;
+    }
+
+    public int size() {
+        return times.length;
+    }
+
+    public float getTime(int index) {
+        return times[index];
+    }
+
+    public int getType(int index) {
+        return types[index];
+    }
+
+    public String getTypeId(int type) {
+        return typeIds[type];
+    }
+
+    private void sortByTime() {
+        Integer[] order = new Integer[times.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Float.compare(times[a], times[b])); // Stable
+        float[] sortedTimes = new float[times.length];
+        short[] sortedTypes = new short[types.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedTimes[i] = times[order[i]];
+            sortedTypes[i] = types[order[i]];
+        }
+        System.arraycopy(sortedTimes, 0, times, 0, times.length);
+        System.arraycopy(sortedTypes, 0, types, 0, types.length);
+    }
+}
@@ -6,11 +6,12 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
 
 /**
  * Retro arcade-style boss warning banner with scrolling text
  */
-public class BossWarningScreen {
+public class BossWarningScreen implements Disposable {
     private boolean active;
     private float timer;
     private float scrollOffset;
@@ -19,7 +20,10 @@ public class BossWarningScreen {
     private static final float SCROLL_SPEED = 200f; // Pixels per second
     private static final float AUTO_DISMISS_TIME = 3.0f; // Auto-dismiss after 3 seconds
     private static final float BANNER_HEIGHT = 80f; // Height of the warning banner
+    private static final float WARNING_SCALE = 3.0f;
     
+    private final UiRenderContext ui;
+    private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
     private BitmapFont warningFont;
     private GlyphLayout layout; // Reusable layout for measuring text
@@ -27,15 +31,16 @@ public class BossWarningScreen {
     private String warningText;
     private float repeatWidth; // Width including spacing for seamless loop
     
-    public BossWarningScreen() {
+    public BossWarningScreen(UiRenderContext ui) {
+        this.ui = ui;
         this.active = false;
         this.timer = 0f;
         this.scrollOffset = 0f;
-        this.shapeRenderer = new ShapeRenderer();
+        this.batch = ui.getBatch();
+        this.shapeRenderer = ui.getShapeRenderer();
         
-        // Create warning font
-        this.warningFont = new BitmapFont();
-        this.warningFont.getData().setScale(3.0f); // Large text
+        // Shared title font at warning size
+        this.warningFont = ui.getTitleFont(WARNING_SCALE); // Large text
         
         // Create reusable layout
         this.layout = new GlyphLayout();
@@ -74,7 +79,7 @@ public class BossWarningScreen {
         }
     }
     
-    public void render(SpriteBatch batch) {
+    public void render() {
         if (!active) return;
         
         float screenWidth = Gdx.graphics.getWidth();
@@ -83,11 +88,8 @@ public class BossWarningScreen {
         // Calculate banner position (center of screen)
         float bannerY = (screenHeight - BANNER_HEIGHT) / 2f;
         
-        // End the batch if it's active before using ShapeRenderer
-        boolean batchWasActive = batch.isDrawing();
-        if (batchWasActive) {
-            batch.end();
-        }
+        ui.useScreenProjection();
+        warningFont = ui.getTitleFont(WARNING_SCALE);
 
         // Draw black background banner with ShapeRenderer
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
@@ -121,23 +123,17 @@ public class BossWarningScreen {
         }
         
         // Draw "Press SPACE" instruction at bottom
-        warningFont.getData().setScale(1.5f);
-        warningFont.setColor(Color.WHITE);
+        BitmapFont instructionFont = ui.getTitleFont(1.5f);
+        instructionFont.setColor(Color.WHITE);
         String instruction = "Press SPACE to continue";
-        layout.setText(warningFont, instruction);
+        layout.setText(instructionFont, instruction);
         float instructWidth = layout.width;
-        warningFont.draw(batch, instruction,
-                         (screenWidth - instructWidth) / 2f,
-                         bannerY - 30f);
-        warningFont.getData().setScale(3.0f); // Reset scale
+        instructionFont.draw(batch, instruction,
+                             (screenWidth - instructWidth) / 2f,
+                             bannerY - 30f);
         
         // End the batch (we started it for text rendering)
         batch.end();
-        
-        // Restore original batch state
-        if (batchWasActive) {
-            batch.begin();
-        }
     }
     
     public void dismiss() {
@@ -155,12 +151,8 @@ public class BossWarningScreen {
         return bossType;
     }
     
+    @Override
     public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-        if (warningFont != null) {
-            warningFont.dispose();
-        }
+        // Batch, shapes and fonts are shared and disposed by UiRenderContext
     }
 }
@@ -7,48 +7,44 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
 import com.bonechild.rendering.Assets;
 import com.bonechild.playablecharacters.Player;
 
 /**
  * Character stats screen shown when C is pressed
  */
-public class CharacterStatsScreen {
+public class CharacterStatsScreen implements Disposable {
+    private static final float TITLE_SCALE = 2.5f;
+
+    private final UiRenderContext ui;
     private final SpriteBatch batch;
     private final ShapeRenderer shapeRenderer;
     private final BitmapFont font;
-    private final BitmapFont titleFont;
+    private BitmapFont titleFont;
     private final GlyphLayout glyphLayout;
     
-    // Screen projection matrix for UI
-    private final com.badlogic.gdx.graphics.OrthographicCamera uiCamera;
-    
     private boolean isVisible;
     private Player player;
     private int currentPage = 0; // 0 = stats page, 1 = power-ups page
     private static final int TOTAL_PAGES = 2;
     
-    public CharacterStatsScreen(Assets assets, Player player) {
-        this.batch = new SpriteBatch();
-        this.shapeRenderer = new ShapeRenderer();
-        this.font = assets.getFont();
+    public CharacterStatsScreen(UiRenderContext ui, Assets assets, Player player) {
+        this.ui = ui;
+        this.batch = ui.getBatch();
+        this.shapeRenderer = ui.getShapeRenderer();
+        this.font = ui.getFont();
         this.glyphLayout = new GlyphLayout();
         this.player = player;
         this.isVisible = false;
         
-        // Create UI camera for proper screen-space rendering
-        this.uiCamera = new com.badlogic.gdx.graphics.OrthographicCamera();
-        this.uiCamera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        
-        // Create title font
-        this.titleFont = new BitmapFont();
-        this.titleFont.getData().setScale(2.5f);
-        this.titleFont.setColor(Color.WHITE);
-        this.titleFont.setUseIntegerPositions(false);
-        this.titleFont.getRegion().getTexture().setFilter(
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear,
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear
-        );
+        // Shared title font, scaled per render
+        this.titleFont = ui.getTitleFont(TITLE_SCALE);
+    }
+    
+    public void setPlayer(Player player) {
+        this.player = player;
+        this.currentPage = 0;
     }
     
     /**
@@ -81,11 +77,9 @@ public class CharacterStatsScreen {
         float screenWidth = Gdx.graphics.getWidth();
         float screenHeight = Gdx.graphics.getHeight();
         
-        // Update camera and set projection matrices
-        uiCamera.setToOrtho(false, screenWidth, screenHeight);
-        uiCamera.update();
-        batch.setProjectionMatrix(uiCamera.combined);
-        shapeRenderer.setProjectionMatrix(uiCamera.combined);
+        // Set projection matrices on the shared batch and shapes
+        ui.useScreenProjection();
+        titleFont = ui.getTitleFont(TITLE_SCALE);
         
         // Enable blending for proper transparency
         Gdx.gl.glEnable(com.badlogic.gdx.graphics.GL20.GL_BLEND);
@@ -127,15 +121,13 @@ public class CharacterStatsScreen {
         
         // Draw page indicator with arrow symbols instead of key names
         String pageIndicator = "Page " + (currentPage + 1) + "/" + TOTAL_PAGES + " (< >)";
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.6f);
+        BitmapFont font = ui.getFont(9);
         glyphLayout.setText(font, pageIndicator);
         float pageX = screenWidth / 2f - glyphLayout.width / 2f;
         float pageY = boxY + 30f;
         
         font.setColor(0.7f, 0.7f, 0.7f, 1f);
         font.draw(batch, pageIndicator, pageX, pageY);
-        font.getData().setScale(originalScale);
         
         batch.end();
         
@@ -158,8 +150,7 @@ public class CharacterStatsScreen {
         float lineHeight = 30f; // Reduced for tighter spacing
         
         // Scale down the font significantly for better fit
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.65f); // Scale to 65% of original size
+        BitmapFont font = ui.getFont(10); // Scale to 65% of original size
         
         font.setColor(0.9f, 0.9f, 0.9f, 1f);
         
@@ -190,8 +181,6 @@ public class CharacterStatsScreen {
         font.draw(batch, "Gold: " + player.getGold(), statX, statY);
         statY -= lineHeight;
         
-        // Restore original font scale
-        font.getData().setScale(originalScale);
         
         batch.end();
     }
@@ -207,8 +196,7 @@ public class CharacterStatsScreen {
         float lineHeight = 30f; // Reduced for tighter spacing
         
         // Scale down the font significantly to fit better in the box
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.6f); // Scale to 60% to ensure it fits
+        BitmapFont font = ui.getFont(9); // Scale to 60% to ensure it fits
         
         font.setColor(0.9f, 0.9f, 0.9f, 1f);
         font.draw(batch, "--- All Power-ups Chosen ---", statX, statY);
@@ -272,8 +260,6 @@ public class CharacterStatsScreen {
             font.draw(batch, "No power-ups chosen yet.", statX, statY);
         }
         
-        // Restore original font scale
-        font.getData().setScale(originalScale);
         
         batch.end();
     }
@@ -281,10 +267,9 @@ public class CharacterStatsScreen {
     /**
      * Dispose resources
      */
+    @Override
     public void dispose() {
-        if (batch != null) batch.dispose();
-        if (shapeRenderer != null) shapeRenderer.dispose();
-        if (titleFont != null) titleFont.dispose();
+        // Batch, shapes and fonts are shared and disposed by UiRenderContext
     }
     
     public boolean isVisible() {
@@ -303,7 +288,6 @@ public class CharacterStatsScreen {
      * Resize method (required for proper fullscreen support)
      */
     public void resize(int width, int height) {
-        uiCamera.setToOrtho(false, width, height);
-        uiCamera.update();
+        // Shared screen camera is resized by UiRenderContext
     }
 }
@@ -7,25 +7,25 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
 import com.bonechild.rendering.Assets;
 
 /**
  * Game Over screen shown when player dies
  */
-public class GameOverScreen {
+public class GameOverScreen implements Disposable {
     // Virtual resolution for UI (same as game world for consistency)
-    private static final float VIRTUAL_WIDTH = 1280f;
-    private static final float VIRTUAL_HEIGHT = 720f;
+    private static final float VIRTUAL_WIDTH = UiRenderContext.VIRTUAL_WIDTH;
+    private static final float VIRTUAL_HEIGHT = UiRenderContext.VIRTUAL_HEIGHT;
+    private static final float TITLE_SCALE = 4.0f;
 
+    private final UiRenderContext ui;
     private final SpriteBatch batch;
     private final ShapeRenderer shapeRenderer;
     private final BitmapFont font;
-    private final BitmapFont titleFont;
+    private BitmapFont titleFont;
     private final GlyphLayout glyphLayout;
 
-    // UI camera for proper scaling
-    private final com.badlogic.gdx.graphics.OrthographicCamera uiCamera;
-
     // Buttons
     private Rectangle playAgainButton;
     private Rectangle exitButton;
@@ -45,27 +45,17 @@ public class GameOverScreen {
         void onExitToMenu();
     }
 
-    public GameOverScreen(Assets assets, GameOverCallback callback) {
-        this.batch = new SpriteBatch();
-        this.shapeRenderer = new ShapeRenderer();
-        this.font = assets.getFont();
+    public GameOverScreen(UiRenderContext ui, Assets assets, GameOverCallback callback) {
+        this.ui = ui;
+        this.batch = ui.getBatch();
+        this.shapeRenderer = ui.getShapeRenderer();
+        this.font = ui.getFont();
         this.glyphLayout = new GlyphLayout();
         this.callback = callback;
         this.isVisible = false;
 
-        // Create UI camera with fixed virtual resolution
-        this.uiCamera = new com.badlogic.gdx.graphics.OrthographicCamera();
-        this.uiCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
-
-        // Create title font
-        this.titleFont = new BitmapFont();
-        this.titleFont.getData().setScale(4.0f);
-        this.titleFont.setColor(Color.WHITE);
-        this.titleFont.setUseIntegerPositions(false);
-        this.titleFont.getRegion().getTexture().setFilter(
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear,
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear
-        );
+        // Shared title font, scaled per render
+        this.titleFont = ui.getTitleFont(TITLE_SCALE);
 
         setupUI();
     }
@@ -126,10 +116,9 @@ public class GameOverScreen {
     public void render() {
         if (!isVisible) return;
 
-        // Update camera and set projection matrices for virtual coordinates
-        uiCamera.update();
-        batch.setProjectionMatrix(uiCamera.combined);
-        shapeRenderer.setProjectionMatrix(uiCamera.combined);
+        // Set projection matrices for virtual coordinates
+        ui.useVirtualProjection();
+        titleFont = ui.getTitleFont(TITLE_SCALE);
 
         // Also update button positions based on current screen size so they stay centered
         float screenWidth = Gdx.graphics.getWidth();
@@ -243,25 +232,19 @@ public class GameOverScreen {
         // Draw button text with smaller font for "EXIT TO MENU"
         batch.begin();
 
-        float originalScale = font.getData().scaleX;
-        // Scale down font for "EXIT TO MENU" button to fit better
-        if (text.equals("EXIT TO MENU")) {
-            font.getData().setScale(originalScale * 0.8f);
-        }
+        // Smaller font for "EXIT TO MENU" button to fit better
+        BitmapFont buttonFont = text.equals("EXIT TO MENU") ? ui.getFont(12) : font;
 
-        glyphLayout.setText(font, text);
+        glyphLayout.setText(buttonFont, text);
         float textX = button.x + button.width / 2f - glyphLayout.width / 2f;
         float textY = button.y + button.height / 2f + glyphLayout.height / 2f;
 
         if (hovered) {
-            font.setColor(Color.WHITE);
+            buttonFont.setColor(Color.WHITE);
         } else {
-            font.setColor(0.9f, 0.9f, 0.9f, 1f);
+            buttonFont.setColor(0.9f, 0.9f, 0.9f, 1f);
         }
-        font.draw(batch, text, textX, textY);
-
-        // Restore original font scale
-        font.getData().setScale(originalScale);
+        buttonFont.draw(batch, text, textX, textY);
 
         batch.end();
     }
@@ -279,30 +262,16 @@ public class GameOverScreen {
      * Resize screen
      */
     public void resize(int width, int height) {
-        // Keep using fixed virtual resolution
-        uiCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
+        // Keep using fixed virtual resolution; projection is applied on render
         setupUI();
-        
-        // Update projection matrices for batch and shape renderer
-        com.badlogic.gdx.math.Matrix4 projectionMatrix = new com.badlogic.gdx.math.Matrix4();
-        projectionMatrix.setToOrtho2D(0, 0, width, height);
-        batch.setProjectionMatrix(projectionMatrix);
-        shapeRenderer.setProjectionMatrix(projectionMatrix);
     }
 
     /**
      * Dispose resources
      */
+    @Override
     public void dispose() {
-        if (batch != null) {
-            batch.dispose();
-        }
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-        if (titleFont != null) {
-            titleFont.dispose();
-        }
+        // Batch, shapes and fonts are shared and disposed by UiRenderContext
     }
 
     public boolean isVisible() {
@@ -5,17 +5,22 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
 import com.bonechild.rendering.Assets;
 import com.bonechild.playablecharacters.Player;
 import com.bonechild.world.WorldManager;
 
 /**
  * Game HUD displaying health, level, wave info, etc.
+ *
+ * Static panels are retained in a {@link HudCache} and only repainted when the values
+ * they show change. Animated glows are drawn live underneath the cached layer, fills,
+ * highlights and text over fills are drawn live on top of it.
  */
-public class GameUI {
+public class GameUI implements Disposable {
     // Virtual resolution for UI (same as game world for consistency)
-    private static final float VIRTUAL_WIDTH = 1280f;
-    private static final float VIRTUAL_HEIGHT = 720f;
+    private static final float VIRTUAL_WIDTH = UiRenderContext.VIRTUAL_WIDTH;
+    private static final float VIRTUAL_HEIGHT = UiRenderContext.VIRTUAL_HEIGHT;
     private static final float UI_PADDING = 20f;
 
     // UI Layout constants for better organization
@@ -23,18 +28,56 @@ public class GameUI {
     private static final float ELEMENT_SPACING = 12f;
     private static final float GROUP_SPACING = 25f;
 
+    // Element positions in virtual coordinates
+    private static final float BAR_WIDTH = 240f;
+    private static final float BAR_X = VIRTUAL_WIDTH / 2f - BAR_WIDTH / 2f;
+    private static final float HEALTH_BAR_HEIGHT = 28f;
+    private static final float HEALTH_BAR_Y = BOTTOM_MARGIN;
+    private static final float EXP_BAR_HEIGHT = 18f;
+    private static final float EXP_BAR_Y = BOTTOM_MARGIN + HEALTH_BAR_HEIGHT + ELEMENT_SPACING;
+    private static final float LEVEL_TEXT_Y = EXP_BAR_Y + EXP_BAR_HEIGHT + 8f;
+    private static final float ORB_RADIUS = 30f;
+    private static final float ORB_X = UI_PADDING + ORB_RADIUS + 10f;
+    private static final float ORB_Y = BOTTOM_MARGIN + ORB_RADIUS + 10f;
+    private static final float CHARGE_SIZE = 28f;
+    private static final float CHARGE_SPACING = 10f;
+    private static final float CHARGES_X = ORB_X + ORB_RADIUS + 25f;
+    private static final float SLOT_SIZE = 54f;
+    private static final float SLOT_SPACING = 12f;
+    private static final int SLOT_COUNT = 4;
+    private static final float HOTBAR_X = VIRTUAL_WIDTH / 2f - (SLOT_SIZE * SLOT_COUNT + SLOT_SPACING * (SLOT_COUNT - 1)) / 2f;
+    private static final float HOTBAR_Y = EXP_BAR_Y + EXP_BAR_HEIGHT + GROUP_SPACING + 15f;
+    private static final float GOLD_BOX_WIDTH = 130f;
+    private static final float GOLD_BOX_HEIGHT = 40f;
+    private static final float GOLD_X = VIRTUAL_WIDTH - UI_PADDING - GOLD_BOX_WIDTH;
+    private static final float GOLD_Y = VIRTUAL_HEIGHT - UI_PADDING - GOLD_BOX_HEIGHT;
+
+    // Cached HUD regions
+    private static final int REGION_WAVE_INFO = 0;
+    private static final int REGION_LEVEL_ORB = 1;
+    private static final int REGION_DODGE = 2;
+    private static final int REGION_HEALTH = 3;
+    private static final int REGION_EXPERIENCE = 4;
+    private static final int REGION_HOTBAR = 5;
+    private static final int REGION_GOLD = 6;
+    private static final int REGION_COUNT = 7;
+
     private final ShapeRenderer shapeRenderer;
     private final BitmapFont font;
     private final GlyphLayout glyphLayout;
     private final SpriteBatch batch;
     private final Assets assets;
     
-    // Screen projection matrix for UI
-    private final com.badlogic.gdx.graphics.OrthographicCamera uiCamera;
+    // Shared batch, shapes and cameras owned by the engine
+    private final UiRenderContext ui;
+    
+    // Retained layer for static panels
+    private final HudCache hudCache;
+    private final HudCache.RegionPainter regionPainter = this::paintRegion;
     
     // References
-    private final Player player;
-    private final WorldManager worldManager;
+    private Player player;
+    private WorldManager worldManager;
 
     // Animation timers
     private float pulseTimer = 0f;
@@ -52,19 +95,71 @@ public class GameUI {
     private float levelUpFlashTimer = 0f;
     private int lastLevel = 1;
     
-    public GameUI(Assets assets, Player player, WorldManager worldManager) {
+    // Last values painted into the cache, and the strings built from them
+    private int cachedWave = -1;
+    private int cachedMobCount = -1;
+    private int cachedLevel = -1;
+    private int cachedExperience = -1;
+    private int cachedExperienceToNext = -1;
+    private int cachedHealth = -1;
+    private int cachedMaxHealth = -1;
+    private int cachedGold = -1;
+    private int cachedMaxDodgeCharges = -1;
+    private String waveText = "";
+    private String mobText = "";
+    private String levelText = "";
+    private String xpText = "";
+    private String healthText = "";
+    private String goldText = "";
+    
+    public GameUI(UiRenderContext ui, Assets assets, Player player, WorldManager worldManager) {
+        this.ui = ui;
         this.player = player;
         this.worldManager = worldManager;
         this.assets = assets;
-        this.shapeRenderer = new ShapeRenderer();
-        this.batch = new SpriteBatch();
-        this.font = assets.getFont();
+        this.shapeRenderer = ui.getShapeRenderer();
+        this.batch = ui.getBatch();
+        this.font = ui.getFont();
         this.glyphLayout = new GlyphLayout();
         this.lastLevel = player.getLevel();
         
-        // Create UI camera with fixed virtual resolution
-        this.uiCamera = new com.badlogic.gdx.graphics.OrthographicCamera();
-        this.uiCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
+        this.hudCache = new HudCache(ui, REGION_COUNT);
+        hudCache.setRegion(REGION_WAVE_INFO, 0f, VIRTUAL_HEIGHT - 100f, 420f, 100f);
+        hudCache.setRegion(REGION_LEVEL_ORB, ORB_X - 36f, ORB_Y - 36f, 72f, 72f);
+        hudCache.setRegion(REGION_DODGE, CHARGES_X - 17f, ORB_Y - 40f, 280f, 60f);
+        hudCache.setRegion(REGION_HEALTH, BAR_X - 4f, HEALTH_BAR_Y - 4f, BAR_WIDTH + 8f, HEALTH_BAR_HEIGHT + 8f);
+        hudCache.setRegion(REGION_EXPERIENCE, BAR_X - 4f, EXP_BAR_Y - 2f, BAR_WIDTH + 8f, 34f);
+        hudCache.setRegion(REGION_HOTBAR, HOTBAR_X - 6f, HOTBAR_Y - 8f, VIRTUAL_WIDTH - 2f * HOTBAR_X + 12f, SLOT_SIZE + 12f);
+        hudCache.setRegion(REGION_GOLD, GOLD_X - 4f, GOLD_Y - 4f, GOLD_BOX_WIDTH + 8f, GOLD_BOX_HEIGHT + 8f);
+    }
+    
+    /**
+     * Point the HUD at a new run. The screen is kept across restarts, so every cached
+     * value and animation is reset and the whole layer is repainted.
+     */
+    public void bind(Player player, WorldManager worldManager) {
+        this.player = player;
+        this.worldManager = worldManager;
+        this.lastLevel = player.getLevel();
+        pulseTimer = 0f;
+        shimmerTimer = 0f;
+        glowTimer = 0f;
+        currentHealthWidth = 0f;
+        targetHealthWidth = 0f;
+        currentExpWidth = 0f;
+        targetExpWidth = 0f;
+        lowHealthIntensity = 0f;
+        levelUpFlashTimer = 0f;
+        cachedWave = -1;
+        cachedMobCount = -1;
+        cachedLevel = -1;
+        cachedExperience = -1;
+        cachedExperienceToNext = -1;
+        cachedHealth = -1;
+        cachedMaxHealth = -1;
+        cachedGold = -1;
+        cachedMaxDodgeCharges = -1;
+        hudCache.markAllDirty();
     }
     
     /**
@@ -77,7 +172,7 @@ public class GameUI {
         glowTimer += delta * 1.5f; // Glow speed
         
         // Smooth bar animations with easing
-        float barWidth = 240f;
+        float barWidth = BAR_WIDTH;
         float innerPadding = 2f;
         
         // Update health bar animation with smooth easing
@@ -118,31 +213,126 @@ public class GameUI {
         return start + (end - start) * eased;
     }
     
+    
     /**
      * Render the UI
      */
     public void render() {
         // Use fixed virtual resolution instead of screen pixels
-        uiCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
-        uiCamera.update();
-        batch.setProjectionMatrix(uiCamera.combined);
-        shapeRenderer.setProjectionMatrix(uiCamera.combined);
-        
-        // Draw wave/enemies info in top-left
-        drawWaveInfo();
-        
-        // Draw UI elements at bottom of screen
-        drawLevelOrb();
-        drawHotbar();
-        drawHealthBar(player);
-        drawHealthText(font, player);
-        drawExperienceBar(player);
-        drawLevelText(font, player);
-        drawDodgeCharges();
-        drawGoldCounter();
+        ui.useVirtualProjection();
+        
+        // Repaint only the cached panels whose values changed
+        syncCachedState();
+        hudCache.refresh(regionPainter);
+        
+        // Animated glows sit behind the cached panels
+        int pressedSlots = getPressedSlots();
+        drawLiveUnderlays(pressedSlots);
+        
+        // One quad for every static panel
+        hudCache.composite();
+        
+        // Fills, highlights and text over fills are animated every frame
+        drawLiveOverlays(pressedSlots);
     }
     
-    private void drawWaveInfo() {
+    /**
+     * Compare the displayed values with what was last cached and mark changed regions dirty
+     */
+    private void syncCachedState() {
+        if (worldManager != null) {
+            int wave = worldManager.getCurrentWave();
+            int mobCount = worldManager.getMobCount();
+            if (wave != cachedWave || mobCount != cachedMobCount) {
+                cachedWave = wave;
+                cachedMobCount = mobCount;
+                waveText = "Wave: " + wave;
+                mobText = "Enemies: " + mobCount;
+                hudCache.markDirty(REGION_WAVE_INFO);
+            }
+        }
+        
+        int level = player.getLevel();
+        int experience = Math.round(player.getExperience());
+        int experienceToNext = Math.round(player.getExperienceToNextLevel());
+        if (level != cachedLevel || experience != cachedExperience || experienceToNext != cachedExperienceToNext) {
+            if (level != cachedLevel) {
+                levelText = String.valueOf(level);
+            }
+            cachedLevel = level;
+            cachedExperience = experience;
+            cachedExperienceToNext = experienceToNext;
+            xpText = "Level " + level + " - " + experience + " / " + experienceToNext + " XP";
+            hudCache.markDirty(REGION_EXPERIENCE);
+        }
+        
+        // Health text is drawn live over the fill, so only the string is cached
+        int health = (int) player.getCurrentHealth();
+        int maxHealth = (int) player.getMaxHealth();
+        if (health != cachedHealth || maxHealth != cachedMaxHealth) {
+            cachedHealth = health;
+            cachedMaxHealth = maxHealth;
+            healthText = health + " / " + maxHealth;
+        }
+        
+        int gold = player.getGold();
+        if (gold != cachedGold) {
+            cachedGold = gold;
+            goldText = String.valueOf(gold);
+            hudCache.markDirty(REGION_GOLD);
+        }
+        
+        int maxDodgeCharges = player.getMaxDodgeCharges();
+        if (maxDodgeCharges != cachedMaxDodgeCharges) {
+            cachedMaxDodgeCharges = maxDodgeCharges;
+            hudCache.markDirty(REGION_DODGE);
+        }
+    }
+    
+    private int getPressedSlots() {
+        int pressed = 0;
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.NUM_1 + i) ||
+                Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.NUMPAD_1 + i)) {
+                pressed |= 1 << i;
+            }
+        }
+        return pressed;
+    }
+    
+    // ---------------------------------------------------------------------
+    // Cached panels, painted into the HudCache only when their region is dirty
+    // ---------------------------------------------------------------------
+    
+    private void paintRegion(int region) {
+        switch (region) {
+            case REGION_WAVE_INFO:
+                paintWaveInfo();
+                break;
+            case REGION_LEVEL_ORB:
+                paintLevelOrb();
+                break;
+            case REGION_DODGE:
+                paintDodgeSlots();
+                break;
+            case REGION_HEALTH:
+                paintHealthFrame();
+                break;
+            case REGION_EXPERIENCE:
+                paintExperienceFrame();
+                break;
+            case REGION_HOTBAR:
+                paintHotbar();
+                break;
+            case REGION_GOLD:
+                paintGoldCounter();
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void paintWaveInfo() {
         if (player == null || worldManager == null) return;
         
         batch.begin();
@@ -151,247 +341,120 @@ public class GameUI {
         float y = VIRTUAL_HEIGHT - 15f;  // Use VIRTUAL_HEIGHT instead of Gdx.graphics.getHeight()
         float lineHeight = 25f;
         
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.8f);
+        BitmapFont font = ui.getFont(12);
         
         // Wave info
-        String waveText = "Wave: " + worldManager.getCurrentWave();
         font.setColor(1f, 0.6f, 0.1f, 1f); // Bright orange
         font.draw(batch, waveText, x, y);
         
         // Mob count
-        String mobText = "Enemies: " + worldManager.getMobCount();
         font.setColor(1f, 0.3f, 0.3f, 1f); // Bright red
         font.draw(batch, mobText, x, y - lineHeight);
         
-        font.getData().setScale(originalScale);
         batch.end();
     }
     
-    private void drawLevelOrb() {
-        float orbRadius = 30f; // Slightly larger
-        float orbX = UI_PADDING + orbRadius + 10f;
-        float orbY = BOTTOM_MARGIN + orbRadius + 10f;
-        
-        // Pulsing effect for the orb
-        float pulse = (float) Math.sin(pulseTimer) * 0.1f + 1.0f;
-        float glowPulse = (float) Math.sin(glowTimer) * 0.3f + 0.7f;
-        
+    private void paintLevelOrb() {
+        hudCache.applyShapeBlending();
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
-        // Animated outer glow
-        shapeRenderer.setColor(0.3f, 0.85f, 1f, 0.3f * glowPulse);
-        shapeRenderer.circle(orbX, orbY, (orbRadius + 6) * pulse, 32);
-        
-        shapeRenderer.setColor(0.3f, 0.85f, 1f, 0.2f * glowPulse);
-        shapeRenderer.circle(orbX, orbY, (orbRadius + 10) * pulse, 32);
-        
-        // Outer border with glow
+        // Outer border
         shapeRenderer.setColor(0.3f, 0.85f, 1f, 1f);
-        shapeRenderer.circle(orbX, orbY, orbRadius + 2, 32);
+        shapeRenderer.circle(ORB_X, ORB_Y, ORB_RADIUS + 2, 32);
         
         // Main orb background
         shapeRenderer.setColor(0.05f, 0.05f, 0.1f, 0.95f);
-        shapeRenderer.circle(orbX, orbY, orbRadius, 32);
+        shapeRenderer.circle(ORB_X, ORB_Y, ORB_RADIUS, 32);
         
-        // Animated inner highlight
-        float highlightPulse = (float) Math.sin(pulseTimer * 0.5f) * 0.1f + 0.6f;
-        shapeRenderer.setColor(0.15f, 0.25f, 0.35f, highlightPulse);
-        shapeRenderer.circle(orbX, orbY + orbRadius * 0.15f, orbRadius * 0.6f, 24);
+        shapeRenderer.end();
+    }
+    
+    private void paintDodgeSlots() {
+        int maxCharges = cachedMaxDodgeCharges;
         
-        // Inner glow ring
-        shapeRenderer.setColor(0.3f, 0.7f, 1f, 0.4f * glowPulse);
-        shapeRenderer.circle(orbX, orbY, orbRadius * 0.8f, 24);
+        hudCache.applyShapeBlending();
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        
+        for (int i = 0; i < maxCharges; i++) {
+            float chargeX = CHARGES_X + (i * (CHARGE_SIZE + CHARGE_SPACING));
+            
+            // Drop shadow
+            shapeRenderer.setColor(0f, 0f, 0f, 0.5f);
+            shapeRenderer.circle(chargeX + 1.5f, ORB_Y - 1.5f, CHARGE_SIZE / 2f, 20);
+            
+            // Border
+            shapeRenderer.setColor(0.3f, 0.3f, 0.35f, 1f);
+            shapeRenderer.circle(chargeX, ORB_Y, CHARGE_SIZE / 2f + 1.5f, 20);
+            
+            // Background
+            shapeRenderer.setColor(0.1f, 0.1f, 0.12f, 0.95f);
+            shapeRenderer.circle(chargeX, ORB_Y, CHARGE_SIZE / 2f, 20);
+        }
         
         shapeRenderer.end();
         
-        // Draw level text with glow effect
+        // Draw "DODGE" label
         batch.begin();
-        String levelText = String.valueOf(player.getLevel());
+        BitmapFont font = ui.getFont(7); // Slightly larger label
         
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.9f);
-        
-        glyphLayout.setText(font, levelText);
-        float textX = orbX - glyphLayout.width / 2f;
-        float textY = orbY + glyphLayout.height / 2f;
-        
-        // Glow layers
-        font.setColor(0.3f, 0.9f, 1f, 0.4f * glowPulse);
-        for (int i = 0; i < 3; i++) {
-            float offset = (3 - i) * 0.5f;
-            font.draw(batch, levelText, textX, textY);
-        }
+        String label = "DODGE";
+        glyphLayout.setText(font, label);
+        float labelX = CHARGES_X + ((maxCharges * (CHARGE_SIZE + CHARGE_SPACING)) - CHARGE_SPACING) / 2f - glyphLayout.width / 2f;
+        float labelY = ORB_Y - CHARGE_SIZE / 2f - 8f;
         
         // Shadow
         font.setColor(0, 0, 0, 0.8f);
-        font.draw(batch, levelText, textX + 1, textY - 1);
+        font.draw(batch, label, labelX + 1f, labelY - 1f);
         
         // Main text
-        font.setColor(0.3f, 0.9f, 1f, 1f);
-        font.draw(batch, levelText, textX, textY);
+        font.setColor(0.3f, 0.85f, 1f, 1f);
+        font.draw(batch, label, labelX, labelY);
         
-        font.getData().setScale(originalScale);
         batch.end();
     }
     
-    private void drawHealthBar(Player player) {
-        float barWidth = 240f; // Wider for better visibility
-        float barHeight = 28f; // Taller for better readability
-        float x = VIRTUAL_WIDTH / 2f - barWidth / 2f;
-        float y = BOTTOM_MARGIN;
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+    private void paintHealthFrame() {
+        float x = BAR_X;
+        float y = HEALTH_BAR_Y;
         
-        // Low health pulsing glow
-        if (lowHealthIntensity > 0f) {
-            float healthPulse = (float) Math.sin(pulseTimer * 3f) * 0.5f + 0.5f;
-            shapeRenderer.setColor(1f, 0.2f, 0.2f, lowHealthIntensity * healthPulse * 0.6f);
-            shapeRenderer.rect(x - 6, y - 6, barWidth + 12, barHeight + 12);
-            shapeRenderer.setColor(1f, 0.2f, 0.2f, lowHealthIntensity * healthPulse * 0.3f);
-            shapeRenderer.rect(x - 10, y - 10, barWidth + 20, barHeight + 20);
-        }
+        hudCache.applyShapeBlending();
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
         // Outer glow
         shapeRenderer.setColor(0.8f, 0.2f, 0.2f, 0.3f);
-        shapeRenderer.rect(x - 2, y - 2, barWidth + 4, barHeight + 4);
+        shapeRenderer.rect(x - 2, y - 2, BAR_WIDTH + 4, HEALTH_BAR_HEIGHT + 4);
         
         // Dark background
         shapeRenderer.setColor(0.05f, 0.05f, 0.1f, 0.95f);
-        shapeRenderer.rect(x, y, barWidth, barHeight);
-        
-        // Health bar fill with gradient effect
-        if (currentHealthWidth > 2) {
-            float healthPercent = player.getCurrentHealth() / player.getMaxHealth();
-            float innerPadding = 2f;
-            
-            // Determine health color based on percentage
-            float r, g, b;
-            if (healthPercent > 0.5f) {
-                // Green to yellow (100% to 50%)
-                r = (1f - healthPercent) * 2f;
-                g = 0.8f;
-                b = 0.2f;
-            } else {
-                // Yellow to red (50% to 0%)
-                r = 0.9f;
-                g = healthPercent * 1.6f;
-                b = 0.2f;
-            }
-            
-            // Bottom layer
-            shapeRenderer.setColor(r * 0.6f, g * 0.6f, b * 0.6f, 0.9f);
-            shapeRenderer.rect(x + innerPadding, y + innerPadding, 
-                             currentHealthWidth, barHeight - innerPadding * 2);
-            
-            // Top highlight with pulse
-            float healthPulse = (float) Math.sin(pulseTimer) * 0.1f + 0.9f;
-            shapeRenderer.setColor(r * healthPulse, g * healthPulse, b * healthPulse, 0.9f);
-            shapeRenderer.rect(x + innerPadding, y + barHeight - 7, 
-                             currentHealthWidth, 3);
-        }
+        shapeRenderer.rect(x, y, BAR_WIDTH, HEALTH_BAR_HEIGHT);
         
         // Border
         shapeRenderer.end();
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
         Gdx.gl.glLineWidth(2);
         shapeRenderer.setColor(0.3f, 0.3f, 0.35f, 1f);
-        shapeRenderer.rect(x, y, barWidth, barHeight);
+        shapeRenderer.rect(x, y, BAR_WIDTH, HEALTH_BAR_HEIGHT);
         Gdx.gl.glLineWidth(1);
         shapeRenderer.end();
     }
-
-    private void drawHealthText(BitmapFont font, Player player) {
-        float barWidth = 240f;
-        float x = VIRTUAL_WIDTH / 2f - barWidth / 2f;
-        float y = BOTTOM_MARGIN;
-
-        batch.begin();
-        String healthText = String.format("%d / %d", (int)player.getCurrentHealth(), (int)player.getMaxHealth());
-        
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.55f); // Slightly larger text
-        
-        glyphLayout.setText(font, healthText);
-        float textX = x + (barWidth - glyphLayout.width) / 2f;
-        float textY = y + 20f;
-        
-        // Shadow
-        font.setColor(0f, 0f, 0f, 0.8f);
-        font.draw(batch, healthText, textX + 1, textY - 1);
-        
-        // Main text
-        font.setColor(1f, 1f, 1f, 1f);
-        font.draw(batch, healthText, textX, textY);
-        
-        font.getData().setScale(originalScale);
-        batch.end();
-    }
-
-    private void drawExperienceBar(Player player) {
-        float barWidth = 240f; // Match health bar width
-        float barHeight = 18f; // Slightly taller
-        float x = VIRTUAL_WIDTH / 2f - barWidth / 2f;
-        float y = BOTTOM_MARGIN + 28f + ELEMENT_SPACING; // Position above health bar with spacing
-
+    
+    private void paintExperienceFrame() {
+        hudCache.applyShapeBlending();
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-        // Level up flash effect
-        if (levelUpFlashTimer > 0f) {
-            float flashIntensity = (levelUpFlashTimer / 1.5f) * 0.5f;
-            shapeRenderer.setColor(1f, 0.8f, 0.2f, flashIntensity);
-            shapeRenderer.rect(x - 8, y - 8, barWidth + 16, barHeight + 16);
-            shapeRenderer.setColor(1f, 1f, 0.5f, flashIntensity * 0.5f);
-            shapeRenderer.rect(x - 12, y - 12, barWidth + 24, barHeight + 24);
-        }
-
-        // Enhanced outer glow
-        float xpGlow = 0.25f + (float)Math.sin(glowTimer * 1.3f) * 0.15f;
-        shapeRenderer.setColor(0.2f, 0.5f, 1f, xpGlow * 0.4f);
-        shapeRenderer.rect(x - 2, y - 2, barWidth + 4, barHeight + 4);
-        shapeRenderer.setColor(0.2f, 0.5f, 1f, xpGlow * 0.2f);
-        shapeRenderer.rect(x - 4, y - 4, barWidth + 8, barHeight + 8);
-
+        
         // Dark background
         shapeRenderer.setColor(0.05f, 0.05f, 0.1f, 0.95f);
-        shapeRenderer.rect(x, y, barWidth, barHeight);
-
-        // XP bar with beautiful gradient and animation
-        if (currentExpWidth > 0) {
-            float xpPulse = 0.9f + (float)Math.sin(pulseTimer * 1.5f) * 0.1f;
-            
-            // Bottom layer
-            shapeRenderer.setColor(0.1f * xpPulse, 0.2f * xpPulse, 0.6f * xpPulse, 0.9f);
-            shapeRenderer.rect(x + 1, y + 1, currentExpWidth - 2, barHeight - 2);
-            
-            // Middle layer with gradient effect
-            shapeRenderer.setColor(0.2f * xpPulse, 0.4f * xpPulse, 0.9f * xpPulse, 0.9f);
-            shapeRenderer.rect(x + 1, y + 2, currentExpWidth - 2, barHeight - 4);
-            
-            // Top highlight with moving shimmer
-            float xpShimmer = 0.5f + (float)Math.sin(shimmerTimer * 1.5f + currentExpWidth * 0.15f) * 0.3f;
-            shapeRenderer.setColor(0.5f, 0.7f + xpShimmer * 0.3f, 1f, xpShimmer * 0.7f);
-            shapeRenderer.rect(x + 1, y + barHeight - 5, currentExpWidth - 2, 3);
-        }
-
+        shapeRenderer.rect(BAR_X, EXP_BAR_Y, BAR_WIDTH, EXP_BAR_HEIGHT);
+        
         shapeRenderer.end();
-    }
-
-    private void drawLevelText(BitmapFont font, Player player) {
-        float barWidth = 240f;
-        float x = VIRTUAL_WIDTH / 2f - barWidth / 2f;
-        float y = BOTTOM_MARGIN + 28f + ELEMENT_SPACING + 18f + 8f; // Position above XP bar
-
-        batch.begin();
-        String xpText = String.format("Level %d - %.0f / %.0f XP", 
-            player.getLevel(), player.getExperience(), player.getExperienceToNextLevel());
         
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.38f);
+        // Level text above the XP bar
+        batch.begin();
+        BitmapFont font = ui.getFont(6);
         
         glyphLayout.setText(font, xpText);
-        float textX = x + (barWidth - glyphLayout.width) / 2f;
-        float textY = y;
+        float textX = BAR_X + (BAR_WIDTH - glyphLayout.width) / 2f;
+        float textY = LEVEL_TEXT_Y;
         
         // Glow effect
         font.setColor(0.3f, 0.5f, 1f, 0.4f);
@@ -406,53 +469,83 @@ public class GameUI {
         font.setColor(1f, 1f, 1f, 1f);
         font.draw(batch, xpText, textX, textY);
         
-        font.getData().setScale(originalScale);
         batch.end();
     }
     
-    private void drawGoldCounter() {
-        float x = VIRTUAL_WIDTH - UI_PADDING - 130f;
-        float y = VIRTUAL_HEIGHT - UI_PADDING - 40f;
-        float boxWidth = 130f;
-        float boxHeight = 40f;
-        
-        // Subtle pulse for gold counter
-        float goldPulse = (float) Math.sin(glowTimer * 0.8f) * 0.05f + 0.95f;
+    private void paintHotbar() {
+        float borderWidth = 2.5f;
         
+        hudCache.applyShapeBlending();
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
-        // Subtle gold glow
-        shapeRenderer.setColor(1f, 0.85f, 0f, 0.2f * goldPulse);
-        shapeRenderer.rect(x - 4, y - 4, boxWidth + 8, boxHeight + 8);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            float slotX = HOTBAR_X + (i * (SLOT_SIZE + SLOT_SPACING));
+            
+            // Drop shadow
+            shapeRenderer.setColor(0f, 0f, 0f, 0.6f);
+            shapeRenderer.rect(slotX + 3, HOTBAR_Y - 3, SLOT_SIZE, SLOT_SIZE);
+            
+            // Outer border
+            shapeRenderer.setColor(0.2f, 0.2f, 0.25f, 1f);
+            shapeRenderer.rect(slotX - borderWidth, HOTBAR_Y - borderWidth, 
+                              SLOT_SIZE + borderWidth * 2, SLOT_SIZE + borderWidth * 2);
+            
+            // Slot background
+            shapeRenderer.setColor(0.08f, 0.08f, 0.1f, 0.95f);
+            shapeRenderer.rect(slotX, HOTBAR_Y, SLOT_SIZE, SLOT_SIZE);
+        }
+        
+        shapeRenderer.end();
+        
+        // Draw hotkey numbers
+        batch.begin();
+        BitmapFont font = ui.getFont(10); // Slightly larger hotkey numbers
+        
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            float slotX = HOTBAR_X + (i * (SLOT_SIZE + SLOT_SPACING));
+            String keyText = String.valueOf(i + 1);
+            
+            glyphLayout.setText(font, keyText);
+            float textX = slotX + SLOT_SIZE - glyphLayout.width - 6;
+            float textY = HOTBAR_Y + glyphLayout.height + 6;
+            
+            // Shadow
+            font.setColor(0, 0, 0, 0.8f);
+            font.draw(batch, keyText, textX + 1f, textY - 1f);
+            
+            // Main text
+            font.setColor(0.7f, 0.7f, 0.7f, 1f);
+            font.draw(batch, keyText, textX, textY);
+        }
+        
+        batch.end();
+    }
+    
+    private void paintGoldCounter() {
+        hudCache.applyShapeBlending();
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
         // Box background
         shapeRenderer.setColor(0.05f, 0.05f, 0.1f, 0.95f);
-        shapeRenderer.rect(x, y, boxWidth, boxHeight);
-        
-        // Animated gold accent border
-        shapeRenderer.setColor(1f, 0.85f, 0f, 0.9f * goldPulse);
-        shapeRenderer.rect(x, y + boxHeight - 3f, boxWidth, 3f);
+        shapeRenderer.rect(GOLD_X, GOLD_Y, GOLD_BOX_WIDTH, GOLD_BOX_HEIGHT);
         
         shapeRenderer.end();
         
-        // Draw animated coin sprite and gold text
+        // Draw coin sprite and gold text
         batch.begin();
         
         var coinAnim = assets.getCoinAnimation();
         if (coinAnim != null) {
             var coinFrame = coinAnim.getCurrentFrame();
             float coinSize = 24f; // Slightly larger coin
-            batch.draw(coinFrame, x + 10, y + boxHeight / 2 - coinSize / 2, coinSize, coinSize);
+            batch.draw(coinFrame, GOLD_X + 10, GOLD_Y + GOLD_BOX_HEIGHT / 2 - coinSize / 2, coinSize, coinSize);
         }
         
-        String goldText = String.valueOf(player.getGold());
-        
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.75f); // Larger gold text
+        BitmapFont font = ui.getFont(11); // Larger gold text
         
         glyphLayout.setText(font, goldText);
-        float textX = x + 38f;
-        float textY = y + boxHeight / 2 + glyphLayout.height / 2;
+        float textX = GOLD_X + 38f;
+        float textY = GOLD_Y + GOLD_BOX_HEIGHT / 2 + glyphLayout.height / 2;
         
         // Shadow
         font.setColor(0, 0, 0, 0.9f);
@@ -462,176 +555,259 @@ public class GameUI {
         font.setColor(1f, 0.85f, 0f, 1f);
         font.draw(batch, goldText, textX, textY);
         
-        font.getData().setScale(originalScale);
         batch.end();
     }
     
-    private void drawHotbar() {
-        float slotSize = 54f; // Larger slots
-        float slotSpacing = 12f; // More spacing between slots
-        float totalWidth = (slotSize * 4) + (slotSpacing * 3);
-        float x = VIRTUAL_WIDTH / 2f - totalWidth / 2f;
-        float y = BOTTOM_MARGIN + 28f + ELEMENT_SPACING + 18f + GROUP_SPACING + 15f; // Above level/XP section
-        float borderWidth = 2.5f;
+    // ---------------------------------------------------------------------
+    // Live layers, drawn every frame around the cached composite
+    // ---------------------------------------------------------------------
+    
+    /**
+     * Pulsing glows that extend behind the cached panels
+     */
+    private void drawLiveUnderlays(int pressedSlots) {
+        float glowPulse = (float) Math.sin(glowTimer) * 0.3f + 0.7f;
         
+        hudCache.applyShapeBlending();
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
-        for (int i = 0; i < 4; i++) {
-            float slotX = x + (i * (slotSize + slotSpacing));
-            
-            // Drop shadow
-            shapeRenderer.setColor(0f, 0f, 0f, 0.6f);
-            shapeRenderer.rect(slotX + 3, y - 3, slotSize, slotSize);
-            
-            // Check if key is pressed
-            boolean isPressed = Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.NUM_1 + i) ||
-                               Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.NUMPAD_1 + i);
-            
-            // Outer glow when pressed
-            if (isPressed) {
-                float pressGlow = (float) Math.sin(pulseTimer * 4f) * 0.3f + 0.5f;
-                shapeRenderer.setColor(0.3f, 0.6f, 1f, pressGlow * 0.6f);
-                shapeRenderer.rect(slotX - 4, y - 4, slotSize + 8, slotSize + 8);
-            }
-            
-            // Outer border
-            shapeRenderer.setColor(0.2f, 0.2f, 0.25f, 1f);
-            shapeRenderer.rect(slotX - borderWidth, y - borderWidth, 
-                              slotSize + borderWidth * 2, slotSize + borderWidth * 2);
-            
-            // Slot background
-            shapeRenderer.setColor(0.08f, 0.08f, 0.1f, 0.95f);
-            shapeRenderer.rect(slotX, y, slotSize, slotSize);
-            
-            // Highlight when pressed
-            if (isPressed) {
-                shapeRenderer.setColor(0.3f, 0.6f, 1f, 0.4f);
-                shapeRenderer.rect(slotX + 2, y + 2, slotSize - 4, slotSize - 4);
+        // Level orb glow
+        float pulse = (float) Math.sin(pulseTimer) * 0.1f + 1.0f;
+        shapeRenderer.setColor(0.3f, 0.85f, 1f, 0.3f * glowPulse);
+        shapeRenderer.circle(ORB_X, ORB_Y, (ORB_RADIUS + 6) * pulse, 32);
+        shapeRenderer.setColor(0.3f, 0.85f, 1f, 0.2f * glowPulse);
+        shapeRenderer.circle(ORB_X, ORB_Y, (ORB_RADIUS + 10) * pulse, 32);
+        
+        // Glow for full dodge charges
+        int currentCharges = player.getDodgeCharges();
+        for (int i = 0; i < currentCharges; i++) {
+            float chargeX = CHARGES_X + (i * (CHARGE_SIZE + CHARGE_SPACING));
+            float chargeGlow = (float) Math.sin(glowTimer + i * 0.5f) * 0.3f + 0.5f;
+            shapeRenderer.setColor(0.3f, 0.85f, 1f, chargeGlow * 0.4f);
+            shapeRenderer.circle(chargeX, ORB_Y, CHARGE_SIZE / 2f + 5, 20);
+        }
+        
+        // Low health pulsing glow
+        if (lowHealthIntensity > 0f) {
+            float healthPulse = (float) Math.sin(pulseTimer * 3f) * 0.5f + 0.5f;
+            shapeRenderer.setColor(1f, 0.2f, 0.2f, lowHealthIntensity * healthPulse * 0.6f);
+            shapeRenderer.rect(BAR_X - 6, HEALTH_BAR_Y - 6, BAR_WIDTH + 12, HEALTH_BAR_HEIGHT + 12);
+            shapeRenderer.setColor(1f, 0.2f, 0.2f, lowHealthIntensity * healthPulse * 0.3f);
+            shapeRenderer.rect(BAR_X - 10, HEALTH_BAR_Y - 10, BAR_WIDTH + 20, HEALTH_BAR_HEIGHT + 20);
+        }
+        
+        // Level up flash effect
+        if (levelUpFlashTimer > 0f) {
+            float flashIntensity = (levelUpFlashTimer / 1.5f) * 0.5f;
+            shapeRenderer.setColor(1f, 0.8f, 0.2f, flashIntensity);
+            shapeRenderer.rect(BAR_X - 8, EXP_BAR_Y - 8, BAR_WIDTH + 16, EXP_BAR_HEIGHT + 16);
+            shapeRenderer.setColor(1f, 1f, 0.5f, flashIntensity * 0.5f);
+            shapeRenderer.rect(BAR_X - 12, EXP_BAR_Y - 12, BAR_WIDTH + 24, EXP_BAR_HEIGHT + 24);
+        }
+        
+        // XP bar outer glow
+        float xpGlow = 0.25f + (float)Math.sin(glowTimer * 1.3f) * 0.15f;
+        shapeRenderer.setColor(0.2f, 0.5f, 1f, xpGlow * 0.4f);
+        shapeRenderer.rect(BAR_X - 2, EXP_BAR_Y - 2, BAR_WIDTH + 4, EXP_BAR_HEIGHT + 4);
+        shapeRenderer.setColor(0.2f, 0.5f, 1f, xpGlow * 0.2f);
+        shapeRenderer.rect(BAR_X - 4, EXP_BAR_Y - 4, BAR_WIDTH + 8, EXP_BAR_HEIGHT + 8);
+        
+        // Hotbar glow when pressed
+        if (pressedSlots != 0) {
+            float pressGlow = (float) Math.sin(pulseTimer * 4f) * 0.3f + 0.5f;
+            shapeRenderer.setColor(0.3f, 0.6f, 1f, pressGlow * 0.6f);
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                if ((pressedSlots & (1 << i)) == 0) continue;
+                float slotX = HOTBAR_X + (i * (SLOT_SIZE + SLOT_SPACING));
+                shapeRenderer.rect(slotX - 4, HOTBAR_Y - 4, SLOT_SIZE + 8, SLOT_SIZE + 8);
             }
         }
         
+        // Subtle gold glow
+        float goldPulse = (float) Math.sin(glowTimer * 0.8f) * 0.05f + 0.95f;
+        shapeRenderer.setColor(1f, 0.85f, 0f, 0.2f * goldPulse);
+        shapeRenderer.rect(GOLD_X - 4, GOLD_Y - 4, GOLD_BOX_WIDTH + 8, GOLD_BOX_HEIGHT + 8);
+        
         shapeRenderer.end();
+    }
+    
+    /**
+     * Animated fills, highlights and the text drawn over them
+     */
+    private void drawLiveOverlays(int pressedSlots) {
+        float glowPulse = (float) Math.sin(glowTimer) * 0.3f + 0.7f;
         
-        // Draw hotkey numbers
-        batch.begin();
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.65f); // Slightly larger hotkey numbers
+        hudCache.applyShapeBlending();
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
-        for (int i = 0; i < 4; i++) {
-            float slotX = x + (i * (slotSize + slotSpacing));
-            String keyText = String.valueOf(i + 1);
-            
-            glyphLayout.setText(font, keyText);
-            float textX = slotX + slotSize - glyphLayout.width - 6;
-            float textY = y + glyphLayout.height + 6;
-            
-            // Shadow
-            font.setColor(0, 0, 0, 0.8f);
-            font.draw(batch, keyText, textX + 1f, textY - 1f);
-            
-            // Main text
-            font.setColor(0.7f, 0.7f, 0.7f, 1f);
-            font.draw(batch, keyText, textX, textY);
+        // Level orb inner highlight and glow ring
+        float highlightPulse = (float) Math.sin(pulseTimer * 0.5f) * 0.1f + 0.6f;
+        shapeRenderer.setColor(0.15f, 0.25f, 0.35f, highlightPulse);
+        shapeRenderer.circle(ORB_X, ORB_Y + ORB_RADIUS * 0.15f, ORB_RADIUS * 0.6f, 24);
+        shapeRenderer.setColor(0.3f, 0.7f, 1f, 0.4f * glowPulse);
+        shapeRenderer.circle(ORB_X, ORB_Y, ORB_RADIUS * 0.8f, 24);
+        
+        drawDodgeFills();
+        drawHealthFill();
+        drawExperienceFill();
+        
+        // Hotbar highlight when pressed
+        if (pressedSlots != 0) {
+            shapeRenderer.setColor(0.3f, 0.6f, 1f, 0.4f);
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                if ((pressedSlots & (1 << i)) == 0) continue;
+                float slotX = HOTBAR_X + (i * (SLOT_SIZE + SLOT_SPACING));
+                shapeRenderer.rect(slotX + 2, HOTBAR_Y + 2, SLOT_SIZE - 4, SLOT_SIZE - 4);
+            }
         }
         
-        font.getData().setScale(originalScale);
+        // Animated gold accent border
+        float goldPulse = (float) Math.sin(glowTimer * 0.8f) * 0.05f + 0.95f;
+        shapeRenderer.setColor(1f, 0.85f, 0f, 0.9f * goldPulse);
+        shapeRenderer.rect(GOLD_X, GOLD_Y + GOLD_BOX_HEIGHT - 3f, GOLD_BOX_WIDTH, 3f);
+        
+        shapeRenderer.end();
+        
+        batch.begin();
+        drawLevelOrbText(glowPulse);
+        drawHealthText();
         batch.end();
     }
     
-    private void drawDodgeCharges() {
-        float chargeSize = 28f; // Larger charges
-        float chargeSpacing = 10f; // More spacing
+    private void drawDodgeFills() {
         int maxCharges = player.getMaxDodgeCharges();
         int currentCharges = player.getDodgeCharges();
         float rechargeProgress = player.getDodgeRechargeProgress();
         
-        // Position to the right of the level orb
-        float orbRadius = 30f;
-        float orbX = UI_PADDING + orbRadius + 10f;
-        float x = orbX + orbRadius + 25f; // Start to the right of the orb with some spacing
-        float y = BOTTOM_MARGIN + orbRadius + 10f; // Same vertical center as the orb
-        
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        
         for (int i = 0; i < maxCharges; i++) {
-            float chargeX = x + (i * (chargeSize + chargeSpacing));
-            float chargeY = y;
+            float chargeX = CHARGES_X + (i * (CHARGE_SIZE + CHARGE_SPACING));
             
-            // Drop shadow
-            shapeRenderer.setColor(0f, 0f, 0f, 0.5f);
-            shapeRenderer.circle(chargeX + 1.5f, chargeY - 1.5f, chargeSize / 2f, 20);
-            
-            // Glow for full charges
-            if (i < currentCharges) {
-                float chargeGlow = (float) Math.sin(glowTimer + i * 0.5f) * 0.3f + 0.5f;
-                shapeRenderer.setColor(0.3f, 0.85f, 1f, chargeGlow * 0.4f);
-                shapeRenderer.circle(chargeX, chargeY, chargeSize / 2f + 5, 20);
-            }
-            
-            // Border
-            shapeRenderer.setColor(0.3f, 0.3f, 0.35f, 1f);
-            shapeRenderer.circle(chargeX, chargeY, chargeSize / 2f + 1.5f, 20);
-            
-            // Background
-            shapeRenderer.setColor(0.1f, 0.1f, 0.12f, 0.95f);
-            shapeRenderer.circle(chargeX, chargeY, chargeSize / 2f, 20);
-            
-            // Fill
             if (i < currentCharges) {
                 // Full charge with pulse
                 float chargePulse = (float) Math.sin(pulseTimer + i * 0.3f) * 0.1f + 0.9f;
                 shapeRenderer.setColor(0.3f, 0.85f, 1f, chargePulse);
-                shapeRenderer.circle(chargeX, chargeY, (chargeSize / 2f) - 2, 20);
+                shapeRenderer.circle(chargeX, ORB_Y, (CHARGE_SIZE / 2f) - 2, 20);
                 
                 // Bright highlight
                 shapeRenderer.setColor(0.6f, 0.95f, 1f, 0.7f * chargePulse);
-                shapeRenderer.circle(chargeX - 2, chargeY + 2, (chargeSize / 2f) - 5, 16);
+                shapeRenderer.circle(chargeX - 2, ORB_Y + 2, (CHARGE_SIZE / 2f) - 5, 16);
             } else if (i == currentCharges && rechargeProgress > 0) {
                 // Recharging with glow
                 shapeRenderer.setColor(0.3f, 0.85f, 1f, 0.6f);
                 float angle = 360f * rechargeProgress;
-                shapeRenderer.arc(chargeX, chargeY, (chargeSize / 2f) - 2, 90, angle, 20);
+                shapeRenderer.arc(chargeX, ORB_Y, (CHARGE_SIZE / 2f) - 2, 90, angle, 20);
             }
         }
+    }
+    
+    private void drawHealthFill() {
+        // Health bar fill with gradient effect
+        if (currentHealthWidth <= 2) return;
         
-        shapeRenderer.end();
+        float healthPercent = player.getCurrentHealth() / player.getMaxHealth();
+        float innerPadding = 2f;
         
-        // Draw "DODGE" label
-        batch.begin();
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.45f); // Slightly larger label
+        // Determine health color based on percentage
+        float r, g, b;
+        if (healthPercent > 0.5f) {
+            // Green to yellow (100% to 50%)
+            r = (1f - healthPercent) * 2f;
+            g = 0.8f;
+            b = 0.2f;
+        } else {
+            // Yellow to red (50% to 0%)
+            r = 0.9f;
+            g = healthPercent * 1.6f;
+            b = 0.2f;
+        }
         
-        String label = "DODGE";
-        glyphLayout.setText(font, label);
-        float labelX = x + ((maxCharges * (chargeSize + chargeSpacing)) - chargeSpacing) / 2f - glyphLayout.width / 2f;
-        float labelY = y - chargeSize / 2f - 8f;
+        // Bottom layer
+        shapeRenderer.setColor(r * 0.6f, g * 0.6f, b * 0.6f, 0.9f);
+        shapeRenderer.rect(BAR_X + innerPadding, HEALTH_BAR_Y + innerPadding, 
+                         currentHealthWidth, HEALTH_BAR_HEIGHT - innerPadding * 2);
+        
+        // Top highlight with pulse
+        float healthPulse = (float) Math.sin(pulseTimer) * 0.1f + 0.9f;
+        shapeRenderer.setColor(r * healthPulse, g * healthPulse, b * healthPulse, 0.9f);
+        shapeRenderer.rect(BAR_X + innerPadding, HEALTH_BAR_Y + HEALTH_BAR_HEIGHT - 7, 
+                         currentHealthWidth, 3);
+    }
+    
+    private void drawExperienceFill() {
+        // XP bar with beautiful gradient and animation
+        if (currentExpWidth <= 0) return;
+        
+        float x = BAR_X;
+        float y = EXP_BAR_Y;
+        float xpPulse = 0.9f + (float)Math.sin(pulseTimer * 1.5f) * 0.1f;
+        
+        // Bottom layer
+        shapeRenderer.setColor(0.1f * xpPulse, 0.2f * xpPulse, 0.6f * xpPulse, 0.9f);
+        shapeRenderer.rect(x + 1, y + 1, currentExpWidth - 2, EXP_BAR_HEIGHT - 2);
+        
+        // Middle layer with gradient effect
+        shapeRenderer.setColor(0.2f * xpPulse, 0.4f * xpPulse, 0.9f * xpPulse, 0.9f);
+        shapeRenderer.rect(x + 1, y + 2, currentExpWidth - 2, EXP_BAR_HEIGHT - 4);
+        
+        // Top highlight with moving shimmer
+        float xpShimmer = 0.5f + (float)Math.sin(shimmerTimer * 1.5f + currentExpWidth * 0.15f) * 0.3f;
+        shapeRenderer.setColor(0.5f, 0.7f + xpShimmer * 0.3f, 1f, xpShimmer * 0.7f);
+        shapeRenderer.rect(x + 1, y + EXP_BAR_HEIGHT - 5, currentExpWidth - 2, 3);
+    }
+    
+    private void drawLevelOrbText(float glowPulse) {
+        BitmapFont font = ui.getFont(14);
+        
+        glyphLayout.setText(font, levelText);
+        float textX = ORB_X - glyphLayout.width / 2f;
+        float textY = ORB_Y + glyphLayout.height / 2f;
+        
+        // Glow layers
+        font.setColor(0.3f, 0.9f, 1f, 0.4f * glowPulse);
+        for (int i = 0; i < 3; i++) {
+            font.draw(batch, levelText, textX, textY);
+        }
         
         // Shadow
         font.setColor(0, 0, 0, 0.8f);
-        font.draw(batch, label, labelX + 1f, labelY - 1f);
+        font.draw(batch, levelText, textX + 1, textY - 1);
         
         // Main text
-        font.setColor(0.3f, 0.85f, 1f, 1f);
-        font.draw(batch, label, labelX, labelY);
+        font.setColor(0.3f, 0.9f, 1f, 1f);
+        font.draw(batch, levelText, textX, textY);
+        
+    }
+    
+    private void drawHealthText() {
+        BitmapFont font = ui.getFont(8); // Slightly larger text
+        
+        glyphLayout.setText(font, healthText);
+        float textX = BAR_X + (BAR_WIDTH - glyphLayout.width) / 2f;
+        float textY = HEALTH_BAR_Y + 20f;
+        
+        // Shadow
+        font.setColor(0f, 0f, 0f, 0.8f);
+        font.draw(batch, healthText, textX + 1, textY - 1);
+        
+        // Main text
+        font.setColor(1f, 1f, 1f, 1f);
+        font.draw(batch, healthText, textX, textY);
         
-        font.getData().setScale(originalScale);
-        batch.end();
     }
     
     /**
      * Resize the UI
      */
     public void resize(int width, int height) {
-        // Keep using fixed virtual resolution - don't update based on screen size
-        uiCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
-        uiCamera.update();
+        // Shared cameras are resized by UiRenderContext; the cache follows the backbuffer
+        hudCache.resize(Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
     }
     
     /**
-     * Dispose UI resources
+     * Dispose UI resources. Batch and shapes are shared and disposed by UiRenderContext.
      */
+    @Override
     public void dispose() {
-        shapeRenderer.dispose();
-        batch.dispose();
+        hudCache.dispose();
     }
 }
@@ -0,0 +1,179 @@
+package com.bonechild.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.bonechild.assets.GpuMemory;
+
+import java.nio.IntBuffer;
+
+/**
+ * Retained HUD layer backed by a FrameBuffer.
+ *
+ * Static HUD panels are painted into the buffer once and only repainted when their
+ * region is marked dirty. Each region owns a rectangle in virtual coordinates; a
+ * repaint scissors to that rectangle, clears it and asks the painter to redraw it.
+ * The buffer holds premultiplied alpha so it can be composited with a single quad.
+ */
+public class HudCache {
+    /**
+     * Paints the static content of one region. Called with the FrameBuffer bound.
+     */
+    public interface RegionPainter {
+        void paintRegion(int region);
+    }
+
+    private final UiRenderContext ui;
+    private final Rectangle[] regions;
+    private final IntBuffer viewportBuffer = BufferUtils.newIntBuffer(16);
+
+    private FrameBuffer frameBuffer;
+    private Texture texture;
+    private int dirtyMask;
+    private boolean painting;
+
+    public HudCache(UiRenderContext ui, int regionCount) {
+        if (regionCount > 32) {
+            throw new IllegalArgumentException("HudCache supports at most 32 regions, got " + regionCount);
+        }
+        this.ui = ui;
+        this.regions = new Rectangle[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            regions[i] = new Rectangle();
+        }
+        resize(Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+    }
+
+    /**
+     * Set the virtual-space bounds of a region. Everything painted for it must stay inside.
+     */
+    public void setRegion(int region, float x, float y, float width, float height) {
+        regions[region].set(x, y, width, height);
+        markDirty(region);
+    }
+
+    public void markDirty(int region) {
+        dirtyMask |= 1 << region;
+    }
+
+    public void markAllDirty() {
+        dirtyMask = regions.length == 32 ? -1 : (1 << regions.length) - 1;
+    }
+
+    public boolean isDirty() {
+        return dirtyMask != 0;
+    }
+
+    /**
+     * True while dirty regions are being repainted into the buffer
+     */
+    public boolean isPainting() {
+        return painting;
+    }
+
+    /**
+     * Enable blending for a ShapeRenderer pass. Inside the buffer alpha is accumulated
+     * separately so the cached layer ends up premultiplied.
+     */
+    public void applyShapeBlending() {
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        if (painting) {
+            Gdx.gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        } else {
+            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        }
+    }
+
+    /**
+     * Repaint every dirty region into the buffer. Cheap no-op when nothing changed.
+     */
+    public void refresh(RegionPainter painter) {
+        if (dirtyMask == 0 || frameBuffer == null) return;
+
+        SpriteBatch batch = ui.getBatch();
+        float scaleX = frameBuffer.getWidth() / UiRenderContext.VIRTUAL_WIDTH;
+        float scaleY = frameBuffer.getHeight() / UiRenderContext.VIRTUAL_HEIGHT;
+
+        // Remember the letterboxed viewport so it can be restored afterwards
+        viewportBuffer.clear();
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, viewportBuffer);
+        int viewportX = viewportBuffer.get(0);
+        int viewportY = viewportBuffer.get(1);
+        int viewportWidth = viewportBuffer.get(2);
+        int viewportHeight = viewportBuffer.get(3);
+
+        painting = true;
+        frameBuffer.begin();
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+            GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+
+        for (int i = 0; i < regions.length; i++) {
+            if ((dirtyMask & (1 << i)) == 0) continue;
+            Rectangle r = regions[i];
+            int x = (int) Math.floor(r.x * scaleX);
+            int y = (int) Math.floor(r.y * scaleY);
+            int width = (int) Math.ceil((r.x + r.width) * scaleX) - x;
+            int height = (int) Math.ceil((r.y + r.height) * scaleY) - y;
+            Gdx.gl.glScissor(x, y, width, height);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            painter.paintRegion(i);
+        }
+
+        Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        frameBuffer.end(viewportX, viewportY, viewportWidth, viewportHeight);
+        painting = false;
+        dirtyMask = 0;
+    }
+
+    /**
+     * Draw the cached layer as one quad over the virtual screen
+     */
+    public void composite() {
+        if (texture == null) return;
+
+        SpriteBatch batch = ui.getBatch();
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.begin();
+        // FrameBuffer textures are stored bottom-up, so flip V
+        batch.draw(texture, 0f, 0f, UiRenderContext.VIRTUAL_WIDTH, UiRenderContext.VIRTUAL_HEIGHT,
+            0f, 0f, 1f, 1f);
+        batch.end();
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /**
+     * Match the buffer to the backbuffer so cached text stays crisp, then repaint everything
+     */
+    public void resize(int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        if (frameBuffer != null && frameBuffer.getWidth() == width && frameBuffer.getHeight() == height) return;
+
+        if (frameBuffer != null) {
+            GpuMemory.untrack(frameBuffer);
+            frameBuffer.dispose();
+        }
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        GpuMemory.trackFrameBuffer(frameBuffer, false, "ui", "HUD cache");
+        texture = frameBuffer.getColorBufferTexture();
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        markAllDirty();
+    }
+
+    public void dispose() {
+        if (frameBuffer != null) {
+            GpuMemory.untrack(frameBuffer);
+            frameBuffer.dispose();
+            frameBuffer = null;
+            texture = null;
+        }
+    }
+}
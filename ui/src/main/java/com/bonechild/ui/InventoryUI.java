@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.badlogic.gdx.utils.Disposable;
 import com.bonechild.rendering.Assets;
 import com.bonechild.playablecharacters.Player;
 
@@ -12,9 +13,9 @@ import com.bonechild.playablecharacters.Player;
  * for future item/equipment visualization. It behaves as a simple overlay
  * that can be shown/hidden, resized, and disposed.
  */
-public class InventoryUI {
+public class InventoryUI implements Disposable {
     private final Assets assets;
-    private final Player player;
+    private Player player;
     private final Stage stage;
     private boolean visible = false;
 
@@ -25,6 +26,10 @@ public class InventoryUI {
         // In the future, add actual inventory widgets/actors to the stage.
     }
 
+    public void setPlayer(Player player) {
+        this.player = player;
+    }
+
     public boolean isVisible() {
         return visible;
     }
@@ -60,6 +65,7 @@ public class InventoryUI {
         stage.getViewport().update(width, height, true);
     }
 
+    @Override
     public void dispose() {
         stage.dispose();
     }
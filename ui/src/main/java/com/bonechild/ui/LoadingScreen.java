@@ -0,0 +1,76 @@
+package com.bonechild.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import com.bonechild.assets.GpuMemory;
+
+/**
+ * Progress bar shown while the menu's assets load at startup.
+ *
+ * It is drawn before the shared UiRenderContext exists (that needs the baked fonts), so
+ * it owns a small batch, shape renderer and libGDX's built-in font, and is disposed as
+ * soon as the menu can be shown.
+ */
+public class LoadingScreen implements Disposable {
+    private static final float BAR_WIDTH = 480f;
+    private static final float BAR_HEIGHT = 16f;
+    private static final float BORDER = 2f;
+
+    private final SpriteBatch batch = new SpriteBatch();
+    private final ShapeRenderer shapeRenderer = new ShapeRenderer();
+    private final BitmapFont font = new BitmapFont();
+    private final GlyphLayout layout = new GlyphLayout();
+    private final OrthographicCamera camera = new OrthographicCamera();
+
+    public LoadingScreen() {
+        camera.setToOrtho(false, UiRenderContext.VIRTUAL_WIDTH, UiRenderContext.VIRTUAL_HEIGHT);
+        GpuMemory.trackSpriteBatch(batch, "ui", "loading screen batch");
+        GpuMemory.trackShapeRenderer(shapeRenderer, "ui", "loading screen shapes");
+        GpuMemory.trackFont(font, "ui", "loading screen font");
+    }
+
+    /**
+     * Draw the bar filled to progress (0 to 1)
+     */
+    public void render(float progress) {
+        Gdx.gl.glClearColor(0.1f, 0.1f, 0.15f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        camera.update();
+        float x = (UiRenderContext.VIRTUAL_WIDTH - BAR_WIDTH) / 2f;
+        float y = UiRenderContext.VIRTUAL_HEIGHT / 2f - BAR_HEIGHT / 2f;
+
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.LIGHT_GRAY);
+        shapeRenderer.rect(x - BORDER, y - BORDER, BAR_WIDTH + BORDER * 2, BAR_HEIGHT + BORDER * 2);
+        shapeRenderer.setColor(Color.BLACK);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(0.85f, 0.75f, 0.45f, 1f);
+        shapeRenderer.rect(x, y, BAR_WIDTH * Math.max(0f, Math.min(progress, 1f)), BAR_HEIGHT);
+        shapeRenderer.end();
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        layout.setText(font, "Loading...");
+        font.draw(batch, layout, (UiRenderContext.VIRTUAL_WIDTH - layout.width) / 2f, y + BAR_HEIGHT + 30f);
+        batch.end();
+    }
+
+    @Override
+    public void dispose() {
+        GpuMemory.untrack(batch);
+        GpuMemory.untrack(shapeRenderer);
+        GpuMemory.untrackFont(font);
+        batch.dispose();
+        shapeRenderer.dispose();
+        font.dispose();
+    }
+}
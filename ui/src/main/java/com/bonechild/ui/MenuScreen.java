@@ -8,20 +8,24 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+import com.bonechild.assets.GpuMemory;
 import com.bonechild.rendering.Assets;
 
 /**
  * Title screen menu for BoneChild
  */
-public class MenuScreen {
+public class MenuScreen implements Disposable {
     // Virtual resolution (matches the game's viewport)
-    private static final float VIRTUAL_WIDTH = 1280f;
-    private static final float VIRTUAL_HEIGHT = 720f;
+    private static final float VIRTUAL_WIDTH = UiRenderContext.VIRTUAL_WIDTH;
+    private static final float VIRTUAL_HEIGHT = UiRenderContext.VIRTUAL_HEIGHT;
+    private static final float TITLE_SCALE = 4.0f;
 
+    private final UiRenderContext ui;
     private final SpriteBatch batch;
     private final ShapeRenderer shapeRenderer;
     private final BitmapFont font;
-    private final BitmapFont titleFont;
+    private BitmapFont titleFont;
     private final GlyphLayout glyphLayout;
     
     // Scrolling background
@@ -53,10 +57,11 @@ public class MenuScreen {
         boolean hasSaveFile(); // Add this method to the interface
     }
     
-    public MenuScreen(Assets assets, MenuCallback callback) {
-        this.batch = new SpriteBatch();
-        this.shapeRenderer = new ShapeRenderer();
-        this.font = assets.getFont();
+    public MenuScreen(UiRenderContext ui, Assets assets, MenuCallback callback) {
+        this.ui = ui;
+        this.batch = ui.getBatch();
+        this.shapeRenderer = ui.getShapeRenderer();
+        this.font = ui.getFont();
         this.glyphLayout = new GlyphLayout();
         this.callback = callback;
         this.isVisible = true;
@@ -103,16 +108,12 @@ public class MenuScreen {
                 this.backgroundTexture = null;
             }
         }
+        if (backgroundTexture != null) {
+            GpuMemory.trackTexture(backgroundTexture, GpuMemory.Kind.TEXTURE, "ui", "menu background");
+        }
         
-        // Create title font (larger)
-        this.titleFont = new BitmapFont();
-        this.titleFont.getData().setScale(4.0f);
-        this.titleFont.setColor(Color.WHITE);
-        this.titleFont.setUseIntegerPositions(false);
-        this.titleFont.getRegion().getTexture().setFilter(
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear,
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear
-        );
+        // Shared title font (larger), scaled per render
+        this.titleFont = ui.getTitleFont(TITLE_SCALE);
         
         // Button setup
         this.buttonWidth = 300f;
@@ -228,6 +229,9 @@ public class MenuScreen {
     public void render() {
         if (!isVisible) return;
         
+        ui.useVirtualProjection();
+        titleFont = ui.getTitleFont(TITLE_SCALE);
+        
         // Clear the screen first
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(com.badlogic.gdx.graphics.GL20.GL_COLOR_BUFFER_BIT);
@@ -355,17 +359,11 @@ public class MenuScreen {
     /**
      * Dispose resources
      */
+    @Override
     public void dispose() {
-        if (batch != null) {
-            batch.dispose();
-        }
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-        if (titleFont != null) {
-            titleFont.dispose();
-        }
+        // Batch, shapes and fonts are shared and disposed by UiRenderContext
         if (backgroundTexture != null) {
+            GpuMemory.untrack(backgroundTexture);
             backgroundTexture.dispose();
         }
     }
@@ -6,23 +6,22 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
 import com.bonechild.rendering.Assets;
 
 /**
  * Pause menu for BoneChild gameplay - uses PNG assets
  */
-public class PauseMenu {
+public class PauseMenu implements Disposable {
     // Virtual resolution for UI (same as game world for consistency)
-    private static final float VIRTUAL_WIDTH = 1280f;
-    private static final float VIRTUAL_HEIGHT = 720f;
+    private static final float VIRTUAL_WIDTH = UiRenderContext.VIRTUAL_WIDTH;
+    private static final float VIRTUAL_HEIGHT = UiRenderContext.VIRTUAL_HEIGHT;
 
+    private final UiRenderContext ui;
     private final SpriteBatch batch;
     private final ShapeRenderer shapeRenderer;
     private final Assets assets;
 
-    // Screen projection matrix for UI
-    private final com.badlogic.gdx.graphics.OrthographicCamera uiCamera;
-
     // Textures
     private Texture bgTexture;
     private Texture playButtonTexture;
@@ -43,17 +42,14 @@ public class PauseMenu {
         void onExitToMenu();
     }
 
-    public PauseMenu(Assets assets, PauseCallback callback) {
-        this.batch = new SpriteBatch();
-        this.shapeRenderer = new ShapeRenderer();
+    public PauseMenu(UiRenderContext ui, Assets assets, PauseCallback callback) {
+        this.ui = ui;
+        this.batch = ui.getBatch();
+        this.shapeRenderer = ui.getShapeRenderer();
         this.assets = assets;
         this.callback = callback;
         this.isVisible = false;
 
-        // Create UI camera with fixed virtual resolution
-        this.uiCamera = new com.badlogic.gdx.graphics.OrthographicCamera();
-        this.uiCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
-
         // Load textures from assets (may be null if assets not loaded yet)
         this.bgTexture = assets.getExitScreenMenuBg();
         this.playButtonTexture = assets.getPlayButton();
@@ -216,11 +212,8 @@ public class PauseMenu {
         float screenWidth = VIRTUAL_WIDTH;
         float screenHeight = VIRTUAL_HEIGHT;
 
-        // Update camera and set projection matrices
-        uiCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
-        uiCamera.update();
-        batch.setProjectionMatrix(uiCamera.combined);
-        shapeRenderer.setProjectionMatrix(uiCamera.combined);
+        // Set projection matrices on the shared batch and shapes
+        ui.useVirtualProjection();
 
         // Enable blending for proper transparency
         Gdx.gl.glEnable(com.badlogic.gdx.graphics.GL20.GL_BLEND);
@@ -282,20 +275,15 @@ public class PauseMenu {
      */
     public void resize(int width, int height) {
         // Keep using fixed virtual resolution
-        uiCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
         setupUI();
     }
 
     /**
      * Dispose resources
      */
+    @Override
     public void dispose() {
-        if (batch != null) {
-            batch.dispose();
-        }
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
+        // Batch and shapes are shared and disposed by UiRenderContext
         // Don't dispose textures - they're managed by Assets class
     }
 
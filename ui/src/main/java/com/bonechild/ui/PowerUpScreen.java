@@ -7,26 +7,26 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
 import com.bonechild.rendering.Assets;
 import com.bonechild.playablecharacters.Player;
+import com.bonechild.random.RandomStream;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Power-up selection screen shown when player levels up
  */
-public class PowerUpScreen {
+public class PowerUpScreen implements Disposable {
+    private static final float TITLE_SCALE = 2.5f;
+
+    private final UiRenderContext ui;
     private final SpriteBatch batch;
     private final ShapeRenderer shapeRenderer;
     private final BitmapFont font;
-    private final BitmapFont titleFont;
+    private BitmapFont titleFont;
     private final GlyphLayout glyphLayout;
     
-    // Screen projection matrix for UI
-    private final com.badlogic.gdx.graphics.OrthographicCamera uiCamera;
-    
     // Buttons for each power-up (vertical layout)
     private Rectangle[] powerUpButtons = new Rectangle[3];
     private Rectangle rerollButton;
@@ -37,7 +37,7 @@ public class PowerUpScreen {
     private boolean isVisible;
     private PowerUpCallback callback;
     private Player player;
-    private Random random;
+    private RandomStream random;
     
     // Current power-up selections
     private PowerUp[] currentPowerUps = new PowerUp[3];
@@ -73,28 +73,18 @@ public class PowerUpScreen {
         void onPowerUpSelected(PowerUp powerUp);
     }
     
-    public PowerUpScreen(Assets assets, PowerUpCallback callback) {
-        this.batch = new SpriteBatch();
-        this.shapeRenderer = new ShapeRenderer();
-        this.font = assets.getFont();
+    public PowerUpScreen(UiRenderContext ui, Assets assets, PowerUpCallback callback) {
+        this.ui = ui;
+        this.batch = ui.getBatch();
+        this.shapeRenderer = ui.getShapeRenderer();
+        this.font = ui.getFont();
         this.glyphLayout = new GlyphLayout();
         this.callback = callback;
         this.isVisible = false;
-        this.random = new Random();
-        
-        // Create UI camera for proper screen-space rendering
-        this.uiCamera = new com.badlogic.gdx.graphics.OrthographicCamera();
-        this.uiCamera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        
-        // Create title font
-        this.titleFont = new BitmapFont();
-        this.titleFont.getData().setScale(2.5f);
-        this.titleFont.setColor(Color.WHITE);
-        this.titleFont.setUseIntegerPositions(false);
-        this.titleFont.getRegion().getTexture().setFilter(
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear,
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear
-        );
+        this.random = new RandomStream(System.nanoTime());
+        
+        // Shared title font, scaled per render
+        this.titleFont = ui.getTitleFont(TITLE_SCALE);
         
         setupUI();
     }
@@ -102,6 +92,13 @@ public class PowerUpScreen {
     public void setPlayer(Player player) {
         this.player = player;
     }
+
+    /**
+     * Use the run's seeded upgrade stream for the offered choices
+     */
+    public void setRandom(RandomStream random) {
+        this.random = random;
+    }
     
     private void setupUI() {
         float screenWidth = Gdx.graphics.getWidth();
@@ -156,7 +153,7 @@ public class PowerUpScreen {
         }
         
         // Shuffle and pick 3
-        Collections.shuffle(allPowerUps, random);
+        random.shuffle(allPowerUps);
         for (int i = 0; i < 3; i++) {
             currentPowerUps[i] = allPowerUps.get(i);
         }
@@ -205,11 +202,9 @@ public class PowerUpScreen {
         float screenWidth = Gdx.graphics.getWidth();
         float screenHeight = Gdx.graphics.getHeight();
         
-        // Update camera and set projection matrices
-        uiCamera.setToOrtho(false, screenWidth, screenHeight);
-        uiCamera.update();
-        batch.setProjectionMatrix(uiCamera.combined);
-        shapeRenderer.setProjectionMatrix(uiCamera.combined);
+        // Set projection matrices on the shared batch and shapes
+        ui.useScreenProjection();
+        titleFont = ui.getTitleFont(TITLE_SCALE);
         
         // Enable blending for proper transparency
         Gdx.gl.glEnable(com.badlogic.gdx.graphics.GL20.GL_BLEND);
@@ -298,8 +293,6 @@ public class PowerUpScreen {
         // Draw button text
         batch.begin();
         
-        float originalScale = font.getData().scaleX;
-        
         // Power-up name
         glyphLayout.setText(font, title);
         float textX = button.x + button.width / 2f - glyphLayout.width / 2f;
@@ -313,15 +306,13 @@ public class PowerUpScreen {
         font.draw(batch, title, textX, textY);
         
         // Description
-        font.getData().setScale(originalScale * 0.5f);
-        glyphLayout.setText(font, description);
+        BitmapFont descriptionFont = ui.getFont(8);
+        glyphLayout.setText(descriptionFont, description);
         float descX = button.x + button.width / 2f - glyphLayout.width / 2f;
         float descY = button.y + 25f;
         
-        font.setColor(0.7f, 0.7f, 0.7f, 1f);
-        font.draw(batch, description, descX, descY);
-        
-        font.getData().setScale(originalScale);
+        descriptionFont.setColor(0.7f, 0.7f, 0.7f, 1f);
+        descriptionFont.draw(batch, description, descX, descY);
         
         batch.end();
     }
@@ -362,8 +353,7 @@ public class PowerUpScreen {
         // Draw button text
         batch.begin();
         
-        float originalScale = font.getData().scaleX;
-        font.getData().setScale(originalScale * 0.7f);
+        BitmapFont font = ui.getFont(11);
         
         String text = "Reroll (" + REROLL_COST + " gold)";
         glyphLayout.setText(font, text);
@@ -381,7 +371,6 @@ public class PowerUpScreen {
         }
         font.draw(batch, text, textX, textY);
         
-        font.getData().setScale(originalScale);
         
         batch.end();
     }
@@ -390,24 +379,15 @@ public class PowerUpScreen {
      * Resize screen
      */
     public void resize(int width, int height) {
-        uiCamera.setToOrtho(false, width, height);
-        uiCamera.update();
         setupUI();
     }
     
     /**
      * Dispose resources
      */
+    @Override
     public void dispose() {
-        if (batch != null) {
-            batch.dispose();
-        }
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-        if (titleFont != null) {
-            titleFont.dispose();
-        }
+        // Batch, shapes and fonts are shared and disposed by UiRenderContext
     }
     
     public boolean isVisible() {
@@ -0,0 +1,281 @@
+package com.bonechild.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.bonechild.assets.GpuMemory;
+import com.bonechild.debug.AllocationProfiler;
+import com.bonechild.debug.FrameProfiler;
+import com.bonechild.world.WorldManager;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Debug overlay (F3) showing p50/p95/p99 CPU time per frame phase, entity counts,
+ * SpriteBatch render calls and garbage collections. F4 switches the table to heap
+ * allocation per phase (last second, average and worst second of AllocationProfiler's
+ * window, in KB/s). F5 switches it to estimated video memory: megabytes per owning module,
+ * then the largest single resources (see GpuMemory).
+ *
+ * Statistics are recomputed a few times per second rather than every frame; the
+ * overlay costs nothing while hidden because FrameProfiler stops sampling.
+ */
+public class ProfilerOverlay {
+    private static final float REFRESH_INTERVAL = 0.25f;
+    private static final float[] PERCENTILES = {50f, 95f, 99f};
+    private static final FrameProfiler.Phase[] PHASES = FrameProfiler.Phase.values();
+
+    private static final float PANEL_WIDTH = 330f;
+    private static final float MARGIN = 10f;
+    private static final float PADDING = 8f;
+    private static final float LINE_HEIGHT = 15f;
+    private static final float LABEL_WIDTH = 135f;
+    private static final float COLUMN_WIDTH = 60f;
+    private static final float SLOW_PHASE_MS = 4f; // Highlight phases whose p95 exceeds this
+    private static final long HEAVY_PHASE_BYTES = 64 * 1024; // Highlight phases averaging more per second
+    private static final String[] CPU_COLUMNS = {"p50", "p95", "p99"};
+    private static final String[] ALLOCATION_COLUMNS = {"last", "avg", "max"};
+    private static final String[] GPU_COLUMNS = {"MB", "%", ""};
+    private static final int GPU_MODULE_ROWS = 7; // The rest of the table lists the largest resources
+    private static final int LABEL_CHARS = 20;
+    private static final long LARGE_RESOURCE_BYTES = 16L * 1024 * 1024; // Highlight resources above this
+
+    private final UiRenderContext ui;
+    private final SpriteBatch batch;
+    private final ShapeRenderer shapeRenderer;
+    private final BitmapFont font;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    // Refreshed every REFRESH_INTERVAL
+    private final float[] stats = new float[PERCENTILES.length];
+    private final String[] labels = new String[PHASES.length];
+    private final String[][] cells = new String[PHASES.length][PERCENTILES.length];
+    private final boolean[] slow = new boolean[PHASES.length];
+    private String countsLine = "";
+    private String drawLine = "";
+    private String gcLine = "";
+    private String title = "";
+    private boolean visible;
+    private boolean showAllocations;
+    private boolean showGpuMemory;
+    private float refreshTimer;
+    private long lastGcCount = -1;
+    private long lastGcMillis;
+
+    public ProfilerOverlay(UiRenderContext ui) {
+        this.ui = ui;
+        this.batch = ui.getBatch();
+        this.shapeRenderer = ui.getShapeRenderer();
+        this.font = ui.getFont(12);
+        for (String[] row : cells) {
+            java.util.Arrays.fill(row, "-");
+        }
+        setPhaseLabels();
+    }
+
+    public void toggle() {
+        visible = !visible;
+        // A milestone report keeps the profiler sampling while hidden (see FrameProfiler)
+        FrameProfiler.setEnabled(visible);
+        if (!visible) {
+            setShowAllocations(false);
+            showGpuMemory = false;
+        }
+        refreshTimer = REFRESH_INTERVAL; // Refresh on the first visible frame
+        Gdx.app.log("ProfilerOverlay", visible ? "Profiler shown" : "Profiler hidden");
+    }
+
+    /**
+     * Switch between the CPU time and allocation tables, showing the overlay if it is hidden
+     */
+    public void toggleAllocations() {
+        if (!isVisible()) {
+            toggle();
+            setShowAllocations(true);
+        } else {
+            setShowAllocations(!showAllocations);
+        }
+        showGpuMemory = false;
+        refreshTimer = REFRESH_INTERVAL;
+    }
+
+    /**
+     * Switch between the CPU time and GPU memory tables, showing the overlay if it is hidden
+     */
+    public void toggleGpuMemory() {
+        if (!isVisible()) {
+            toggle();
+            showGpuMemory = true;
+        } else {
+            showGpuMemory = !showGpuMemory;
+        }
+        setShowAllocations(false);
+        refreshTimer = REFRESH_INTERVAL;
+    }
+
+    private void setShowAllocations(boolean show) {
+        showAllocations = show;
+        // A CSV dump keeps tracking on by itself
+        if (show) {
+            AllocationProfiler.setEnabled(true);
+        } else if (!AllocationProfiler.isDumping()) {
+            AllocationProfiler.setEnabled(false);
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void update(float delta, WorldManager world) {
+        if (!isVisible()) return;
+        refreshTimer += delta;
+        if (refreshTimer < REFRESH_INTERVAL) return;
+        refreshTimer = 0f;
+
+        if (showGpuMemory) {
+            refreshGpuMemory();
+        } else if (showAllocations) {
+            setPhaseLabels();
+            refreshAllocations();
+        } else {
+            setPhaseLabels();
+            refreshCpuTimes();
+        }
+
+        if (world != null) {
+            countsLine = "Mobs " + world.getMobCount() + "   Projectiles " + world.getProjectiles().size
+                + "   Pickups " + world.getPickups().size;
+        }
+        drawLine = "FPS " + Gdx.graphics.getFramesPerSecond()
+            + "   Render calls " + FrameProfiler.getLastRenderCalls();
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(collector.getCollectionCount(), 0);
+            gcMillis += Math.max(collector.getCollectionTime(), 0);
+        }
+        if (lastGcCount >= 0) {
+            gcLine = "GC " + gcCount + " total   +" + (gcCount - lastGcCount) + " ("
+                + (gcMillis - lastGcMillis) + " ms) last " + (int) (REFRESH_INTERVAL * 1000) + " ms";
+        }
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+    }
+
+    private void refreshCpuTimes() {
+        title = "CPU ms (" + FrameProfiler.getSampleCount() + " frames)";
+        for (int i = 0; i < PHASES.length; i++) {
+            FrameProfiler.percentiles(PHASES[i], PERCENTILES, stats);
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                cells[i][p] = String.format(java.util.Locale.ROOT, "%.2f", stats[p]);
+            }
+            slow[i] = PHASES[i] != FrameProfiler.Phase.FRAME && stats[1] > SLOW_PHASE_MS;
+        }
+    }
+
+    private void refreshAllocations() {
+        title = "Alloc KB/s (" + AllocationProfiler.getSampleCount() + " s)";
+        for (int i = 0; i < PHASES.length; i++) {
+            long average = AllocationProfiler.average(PHASES[i]);
+            cells[i][0] = kilobytes(AllocationProfiler.lastSecond(PHASES[i]));
+            cells[i][1] = kilobytes(average);
+            cells[i][2] = kilobytes(AllocationProfiler.max(PHASES[i]));
+            slow[i] = PHASES[i] != FrameProfiler.Phase.FRAME && average > HEAVY_PHASE_BYTES;
+        }
+    }
+
+    /**
+     * Megabytes per module, then the largest resources, with their share of the total
+     */
+    private void refreshGpuMemory() {
+        long total = GpuMemory.getTotalBytes();
+        title = String.format(java.util.Locale.ROOT, "GPU %.1f MB", GpuMemory.megabytes(total));
+        java.util.Arrays.fill(slow, false);
+        int row = 0;
+        for (Map.Entry<String, Long> module : GpuMemory.getBytesByModule().entrySet()) {
+            if (row == GPU_MODULE_ROWS) break;
+            setGpuRow(row++, module.getKey(), module.getValue(), total);
+        }
+        setGpuRow(row++, "Largest:", -1L, total);
+        for (GpuMemory.Resource resource : GpuMemory.getLargest(PHASES.length - row)) {
+            slow[row] = resource.getBytes() > LARGE_RESOURCE_BYTES;
+            setGpuRow(row++, " " + resource.getName(), resource.getBytes(), total);
+        }
+        while (row < PHASES.length) {
+            setGpuRow(row++, "", -1L, total);
+        }
+    }
+
+    private void setGpuRow(int row, String label, long bytes, long total) {
+        // Keep the end of long names: texture paths differ in their file names
+        labels[row] = label.length() > LABEL_CHARS ? ".." + label.substring(label.length() - LABEL_CHARS + 2) : label;
+        cells[row][0] = bytes < 0 ? "" : String.format(java.util.Locale.ROOT, "%.1f", GpuMemory.megabytes(bytes));
+        cells[row][1] = bytes < 0 || total == 0 ? "" : String.valueOf(bytes * 100 / total);
+        cells[row][2] = "";
+    }
+
+    private void setPhaseLabels() {
+        for (int i = 0; i < PHASES.length; i++) {
+            labels[i] = PHASES[i].getLabel();
+        }
+    }
+
+    private static String kilobytes(long bytes) {
+        return String.format(java.util.Locale.ROOT, "%.1f", bytes / 1024f);
+    }
+
+    public void render() {
+        if (!isVisible()) return;
+
+        ui.useScreenProjection();
+        float height = PADDING * 2 + LINE_HEIGHT * (PHASES.length + 5);
+        float left = Gdx.graphics.getWidth() - PANEL_WIDTH - MARGIN;
+        float top = Gdx.graphics.getHeight() - MARGIN;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0f, 0f, 0f, 0.7f);
+        shapeRenderer.rect(left, top - height, PANEL_WIDTH, height);
+        shapeRenderer.end();
+
+        batch.begin();
+        float x = left + PADDING;
+        float y = top - PADDING;
+
+        font.setColor(Color.YELLOW);
+        font.draw(batch, title, x, y);
+        String[] columns = showGpuMemory ? GPU_COLUMNS : showAllocations ? ALLOCATION_COLUMNS : CPU_COLUMNS;
+        for (int p = 0; p < columns.length; p++) {
+            font.draw(batch, columns[p], x + LABEL_WIDTH + COLUMN_WIDTH * p, y);
+        }
+        y -= LINE_HEIGHT;
+
+        for (int i = 0; i < PHASES.length; i++) {
+            font.setColor(slow[i] ? Color.ORANGE : Color.WHITE);
+            font.draw(batch, labels[i], x, y);
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                font.draw(batch, cells[i][p], x + LABEL_WIDTH + COLUMN_WIDTH * p, y);
+            }
+            y -= LINE_HEIGHT;
+        }
+
+        y -= LINE_HEIGHT / 2f;
+        font.setColor(Color.LIGHT_GRAY);
+        font.draw(batch, countsLine, x, y);
+        y -= LINE_HEIGHT;
+        font.draw(batch, drawLine, x, y);
+        y -= LINE_HEIGHT;
+        font.draw(batch, gcLine, x, y);
+        font.setColor(Color.WHITE);
+        batch.end();
+    }
+}
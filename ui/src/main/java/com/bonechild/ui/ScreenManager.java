@@ -0,0 +1,123 @@
+package com.bonechild.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.function.Supplier;
+
+/**
+ * Owns the lifecycle of every UI screen.
+ *
+ * Screens are registered with a factory and only constructed the first time they are
+ * requested through {@link Slot#get()}. Once built they stay alive across game restarts,
+ * so starting a new run reuses them instead of allocating fresh GL resources. A screen
+ * that has not been requested for longer than its idle timeout is disposed and will be
+ * rebuilt on demand.
+ *
+ * Use {@link Slot#get()} when a screen is shown, updated or rendered (this keeps it warm)
+ * and {@link Slot#peek()} for checks that should neither build it nor count as use.
+ */
+public class ScreenManager implements Disposable {
+    /** Idle timeout for screens that must never be released */
+    public static final float KEEP_FOREVER = 0f;
+
+    /**
+     * Lazily constructed screen with its usage tracking
+     */
+    public static class Slot<T extends Disposable> {
+        private final String name;
+        private final Supplier<T> factory;
+        private final float idleTimeout;
+        private T screen;
+        private float idleTime;
+
+        private Slot(String name, Supplier<T> factory, float idleTimeout) {
+            this.name = name;
+            this.factory = factory;
+            this.idleTimeout = idleTimeout;
+        }
+
+        /**
+         * Get the screen, building it if needed, and mark it as used this frame
+         */
+        public T get() {
+            if (screen == null) {
+                long start = System.nanoTime();
+                screen = factory.get();
+                Gdx.app.log("ScreenManager", "Created " + name + " in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+            }
+            idleTime = 0f;
+            return screen;
+        }
+
+        /**
+         * Get the screen only if it already exists. Does not count as use.
+         */
+        public T peek() {
+            return screen;
+        }
+
+        public boolean isCreated() {
+            return screen != null;
+        }
+
+        /**
+         * Dispose the screen now; the next get() builds a new one
+         */
+        public void release() {
+            if (screen != null) {
+                screen.dispose();
+                screen = null;
+                Gdx.app.log("ScreenManager", "Released " + name);
+            }
+        }
+
+        private void tick(float delta) {
+            if (screen == null || idleTimeout <= KEEP_FOREVER) return;
+            idleTime += delta;
+            if (idleTime >= idleTimeout) {
+                release();
+            }
+        }
+    }
+
+    private final Array<Slot<?>> slots = new Array<>();
+
+    /**
+     * Register a lazily built screen. An idle timeout of KEEP_FOREVER pins it once built.
+     */
+    public <T extends Disposable> Slot<T> register(String name, Supplier<T> factory, float idleTimeout) {
+        Slot<T> slot = new Slot<>(name, factory, idleTimeout);
+        slots.add(slot);
+        return slot;
+    }
+
+    /**
+     * Advance idle timers and release screens that have not been used recently
+     */
+    public void update(float delta) {
+        for (int i = 0; i < slots.size; i++) {
+            slots.get(i).tick(delta);
+        }
+    }
+
+    public int getCreatedCount() {
+        int count = 0;
+        for (int i = 0; i < slots.size; i++) {
+            if (slots.get(i).isCreated()) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Dispose every screen that is currently built
+     */
+    @Override
+    public void dispose() {
+        for (int i = 0; i < slots.size; i++) {
+            slots.get(i).release();
+        }
+    }
+}
@@ -8,22 +8,23 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
 import com.bonechild.playablecharacters.PlayerInput;
 import com.bonechild.rendering.Assets;
 
 /**
  * Settings screen for BoneChild with submenu system
  */
-public class SettingsScreen {
+public class SettingsScreen implements Disposable {
+    private static final float TITLE_SCALE = 2.0f;
+
+    private final UiRenderContext ui;
     private final SpriteBatch batch;
     private final ShapeRenderer shapeRenderer;
     private final BitmapFont font;
-    private final BitmapFont titleFont;
+    private BitmapFont titleFont;
     private final GlyphLayout glyphLayout;
     
-    // Screen projection matrix for UI
-    private final com.badlogic.gdx.graphics.OrthographicCamera uiCamera;
-    
     // Menu states
     private enum MenuState {
         MAIN, VOLUME, KEYBINDS, DISPLAY
@@ -71,28 +72,18 @@ public class SettingsScreen {
         void onBack();
     }
     
-    public SettingsScreen(Assets assets, SettingsCallback callback, PlayerInput playerInput) {
-        this.batch = new SpriteBatch();
-        this.shapeRenderer = new ShapeRenderer();
-        this.font = assets.getFont();
+    public SettingsScreen(UiRenderContext ui, Assets assets, SettingsCallback callback, PlayerInput playerInput) {
+        this.ui = ui;
+        this.batch = ui.getBatch();
+        this.shapeRenderer = ui.getShapeRenderer();
+        this.font = ui.getFont();
         this.glyphLayout = new GlyphLayout();
         this.callback = callback;
         this.assets = assets;
         this.isVisible = false;
         
-        // Create UI camera for proper screen-space rendering
-        this.uiCamera = new com.badlogic.gdx.graphics.OrthographicCamera();
-        this.uiCamera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        
-        // Create title font
-        this.titleFont = new BitmapFont();
-        this.titleFont.getData().setScale(2.0f);
-        this.titleFont.setColor(Color.WHITE);
-        this.titleFont.setUseIntegerPositions(false);
-        this.titleFont.getRegion().getTexture().setFilter(
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear,
-            com.badlogic.gdx.graphics.Texture.TextureFilter.Linear
-        );
+        // Shared title font, scaled per render
+        this.titleFont = ui.getTitleFont(TITLE_SCALE);
         
         // Audio setup
         this.musicVolume = assets.getBackgroundMusic() != null ? assets.getBackgroundMusic().getVolume() : 0.5f;
@@ -345,10 +336,8 @@ public class SettingsScreen {
         // Update camera and set projection matrices
         float screenWidth = Gdx.graphics.getWidth();
         float screenHeight = Gdx.graphics.getHeight();
-        uiCamera.setToOrtho(false, screenWidth, screenHeight);
-        uiCamera.update();
-        batch.setProjectionMatrix(uiCamera.combined);
-        shapeRenderer.setProjectionMatrix(uiCamera.combined);
+        ui.useScreenProjection();
+        titleFont = ui.getTitleFont(TITLE_SCALE);
         
         // Draw overlay
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
@@ -527,15 +516,12 @@ public class SettingsScreen {
     }
     
     public void resize(int width, int height) {
-        uiCamera.setToOrtho(false, width, height);
-        uiCamera.update();
         setupUI();
     }
     
+    @Override
     public void dispose() {
-        if (batch != null) batch.dispose();
-        if (shapeRenderer != null) shapeRenderer.dispose();
-        if (titleFont != null) titleFont.dispose();
+        // Batch, shapes and fonts are shared and disposed by UiRenderContext
     }
     
     public boolean isVisible() {
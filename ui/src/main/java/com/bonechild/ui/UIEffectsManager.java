@@ -52,9 +52,9 @@ public class UIEffectsManager {
     // UI particles
     private Array<UIParticle> particles = new Array<>();
     
-    public UIEffectsManager(OrthographicCamera camera) {
+    public UIEffectsManager(UiRenderContext ui, OrthographicCamera camera) {
         this.camera = camera;
-        this.shapeRenderer = new ShapeRenderer();
+        this.shapeRenderer = ui.getShapeRenderer();
     }
     
     // Screen shake effect
@@ -382,7 +382,7 @@ public class UIEffectsManager {
     }
     
     public void dispose() {
-        shapeRenderer.dispose();
+        // Shape renderer is shared and disposed by UiRenderContext
     }
     
     // Inner classes for effects
@@ -0,0 +1,169 @@
+package com.bonechild.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.bonechild.assets.AssetRegistry;
+import com.bonechild.assets.GpuMemory;
+import com.bonechild.rendering.Assets;
+
+/**
+ * Shared rendering resources for every UI screen and overlay.
+ *
+ * Owned by the engine: created once, resized with the window and disposed on shutdown.
+ * Screens borrow the batch, shape renderer, fonts and cameras from here and must never
+ * dispose them. Because every overlay draws through the same batch, they can be stacked
+ * in a single pass without extra mesh or vertex buffer allocations.
+ *
+ * Fonts are requested by pixel size and come from atlases baked at build time
+ * (ui_N / title_N in the asset registry). When a size was not baked, a scaled
+ * default BitmapFont is returned instead.
+ */
+public class UiRenderContext {
+    // Virtual resolution for UI (same as game world for consistency)
+    public static final float VIRTUAL_WIDTH = 1280f;
+    public static final float VIRTUAL_HEIGHT = 720f;
+
+    // Pixel size of libGDX's built-in font; legacy scale factors are relative to it
+    public static final int DEFAULT_FONT_SIZE = 15;
+
+    private final SpriteBatch batch;
+    private final ShapeRenderer shapeRenderer;
+    private final AssetRegistry registry;
+    private final BitmapFont font;
+    private final BitmapFont titleFont;
+    private final BitmapFont scaledFont;
+
+    // Fixed virtual resolution camera and a camera matching the backbuffer in pixels
+    private final OrthographicCamera virtualCamera;
+    private final OrthographicCamera screenCamera;
+
+    public UiRenderContext(Assets assets) {
+        this.batch = new SpriteBatch();
+        this.shapeRenderer = new ShapeRenderer();
+        GpuMemory.trackSpriteBatch(batch, "ui", "UI batch");
+        GpuMemory.trackShapeRenderer(shapeRenderer, "ui", "UI shapes");
+        this.registry = assets.getRegistry();
+        String defaultFontId = "ui_" + DEFAULT_FONT_SIZE;
+        this.font = registry.hasFont(defaultFontId) ? registry.getFont(defaultFontId) : assets.getFont();
+
+        // Fallbacks for sizes that were not baked; scaled on every request
+        this.titleFont = createFallbackFont("fallback title font");
+        this.scaledFont = createFallbackFont("fallback scaled font");
+
+        this.virtualCamera = new OrthographicCamera();
+        this.virtualCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
+        this.screenCamera = new OrthographicCamera();
+        this.screenCamera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+        Gdx.app.log("UiRenderContext", "Shared UI batch, shape renderer and fonts created");
+    }
+
+    private static BitmapFont createFallbackFont(String name) {
+        BitmapFont fallback = new BitmapFont();
+        GpuMemory.trackFont(fallback, "ui", name);
+        fallback.setColor(Color.WHITE);
+        fallback.setUseIntegerPositions(false);
+        fallback.getRegion().getTexture().setFilter(
+            Texture.TextureFilter.Linear,
+            Texture.TextureFilter.Linear
+        );
+        return fallback;
+    }
+
+    /**
+     * Point the shared batch and shape renderer at the fixed 1280x720 virtual camera
+     */
+    public void useVirtualProjection() {
+        virtualCamera.update();
+        batch.setProjectionMatrix(virtualCamera.combined);
+        shapeRenderer.setProjectionMatrix(virtualCamera.combined);
+    }
+
+    /**
+     * Point the shared batch and shape renderer at a camera matching the screen in pixels
+     */
+    public void useScreenProjection() {
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+        if (screenCamera.viewportWidth != width || screenCamera.viewportHeight != height) {
+            screenCamera.setToOrtho(false, width, height);
+        }
+        screenCamera.update();
+        batch.setProjectionMatrix(screenCamera.combined);
+        shapeRenderer.setProjectionMatrix(screenCamera.combined);
+    }
+
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    public ShapeRenderer getShapeRenderer() {
+        return shapeRenderer;
+    }
+
+    public BitmapFont getFont() {
+        return font;
+    }
+
+    /**
+     * Get the UI font rendered at the given pixel height
+     */
+    public BitmapFont getFont(int pixelSize) {
+        String id = "ui_" + pixelSize;
+        if (registry.hasFont(id)) {
+            return registry.getFont(id);
+        }
+        scaledFont.getData().setScale(pixelSize / (float) DEFAULT_FONT_SIZE);
+        return scaledFont;
+    }
+
+    /**
+     * Get the bold title font at the size the default font would have at this scale
+     */
+    public BitmapFont getTitleFont(float scale) {
+        int pixelSize = Math.round(DEFAULT_FONT_SIZE * scale);
+        String id = "title_" + pixelSize;
+        if (registry.hasFont(id)) {
+            return registry.getFont(id);
+        }
+        titleFont.getData().setScale(scale);
+        return titleFont;
+    }
+
+    public OrthographicCamera getVirtualCamera() {
+        return virtualCamera;
+    }
+
+    public OrthographicCamera getScreenCamera() {
+        return screenCamera;
+    }
+
+    /**
+     * Handle window resize
+     */
+    public void resize(int width, int height) {
+        virtualCamera.setToOrtho(false, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
+        virtualCamera.update();
+        screenCamera.setToOrtho(false, width, height);
+        screenCamera.update();
+    }
+
+    /**
+     * Dispose shared resources. Baked fonts and the default font belong to Assets.
+     */
+    public void dispose() {
+        GpuMemory.untrack(batch);
+        GpuMemory.untrack(shapeRenderer);
+        GpuMemory.untrackFont(titleFont);
+        GpuMemory.untrackFont(scaledFont);
+        batch.dispose();
+        shapeRenderer.dispose();
+        titleFont.dispose();
+        scaledFont.dispose();
+    }
+}